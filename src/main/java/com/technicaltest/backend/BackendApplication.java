@@ -2,9 +2,11 @@ package com.technicaltest.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 import org.springframework.cache.annotation.EnableCaching;
 
-@SpringBootApplication
+// the reactive profile builds its own R2DBC pool, see ReactivePriceConfiguration
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @EnableCaching
 public class BackendApplication {
 
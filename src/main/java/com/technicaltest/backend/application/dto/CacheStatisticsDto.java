@@ -0,0 +1,65 @@
+package com.technicaltest.backend.application.dto;
+
+import java.util.Objects;
+
+/**
+ * DTO for cache statistics response.
+ * Immutable data transfer object.
+ */
+public class CacheStatisticsDto {
+
+    private final String name;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+
+    public CacheStatisticsDto(String name, long size, long hitCount, long missCount,
+                              double hitRate, long evictionCount) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getSize() { return size; }
+    public long getHitCount() { return hitCount; }
+    public long getMissCount() { return missCount; }
+    public double getHitRate() { return hitRate; }
+    public long getEvictionCount() { return evictionCount; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        CacheStatisticsDto that = (CacheStatisticsDto) o;
+        return size == that.size &&
+                hitCount == that.hitCount &&
+                missCount == that.missCount &&
+                Double.compare(hitRate, that.hitRate) == 0 &&
+                evictionCount == that.evictionCount &&
+                Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, size, hitCount, missCount, hitRate, evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatisticsDto{" +
+                "name='" + name + '\'' +
+                ", size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + hitRate +
+                ", evictionCount=" + evictionCount +
+                '}';
+    }
+}
\ No newline at end of file
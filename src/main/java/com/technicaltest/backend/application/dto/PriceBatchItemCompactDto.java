@@ -0,0 +1,66 @@
+package com.technicaltest.backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Objects;
+
+/**
+ * Compact DTO for one result of a batch price query response in binary formats, written as an array
+ * in field order like {@link PriceCompactDto}.
+ * Echoes the lookup it answers, its date as seconds since the epoch read as UTC;
+ * {@code price} is null when {@code found} is false.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"applicationEpochSecond", "productId", "brandId", "found", "price"})
+public class PriceBatchItemCompactDto {
+
+    private final long applicationEpochSecond;
+    private final long productId;
+    private final long brandId;
+    private final boolean found;
+    private final PriceCompactDto price;
+
+    public PriceBatchItemCompactDto(long applicationEpochSecond, long productId, long brandId, PriceCompactDto price) {
+        this.applicationEpochSecond = applicationEpochSecond;
+        this.productId = productId;
+        this.brandId = brandId;
+        this.found = Objects.nonNull(price);
+        this.price = price;
+    }
+
+    // Getters
+    public long getApplicationEpochSecond() { return applicationEpochSecond; }
+    public long getProductId() { return productId; }
+    public long getBrandId() { return brandId; }
+    public boolean isFound() { return found; }
+    public PriceCompactDto getPrice() { return price; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceBatchItemCompactDto that = (PriceBatchItemCompactDto) o;
+        return applicationEpochSecond == that.applicationEpochSecond &&
+                productId == that.productId &&
+                brandId == that.brandId &&
+                found == that.found &&
+                Objects.equals(price, that.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationEpochSecond, productId, brandId, found, price);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceBatchItemCompactDto{" +
+                "applicationEpochSecond=" + applicationEpochSecond +
+                ", productId=" + productId +
+                ", brandId=" + brandId +
+                ", found=" + found +
+                ", price=" + price +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.technicaltest.backend.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * DTO for one result of a batch price query response.
+ * Echoes the lookup it answers; {@code price} is null when {@code found} is false.
+ */
+public class PriceBatchItemDto {
+
+    private final LocalDateTime applicationDate;
+    private final Long productId;
+    private final Long brandId;
+    private final boolean found;
+    private final PriceResponseDto price;
+
+    public PriceBatchItemDto(LocalDateTime applicationDate, Long productId, Long brandId, PriceResponseDto price) {
+        this.applicationDate = Objects.requireNonNull(applicationDate, "applicationDate cannot be null");
+        this.productId = Objects.requireNonNull(productId, "productId cannot be null");
+        this.brandId = Objects.requireNonNull(brandId, "brandId cannot be null");
+        this.found = Objects.nonNull(price);
+        this.price = price;
+    }
+
+    // Getters
+    public LocalDateTime getApplicationDate() { return applicationDate; }
+    public Long getProductId() { return productId; }
+    public Long getBrandId() { return brandId; }
+    public boolean isFound() { return found; }
+    public PriceResponseDto getPrice() { return price; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceBatchItemDto that = (PriceBatchItemDto) o;
+        return found == that.found &&
+                Objects.equals(applicationDate, that.applicationDate) &&
+                Objects.equals(productId, that.productId) &&
+                Objects.equals(brandId, that.brandId) &&
+                Objects.equals(price, that.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationDate, productId, brandId, found, price);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceBatchItemDto{" +
+                "applicationDate=" + applicationDate +
+                ", productId=" + productId +
+                ", brandId=" + brandId +
+                ", found=" + found +
+                ", price=" + price +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.technicaltest.backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DTO for batch price query request.
+ * Immutable data transfer object.
+ */
+public class PriceBatchRequestDto {
+
+    public static final int MAX_QUERIES = 500;
+
+    @NotEmpty
+    @Size(max = MAX_QUERIES)
+    private final List<@Valid @NotNull PriceQueryDto> queries;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public PriceBatchRequestDto(List<PriceQueryDto> queries) {
+        this.queries = Objects.isNull(queries) ? null : List.copyOf(queries);
+    }
+
+    // Getters
+    public List<PriceQueryDto> getQueries() { return queries; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceBatchRequestDto that = (PriceBatchRequestDto) o;
+        return Objects.equals(queries, that.queries);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(queries);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceBatchRequestDto{" +
+                "queries=" + queries +
+                '}';
+    }
+}
\ No newline at end of file
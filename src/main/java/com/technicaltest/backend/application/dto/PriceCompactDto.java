@@ -0,0 +1,86 @@
+package com.technicaltest.backend.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.Objects;
+
+/**
+ * Compact DTO for price query responses in binary formats.
+ * Written as an array in field order instead of an object, so no field names go on the wire; dates are
+ * seconds since the epoch of the local date-time read as UTC and the price is an unscaled integer,
+ * {@code priceUnits / 10^priceScale}, so neither needs text formatting nor parsing.
+ * Immutable data transfer object.
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"productId", "brandId", "priceList", "startEpochSecond", "endEpochSecond",
+        "priceUnits", "priceScale", "currency"})
+public class PriceCompactDto {
+
+    private final long productId;
+    private final long brandId;
+    private final long priceList;
+    private final long startEpochSecond;
+    private final long endEpochSecond;
+    private final long priceUnits;
+    private final int priceScale;
+    private final String currency;
+
+    public PriceCompactDto(long productId, long brandId, long priceList,
+                           long startEpochSecond, long endEpochSecond,
+                           long priceUnits, int priceScale, String currency) {
+        this.productId = productId;
+        this.brandId = brandId;
+        this.priceList = priceList;
+        this.startEpochSecond = startEpochSecond;
+        this.endEpochSecond = endEpochSecond;
+        this.priceUnits = priceUnits;
+        this.priceScale = priceScale;
+        this.currency = Objects.requireNonNull(currency, "currency cannot be null");
+    }
+
+    // Getters
+    public long getProductId() { return productId; }
+    public long getBrandId() { return brandId; }
+    public long getPriceList() { return priceList; }
+    public long getStartEpochSecond() { return startEpochSecond; }
+    public long getEndEpochSecond() { return endEpochSecond; }
+    public long getPriceUnits() { return priceUnits; }
+    public int getPriceScale() { return priceScale; }
+    public String getCurrency() { return currency; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceCompactDto that = (PriceCompactDto) o;
+        return productId == that.productId &&
+                brandId == that.brandId &&
+                priceList == that.priceList &&
+                startEpochSecond == that.startEpochSecond &&
+                endEpochSecond == that.endEpochSecond &&
+                priceUnits == that.priceUnits &&
+                priceScale == that.priceScale &&
+                Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, brandId, priceList, startEpochSecond, endEpochSecond, priceUnits, priceScale,
+                currency);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceCompactDto{" +
+                "productId=" + productId +
+                ", brandId=" + brandId +
+                ", priceList=" + priceList +
+                ", startEpochSecond=" + startEpochSecond +
+                ", endEpochSecond=" + endEpochSecond +
+                ", priceUnits=" + priceUnits +
+                ", priceScale=" + priceScale +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
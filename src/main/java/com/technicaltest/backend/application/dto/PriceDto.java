@@ -0,0 +1,109 @@
+package com.technicaltest.backend.application.dto;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * DTO for a full price, as written through the price write API and read back from it.
+ * The id is assigned by the service and ignored on input.
+ * Immutable data transfer object.
+ */
+public class PriceDto {
+
+    private final Long id;
+
+    @NotNull
+    private final Long brandId;
+
+    @NotNull
+    private final LocalDateTime startDate;
+
+    @NotNull
+    private final LocalDateTime endDate;
+
+    @NotNull
+    private final Long priceList;
+
+    @NotNull
+    private final Long productId;
+
+    @NotNull
+    @PositiveOrZero
+    private final Integer priority;
+
+    @NotNull
+    @PositiveOrZero
+    @Digits(integer = 8, fraction = 2)
+    private final BigDecimal price;
+
+    @NotBlank
+    @Size(max = 3)
+    private final String currency;
+
+    public PriceDto(Long id, Long brandId, LocalDateTime startDate, LocalDateTime endDate, Long priceList,
+                    Long productId, Integer priority, BigDecimal price, String currency) {
+        this.id = id;
+        this.brandId = brandId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.priceList = priceList;
+        this.productId = productId;
+        this.priority = priority;
+        this.price = price;
+        this.currency = currency;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getBrandId() { return brandId; }
+    public LocalDateTime getStartDate() { return startDate; }
+    public LocalDateTime getEndDate() { return endDate; }
+    public Long getPriceList() { return priceList; }
+    public Long getProductId() { return productId; }
+    public Integer getPriority() { return priority; }
+    public BigDecimal getPrice() { return price; }
+    public String getCurrency() { return currency; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceDto that = (PriceDto) o;
+        return Objects.equals(id, that.id) &&
+                Objects.equals(brandId, that.brandId) &&
+                Objects.equals(startDate, that.startDate) &&
+                Objects.equals(endDate, that.endDate) &&
+                Objects.equals(priceList, that.priceList) &&
+                Objects.equals(productId, that.productId) &&
+                Objects.equals(priority, that.priority) &&
+                Objects.equals(price, that.price) &&
+                Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, brandId, startDate, endDate, priceList, productId, priority, price, currency);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceDto{" +
+                "id=" + id +
+                ", brandId=" + brandId +
+                ", productId=" + productId +
+                ", priceList=" + priceList +
+                ", priority=" + priority +
+                ", price=" + price +
+                ", currency='" + currency + '\'' +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.technicaltest.backend.application.dto;
+
+import java.util.Objects;
+
+/**
+ * DTO for the outcome of a bulk price import.
+ * Immutable data transfer object.
+ */
+public class PriceImportResultDto {
+
+    private final long rows;
+    private final long millis;
+    private final long rowsPerSecond;
+
+    public PriceImportResultDto(long rows, long millis, long rowsPerSecond) {
+        this.rows = rows;
+        this.millis = millis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    // Getters
+    public long getRows() { return rows; }
+    public long getMillis() { return millis; }
+    public long getRowsPerSecond() { return rowsPerSecond; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceImportResultDto that = (PriceImportResultDto) o;
+        return rows == that.rows &&
+                millis == that.millis &&
+                rowsPerSecond == that.rowsPerSecond;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rows, millis, rowsPerSecond);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceImportResultDto{" +
+                "rows=" + rows +
+                ", millis=" + millis +
+                ", rowsPerSecond=" + rowsPerSecond +
+                '}';
+    }
+}
\ No newline at end of file
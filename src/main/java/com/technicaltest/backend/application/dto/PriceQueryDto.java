@@ -0,0 +1,57 @@
+package com.technicaltest.backend.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * DTO for a single lookup of a batch price query request.
+ * Immutable data transfer object.
+ */
+public class PriceQueryDto {
+
+    @NotNull
+    private final LocalDateTime applicationDate;
+
+    @NotNull
+    private final Long productId;
+
+    @NotNull
+    private final Long brandId;
+
+    public PriceQueryDto(LocalDateTime applicationDate, Long productId, Long brandId) {
+        this.applicationDate = applicationDate;
+        this.productId = productId;
+        this.brandId = brandId;
+    }
+
+    // Getters
+    public LocalDateTime getApplicationDate() { return applicationDate; }
+    public Long getProductId() { return productId; }
+    public Long getBrandId() { return brandId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceQueryDto that = (PriceQueryDto) o;
+        return Objects.equals(applicationDate, that.applicationDate) &&
+                Objects.equals(productId, that.productId) &&
+                Objects.equals(brandId, that.brandId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceQueryDto{" +
+                "applicationDate=" + applicationDate +
+                ", productId=" + productId +
+                ", brandId=" + brandId +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.technicaltest.backend.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * DTO for a segment of a price history: the price that applies from its start to its end date.
+ * Immutable data transfer object.
+ */
+public class PriceSegmentDto {
+
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Long priceList;
+    private final BigDecimal price;
+    private final String currency;
+
+    public PriceSegmentDto(LocalDateTime startDate, LocalDateTime endDate, Long priceList,
+                           BigDecimal price, String currency) {
+        this.startDate = Objects.requireNonNull(startDate, "startDate cannot be null");
+        this.endDate = Objects.requireNonNull(endDate, "endDate cannot be null");
+        this.priceList = Objects.requireNonNull(priceList, "priceList cannot be null");
+        this.price = Objects.requireNonNull(price, "price cannot be null");
+        this.currency = Objects.requireNonNull(currency, "currency cannot be null");
+    }
+
+    // Getters
+    public LocalDateTime getStartDate() { return startDate; }
+    public LocalDateTime getEndDate() { return endDate; }
+    public Long getPriceList() { return priceList; }
+    public BigDecimal getPrice() { return price; }
+    public String getCurrency() { return currency; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceSegmentDto that = (PriceSegmentDto) o;
+        return Objects.equals(startDate, that.startDate) &&
+                Objects.equals(endDate, that.endDate) &&
+                Objects.equals(priceList, that.priceList) &&
+                Objects.equals(price, that.price) &&
+                Objects.equals(currency, that.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, priceList, price, currency);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSegmentDto{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", priceList=" + priceList +
+                ", price=" + price +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.ExportPricesPort;
+import com.technicaltest.backend.domain.port.out.PriceExportRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Use case for exporting the applicable price of every product of a brand.
+ * The candidates arrive grouped by product, so only the best price of the current product is held:
+ * it is emitted as soon as the next product starts, whatever the size of the catalog.
+ */
+public class ExportPricesUseCase implements ExportPricesPort {
+
+    private final PriceExportRepositoryPort priceExportRepository;
+
+    public ExportPricesUseCase(PriceExportRepositoryPort priceExportRepository) {
+        this.priceExportRepository = Objects.requireNonNull(priceExportRepository, "priceExportRepository cannot be null");
+    }
+
+    @Override
+    public long execute(Long brandId, LocalDateTime applicationDate, Consumer<Price> prices) {
+        Objects.requireNonNull(brandId, "brandId cannot be null");
+        Objects.requireNonNull(applicationDate, "applicationDate cannot be null");
+        Objects.requireNonNull(prices, "prices cannot be null");
+
+        WinnerPerProduct winners = new WinnerPerProduct(prices);
+        priceExportRepository.forEachApplicablePrice(brandId, applicationDate, winners);
+        return winners.finish();
+    }
+
+    private static final class WinnerPerProduct implements Consumer<Price> {
+
+        private final Consumer<Price> downstream;
+        private Price best;
+        private long exported;
+
+        private WinnerPerProduct(Consumer<Price> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void accept(Price price) {
+            if (Objects.isNull(best) || !best.getProductId().equals(price.getProductId())) {
+                emitBest();
+                best = price;
+            } else if (Price.PRIORITY_ORDER.compare(price, best) > 0) {
+                best = price;
+            }
+        }
+
+        private long finish() {
+            emitBest();
+            return exported;
+        }
+
+        private void emitBest() {
+            if (Objects.nonNull(best)) {
+                downstream.accept(best);
+                exported++;
+                best = null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -1,17 +1,23 @@
 package com.technicaltest.backend.application.service;
 
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
 import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
 import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Use case for getting the applicable price for a product at a given date.
  * Applies business rule: when multiple prices match, select the one with highest priority.
+ * Single lookups push that selection down to the repository so only the winner is read;
+ * batch lookups select the winner of each query among the candidates fetched at once.
  */
 public class GetApplicablePriceUseCase implements GetApplicablePricePort {
 
@@ -25,9 +31,25 @@ public class GetApplicablePriceUseCase implements GetApplicablePricePort {
     public Optional<Price> execute(Long productId, Long brandId, LocalDateTime applicationDate) {
         validateInput(productId, brandId, applicationDate);
 
-        return priceRepository.findApplicablePrices(productId, brandId, applicationDate)
+        return priceRepository.findHighestPriorityPrice(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public List<Optional<Price>> executeAll(List<PriceQuery> queries) {
+        Objects.requireNonNull(queries, "queries cannot be null");
+        if (queries.isEmpty()) {
+            return List.of();
+        }
+
+        Map<PriceKey, List<Price>> candidates = priceRepository.findApplicablePrices(queries)
                 .stream()
-                .max(Comparator.comparing(Price::getPriority));
+                .collect(Collectors.groupingBy(PriceKey::of));
+        return queries.stream()
+                .map(query -> candidates.getOrDefault(query.getKey(), List.of())
+                        .stream()
+                        .filter(price -> price.isApplicableAt(query.getApplicationDate()))
+                        .max(Price.PRIORITY_ORDER))
+                .collect(Collectors.toList());
     }
 
     private void validateInput(Long productId, Long brandId, LocalDateTime applicationDate) {
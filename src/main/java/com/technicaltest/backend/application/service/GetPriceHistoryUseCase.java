@@ -0,0 +1,56 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.PriceSegment;
+import com.technicaltest.backend.domain.model.PriceSweep;
+import com.technicaltest.backend.domain.port.in.GetPriceHistoryPort;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Use case for reading the effective price timeline of a product over an interval.
+ * The overlapping prices are read in start date order and swept into segments on the fly,
+ * with the same priority rule as the single lookup, so a whole history costs one ordered scan
+ * instead of one lookup per instant.
+ */
+public class GetPriceHistoryUseCase implements GetPriceHistoryPort {
+
+    private final PriceRepositoryPort priceRepository;
+
+    public GetPriceHistoryUseCase(PriceRepositoryPort priceRepository) {
+        this.priceRepository = Objects.requireNonNull(priceRepository, "priceRepository cannot be null");
+    }
+
+    @Override
+    public void execute(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                        Consumer<PriceSegment> segments) {
+        Objects.requireNonNull(productId, "productId cannot be null");
+        Objects.requireNonNull(brandId, "brandId cannot be null");
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(to, "to cannot be null");
+        Objects.requireNonNull(segments, "segments cannot be null");
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+
+        PriceSweep sweep = new PriceSweep(segment -> {
+            if (!segment.getEndDate().isBefore(from) && !segment.getStartDate().isAfter(to)) {
+                segments.accept(clip(segment, from, to));
+            }
+        });
+        priceRepository.forEachPriceBetween(productId, brandId, from, to, sweep);
+        sweep.finish();
+    }
+
+    private static PriceSegment clip(PriceSegment segment, LocalDateTime from, LocalDateTime to) {
+        if (!segment.getStartDate().isBefore(from) && !segment.getEndDate().isAfter(to)) {
+            return segment;
+        }
+        return new PriceSegment(
+                segment.getStartDate().isBefore(from) ? from : segment.getStartDate(),
+                segment.getEndDate().isAfter(to) ? to : segment.getEndDate(),
+                segment.getPrice());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.ReactiveGetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.ReactivePriceRepositoryPort;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Non-blocking use case for getting the applicable price for a product at a given date.
+ * Same business rule as {@link GetApplicablePriceUseCase}, with the highest priority price
+ * selected by the repository.
+ */
+public class ReactiveGetApplicablePriceUseCase implements ReactiveGetApplicablePricePort {
+
+    private final ReactivePriceRepositoryPort priceRepository;
+
+    public ReactiveGetApplicablePriceUseCase(ReactivePriceRepositoryPort priceRepository) {
+        this.priceRepository = Objects.requireNonNull(priceRepository, "priceRepository cannot be null");
+    }
+
+    @Override
+    public Mono<Price> execute(Long productId, Long brandId, LocalDateTime applicationDate) {
+        Objects.requireNonNull(productId, "productId cannot be null");
+        Objects.requireNonNull(brandId, "brandId cannot be null");
+        Objects.requireNonNull(applicationDate, "applicationDate cannot be null");
+
+        return priceRepository.findHighestPriorityPrice(productId, brandId, applicationDate);
+    }
+}
\ No newline at end of file
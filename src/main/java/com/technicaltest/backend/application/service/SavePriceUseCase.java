@@ -0,0 +1,48 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.SavePricePort;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Use case for creating, updating and bulk importing prices.
+ * Prices are validated by the {@link Price} constructor before they reach this use case;
+ * identifiers are always assigned by the repository.
+ */
+public class SavePriceUseCase implements SavePricePort {
+
+    private final PriceWriteRepositoryPort priceWriteRepository;
+
+    public SavePriceUseCase(PriceWriteRepositoryPort priceWriteRepository) {
+        this.priceWriteRepository = Objects.requireNonNull(priceWriteRepository, "priceWriteRepository cannot be null");
+    }
+
+    @Override
+    public Price create(Price price) {
+        Objects.requireNonNull(price, "price cannot be null");
+        if (Objects.nonNull(price.getId())) {
+            throw new IllegalArgumentException("id is assigned on creation and must not be given");
+        }
+
+        return priceWriteRepository.save(price);
+    }
+
+    @Override
+    public Optional<Price> update(Long id, Price price) {
+        Objects.requireNonNull(id, "id cannot be null");
+        Objects.requireNonNull(price, "price cannot be null");
+
+        return priceWriteRepository.update(id, price);
+    }
+
+    @Override
+    public long importPrices(Stream<Price> prices) {
+        Objects.requireNonNull(prices, "prices cannot be null");
+
+        return priceWriteRepository.saveAll(prices);
+    }
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.technicaltest.backend.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -10,6 +11,13 @@ import java.util.Objects;
  */
 public final class Price {
 
+    /**
+     * Orders prices by priority. Ties are broken in favour of the price that started last,
+     * so that every resolution strategy picks the same winner for the same data.
+     */
+    public static final Comparator<Price> PRIORITY_ORDER =
+            Comparator.comparing(Price::getPriority).thenComparing(Price::getStartDate);
+
     private final Long id;
     private final Long brandId;
     private final LocalDateTime startDate;
@@ -0,0 +1,47 @@
+package com.technicaltest.backend.domain.model;
+
+import java.util.Objects;
+
+/**
+ * Value object identifying the prices of a product within a brand.
+ */
+public final class PriceKey {
+
+    private final Long brandId;
+    private final Long productId;
+
+    public PriceKey(Long brandId, Long productId) {
+        this.brandId = Objects.requireNonNull(brandId, "brandId cannot be null");
+        this.productId = Objects.requireNonNull(productId, "productId cannot be null");
+    }
+
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.getBrandId(), price.getProductId());
+    }
+
+    // Getters
+    public Long getBrandId() { return brandId; }
+    public Long getProductId() { return productId; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceKey that = (PriceKey) o;
+        return Objects.equals(brandId, that.brandId) &&
+                Objects.equals(productId, that.productId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * brandId.hashCode() + productId.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PriceKey{" +
+                "brandId=" + brandId +
+                ", productId=" + productId +
+                '}';
+    }
+}
\ No newline at end of file
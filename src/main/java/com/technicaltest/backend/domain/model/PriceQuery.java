@@ -0,0 +1,53 @@
+package com.technicaltest.backend.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value object describing a single price lookup: a product of a brand at a given date.
+ */
+public final class PriceQuery {
+
+    private final Long productId;
+    private final Long brandId;
+    private final LocalDateTime applicationDate;
+
+    public PriceQuery(Long productId, Long brandId, LocalDateTime applicationDate) {
+        this.productId = Objects.requireNonNull(productId, "productId cannot be null");
+        this.brandId = Objects.requireNonNull(brandId, "brandId cannot be null");
+        this.applicationDate = Objects.requireNonNull(applicationDate, "applicationDate cannot be null");
+    }
+
+    public PriceKey getKey() {
+        return new PriceKey(brandId, productId);
+    }
+
+    // Getters
+    public Long getProductId() { return productId; }
+    public Long getBrandId() { return brandId; }
+    public LocalDateTime getApplicationDate() { return applicationDate; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceQuery that = (PriceQuery) o;
+        return Objects.equals(productId, that.productId) &&
+                Objects.equals(brandId, that.brandId) &&
+                Objects.equals(applicationDate, that.applicationDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(productId, brandId, applicationDate);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceQuery{" +
+                "productId=" + productId +
+                ", brandId=" + brandId +
+                ", applicationDate=" + applicationDate +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.technicaltest.backend.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Value object representing a time range during which a single price is the winning one.
+ * Both bounds are inclusive, like the start and end dates of {@link Price}.
+ */
+public final class PriceSegment {
+
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final Price price;
+
+    public PriceSegment(LocalDateTime startDate, LocalDateTime endDate, Price price) {
+        this.startDate = Objects.requireNonNull(startDate, "startDate cannot be null");
+        this.endDate = Objects.requireNonNull(endDate, "endDate cannot be null");
+        this.price = Objects.requireNonNull(price, "price cannot be null");
+
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must be before endDate");
+        }
+    }
+
+    public boolean contains(LocalDateTime applicationDate) {
+        return !applicationDate.isBefore(startDate) && !applicationDate.isAfter(endDate);
+    }
+
+    // Getters
+    public LocalDateTime getStartDate() { return startDate; }
+    public LocalDateTime getEndDate() { return endDate; }
+    public Price getPrice() { return price; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceSegment that = (PriceSegment) o;
+        return Objects.equals(startDate, that.startDate) &&
+                Objects.equals(endDate, that.endDate) &&
+                Objects.equals(price, that.price);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate, price);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceSegment{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", price=" + price +
+                '}';
+    }
+}
\ No newline at end of file
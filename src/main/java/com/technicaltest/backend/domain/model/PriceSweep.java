@@ -0,0 +1,95 @@
+package com.technicaltest.backend.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Single pass sweep that turns the prices of one brand and product, fed in start date order,
+ * into the non-overlapping segments of its effective price timeline.
+ * Segments are handed downstream as soon as they are known, so only the prices active at the
+ * current point in time are held in memory, whatever the length of the history.
+ */
+public final class PriceSweep implements Consumer<Price> {
+
+    private final Consumer<PriceSegment> downstream;
+    private final PriorityQueue<Price> byPriority = new PriorityQueue<>(Price.PRIORITY_ORDER.reversed());
+    private final PriorityQueue<Price> byEndDate = new PriorityQueue<>(Comparator.comparing(Price::getEndDate));
+
+    private LocalDateTime pendingStart;
+    private Price currentWinner;
+    private LocalDateTime currentStart;
+
+    public PriceSweep(Consumer<PriceSegment> downstream) {
+        this.downstream = Objects.requireNonNull(downstream, "downstream cannot be null");
+    }
+
+    /**
+     * Adds the next price. Segments ending before its start date are emitted.
+     *
+     * @param price next price, starting at or after every price already added
+     */
+    @Override
+    public void accept(Price price) {
+        Objects.requireNonNull(price, "price cannot be null");
+        LocalDateTime start = price.getStartDate();
+        if (Objects.nonNull(pendingStart)) {
+            if (start.isBefore(pendingStart)) {
+                throw new IllegalArgumentException("prices must be ordered by start date");
+            }
+            if (start.isAfter(pendingStart)) {
+                resolveAt(pendingStart);
+                pendingStart = null;
+            }
+        }
+        resolveEndsBefore(start);
+        byPriority.add(price);
+        byEndDate.add(price);
+        pendingStart = start;
+    }
+
+    /**
+     * Emits the remaining segments once every price has been added.
+     */
+    public void finish() {
+        if (Objects.nonNull(pendingStart)) {
+            resolveAt(pendingStart);
+            pendingStart = null;
+        }
+        resolveEndsBefore(null);
+        if (Objects.nonNull(currentWinner)) {
+            downstream.accept(new PriceSegment(currentStart, currentWinner.getEndDate(), currentWinner));
+            currentWinner = null;
+        }
+    }
+
+    private void resolveEndsBefore(LocalDateTime limit) {
+        while (!byEndDate.isEmpty() && !LocalDateTime.MAX.equals(byEndDate.peek().getEndDate())) {
+            LocalDateTime boundary = byEndDate.peek().getEndDate().plusNanos(1);
+            if (Objects.nonNull(limit) && !boundary.isBefore(limit)) {
+                return;
+            }
+            resolveAt(boundary);
+        }
+    }
+
+    private void resolveAt(LocalDateTime boundary) {
+        while (!byEndDate.isEmpty() && byEndDate.peek().getEndDate().isBefore(boundary)) {
+            byEndDate.poll();
+        }
+        while (!byPriority.isEmpty() && byPriority.peek().getEndDate().isBefore(boundary)) {
+            byPriority.poll();
+        }
+
+        Price winner = byPriority.peek();
+        if (winner != currentWinner) {
+            if (Objects.nonNull(currentWinner)) {
+                downstream.accept(new PriceSegment(currentStart, boundary.minusNanos(1), currentWinner));
+            }
+            currentWinner = winner;
+            currentStart = boundary;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.technicaltest.backend.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Effective price timeline for a single brand and product.
+ * Overlapping prices are flattened into sorted, non-overlapping segments whose winner is
+ * already resolved by priority, so a lookup is a binary search with no comparison of prices.
+ * The result of each segment is built once with the timeline and shared by every lookup, so a
+ * lookup allocates nothing.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(Collections.emptyList());
+
+    private final LocalDateTime[] starts;
+    private final PriceSegment[] segments;
+    private final Optional<Price>[] winners;
+    private final List<Price>[] winnerLists;
+
+    @SuppressWarnings("unchecked")
+    private PriceTimeline(List<PriceSegment> segments) {
+        this.segments = segments.toArray(new PriceSegment[0]);
+        this.starts = new LocalDateTime[this.segments.length];
+        this.winners = new Optional[this.segments.length];
+        this.winnerLists = new List[this.segments.length];
+        for (int i = 0; i < this.segments.length; i++) {
+            this.starts[i] = this.segments[i].getStartDate();
+            Price price = this.segments[i].getPrice();
+            if (i > 0 && this.segments[i - 1].getPrice() == price) {
+                this.winners[i] = this.winners[i - 1];
+                this.winnerLists[i] = this.winnerLists[i - 1];
+            } else {
+                this.winners[i] = Optional.of(price);
+                this.winnerLists[i] = List.of(price);
+            }
+        }
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the timeline of the given prices, which must all belong to the same brand and product.
+     * Sorts them by start date and runs a {@link PriceSweep} over them.
+     *
+     * @param prices prices of a single brand and product, in any order
+     * @return the flattened timeline
+     */
+    public static PriceTimeline of(Collection<Price> prices) {
+        Objects.requireNonNull(prices, "prices cannot be null");
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Price> byStartDate = new ArrayList<>(prices);
+        byStartDate.sort(Comparator.comparing(Price::getStartDate));
+
+        List<PriceSegment> segments = new ArrayList<>();
+        PriceSweep sweep = new PriceSweep(segments::add);
+        byStartDate.forEach(sweep);
+        sweep.finish();
+
+        return new PriceTimeline(segments);
+    }
+
+    /**
+     * Finds the winning price at the given date.
+     *
+     * @param applicationDate date to check
+     * @return the winning price if any segment covers the date, empty otherwise; shared by every lookup
+     */
+    public Optional<Price> findPriceAt(LocalDateTime applicationDate) {
+        int segment = findSegmentAt(applicationDate);
+        return segment < 0 ? Optional.empty() : winners[segment];
+    }
+
+    /**
+     * Finds the winning price at the given date, as a list.
+     *
+     * @param applicationDate date to check
+     * @return an immutable list of the winning price, empty if no segment covers the date; shared by every lookup
+     */
+    public List<Price> findPricesAt(LocalDateTime applicationDate) {
+        int segment = findSegmentAt(applicationDate);
+        return segment < 0 ? List.of() : winnerLists[segment];
+    }
+
+    /**
+     * Finds the distinct winning prices of the segments overlapping an interval.
+     * A timeline built from these prices resolves every date of the interval like this one.
+     *
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @return winning prices in time order, without duplicates
+     */
+    public List<Price> findPricesBetween(LocalDateTime from, LocalDateTime to) {
+        Set<Price> prices = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Price> result = new ArrayList<>();
+        for (int i = firstSegmentEndingAtOrAfter(from); i < segments.length && !starts[i].isAfter(to); i++) {
+            Price price = segments[i].getPrice();
+            if (prices.add(price)) {
+                result.add(price);
+            }
+        }
+        return result;
+    }
+
+    public List<PriceSegment> getSegments() {
+        return Collections.unmodifiableList(Arrays.asList(segments));
+    }
+
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+
+    public int size() {
+        return segments.length;
+    }
+
+    private int findSegmentAt(LocalDateTime applicationDate) {
+        int low = 0;
+        int high = starts.length - 1;
+        int candidate = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid].isAfter(applicationDate)) {
+                high = mid - 1;
+            } else {
+                candidate = mid;
+                low = mid + 1;
+            }
+        }
+
+        if (candidate < 0 || segments[candidate].getEndDate().isBefore(applicationDate)) {
+            return -1;
+        }
+        return candidate;
+    }
+
+    private int firstSegmentEndingAtOrAfter(LocalDateTime date) {
+        int low = 0;
+        int high = segments.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segments[mid].getEndDate().isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceTimeline{" +
+                "segments=" + Arrays.toString(segments) +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.technicaltest.backend.domain.port.in;
+
+import com.technicaltest.backend.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Input port for the catalog export use case.
+ * Defines the contract for resolving the price of every product of a brand at once.
+ */
+public interface ExportPricesPort {
+
+    /**
+     * Resolves the applicable price of every product of a brand at a given date.
+     * Prices are handed to the consumer as they are resolved, one per product.
+     *
+     * @param brandId brand identifier
+     * @param applicationDate date to check price applicability
+     * @param prices receives the winning price of each product that has one
+     * @return number of products exported
+     */
+    long execute(Long brandId, LocalDateTime applicationDate, Consumer<Price> prices);
+}
\ No newline at end of file
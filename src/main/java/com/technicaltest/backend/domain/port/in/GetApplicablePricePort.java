@@ -1,8 +1,10 @@
 package com.technicaltest.backend.domain.port.in;
 
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,4 +22,12 @@ public interface GetApplicablePricePort {
      * @return the price with highest priority if found, empty otherwise
      */
     Optional<Price> execute(Long productId, Long brandId, LocalDateTime applicationDate);
+
+    /**
+     * Gets the applicable prices for several lookups at once.
+     *
+     * @param queries lookups to resolve
+     * @return one result per query, in the same order, empty where no price applies
+     */
+    List<Optional<Price>> executeAll(List<PriceQuery> queries);
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.technicaltest.backend.domain.port.in;
+
+import com.technicaltest.backend.domain.model.PriceSegment;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Input port for the price history use case.
+ * Defines the contract for reading the effective price timeline of a product over an interval.
+ */
+public interface GetPriceHistoryPort {
+
+    /**
+     * Resolves the effective price timeline of a product and brand over an interval.
+     * Segments are handed to the consumer in time order as they are resolved.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @param segments receives the segments, clipped to the interval; nothing where no price applies
+     */
+    void execute(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                 Consumer<PriceSegment> segments);
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.technicaltest.backend.domain.port.in;
+
+import com.technicaltest.backend.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking input port for getting applicable price use case.
+ * Reactive counterpart of {@link GetApplicablePricePort}.
+ */
+public interface ReactiveGetApplicablePricePort {
+
+    /**
+     * Gets the applicable price for a product at a given date.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @param applicationDate date to check price applicability
+     * @return the price with highest priority, or an empty Mono if none applies
+     */
+    Mono<Price> execute(Long productId, Long brandId, LocalDateTime applicationDate);
+}
\ No newline at end of file
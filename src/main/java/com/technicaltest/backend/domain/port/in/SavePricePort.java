@@ -0,0 +1,38 @@
+package com.technicaltest.backend.domain.port.in;
+
+import com.technicaltest.backend.domain.model.Price;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Input port for the price write use cases.
+ * Defines the contract for creating, updating and bulk importing prices.
+ */
+public interface SavePricePort {
+
+    /**
+     * Creates a price.
+     *
+     * @param price price to create, without identifier
+     * @return the created price, with its identifier
+     */
+    Price create(Price price);
+
+    /**
+     * Replaces every field of an existing price.
+     *
+     * @param id identifier of the price to replace
+     * @param price new values of the price
+     * @return the updated price, empty if there is no price with that identifier
+     */
+    Optional<Price> update(Long id, Price price);
+
+    /**
+     * Imports prices all or nothing: if any of them is invalid, none is kept.
+     *
+     * @param prices prices to create, read lazily
+     * @return number of prices imported
+     */
+    long importPrices(Stream<Price> prices);
+}
\ No newline at end of file
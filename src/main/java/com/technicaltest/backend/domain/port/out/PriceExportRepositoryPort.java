@@ -0,0 +1,23 @@
+package com.technicaltest.backend.domain.port.out;
+
+import com.technicaltest.backend.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Output port for scanning the prices of a whole brand.
+ * Defines the contract for catalog exports without any framework dependency.
+ */
+public interface PriceExportRepositoryPort {
+
+    /**
+     * Passes every price of a brand applicable at a date to a consumer, in a single scan,
+     * grouped by product: all the candidates of a product arrive before those of the next one.
+     *
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check applicability
+     * @param consumer receives the applicable prices, grouped by product
+     */
+    void forEachApplicablePrice(Long brandId, LocalDateTime applicationDate, Consumer<Price> consumer);
+}
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.technicaltest.backend.domain.port.out;
 
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Output port for Price repository.
@@ -20,4 +25,63 @@ public interface PriceRepositoryPort {
      * @return list of applicable prices, empty if none found
      */
     List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate);
+
+    /**
+     * Finds the single price that applies to a product and brand at a given date: the one with
+     * the highest priority, ties going to the latest started price (see {@link Price#PRIORITY_ORDER}).
+     * Implementations resolve it in the store so only the winning row is read.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check applicability
+     * @return the winning price, empty if none applies
+     */
+    Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate);
+
+    /**
+     * Finds all prices of a product and brand whose date range overlaps the given interval.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @return list of overlapping prices, empty if none found
+     */
+    List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds, in a single round trip, the prices of several products and brands whose date range overlaps
+     * the given interval. The result may also contain prices of other products and brands; the caller
+     * selects those of each key.
+     *
+     * @param keys products and brands to look up, not empty
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @return overlapping prices, empty if none found
+     */
+    List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Finds, in a single round trip, the candidate prices of several lookups.
+     * The result may also contain prices that do not apply to any query; the caller
+     * selects the winner of each query among the candidates of its product and brand.
+     *
+     * @param queries lookups to resolve, not empty
+     * @return candidate prices, empty if none found
+     */
+    List<Price> findApplicablePrices(Collection<PriceQuery> queries);
+
+    /**
+     * Passes the prices of a product and brand whose date range overlaps an interval to a consumer,
+     * ordered by start date. Implementations backed by the database read them in a single ordered scan
+     * without materializing them.
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @param consumer receives the overlapping prices, or at least those winning somewhere in the interval
+     */
+    void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                             Consumer<Price> consumer);
 }
\ No newline at end of file
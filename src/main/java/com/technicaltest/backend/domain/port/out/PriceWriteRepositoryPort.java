@@ -0,0 +1,38 @@
+package com.technicaltest.backend.domain.port.out;
+
+import com.technicaltest.backend.domain.model.Price;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Output port for writing prices.
+ * Defines the contract for price persistence without any framework dependency.
+ */
+public interface PriceWriteRepositoryPort {
+
+    /**
+     * Stores a new price.
+     *
+     * @param price price to store, without identifier
+     * @return the stored price, with its identifier
+     */
+    Price save(Price price);
+
+    /**
+     * Replaces every field of an existing price.
+     *
+     * @param id identifier of the price to replace
+     * @param price new values of the price
+     * @return the updated price, empty if there is no price with that identifier
+     */
+    Optional<Price> update(Long id, Price price);
+
+    /**
+     * Stores new prices in a single transaction, in batches.
+     *
+     * @param prices prices to store, consumed once
+     * @return number of prices stored
+     */
+    long saveAll(Stream<Price> prices);
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.technicaltest.backend.domain.port.out;
+
+import com.technicaltest.backend.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking output port for Price repository.
+ * Reactive counterpart of {@link PriceRepositoryPort} for the lookups served without blocking a thread.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Finds the single price that applies to a product and brand at a given date: the one with
+     * the highest priority, ties going to the latest started price (see {@link Price#PRIORITY_ORDER}).
+     *
+     * @param productId the product identifier
+     * @param brandId the brand identifier
+     * @param applicationDate the date to check applicability
+     * @return the winning price, or an empty Mono if none applies
+     */
+    Mono<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate);
+}
\ No newline at end of file
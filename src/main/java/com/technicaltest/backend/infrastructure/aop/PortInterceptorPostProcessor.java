@@ -0,0 +1,54 @@
+package com.technicaltest.backend.infrastructure.aop;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies an interceptor, such as metrics or single-flight, to the methods of a port on every bean implementing it.
+ * Beans that are already proxies (for instance transactional adapters) get the interceptor added
+ * in front of their advisors; the others are wrapped in a class based proxy, so they keep being injectable
+ * as any other type they implement and their event listener methods keep working.
+ * When several post processors advise the same bean, the one applied last, with the highest
+ * {@link #getOrder() order}, runs first.
+ */
+public class PortInterceptorPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    /**
+     * @param port interface whose methods are intercepted
+     * @param methodNames names of the intercepted methods, empty to intercept them all
+     * @param interceptor interceptor applied to them
+     */
+    public PortInterceptorPostProcessor(Class<?> port, Set<String> methodNames, MethodInterceptor interceptor) {
+        Objects.requireNonNull(port, "port cannot be null");
+        Objects.requireNonNull(methodNames, "methodNames cannot be null");
+        Objects.requireNonNull(interceptor, "interceptor cannot be null");
+        this.advisor = new DefaultPointcutAdvisor(new PortPointcut(port, methodNames), interceptor);
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static final class PortPointcut extends StaticMethodMatcherPointcut {
+
+        private final Class<?> port;
+        private final Set<String> methodNames;
+
+        private PortPointcut(Class<?> port, Set<String> methodNames) {
+            this.port = port;
+            this.methodNames = methodNames;
+            setClassFilter(port::isAssignableFrom);
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return (methodNames.isEmpty() || methodNames.contains(method.getName()))
+                    && ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.technicaltest.backend.application.dto.CacheStatisticsDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller exposing hit/miss statistics of the application caches.
+ */
+@RestController
+@RequestMapping("/api/cache/stats")
+@Tag(name = "Cache", description = "Cache statistics")
+public class CacheStatisticsController {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatisticsController(CacheManager cacheManager) {
+        this.cacheManager = Objects.requireNonNull(cacheManager, "cacheManager cannot be null");
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get cache statistics",
+            description = "Returns size, hits, misses, hit rate and evictions of every Caffeine cache."
+    )
+    public List<CacheStatisticsDto> getCacheStatistics() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    private CacheStatisticsDto mapToDto(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+        return new CacheStatisticsDto(
+                cache.getName(),
+                cache.getNativeCache().estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * Parser of ISO date-time request parameters.
+ * Dates in the usual {@code yyyy-MM-ddTHH:mm:ss} form are read digit by digit, without the parsing
+ * context, field map and resolver a {@link DateTimeFormatter} allocates per call; any other ISO form
+ * (minutes only, fractions, offsets) falls back to {@link DateTimeFormatter#ISO_DATE_TIME}.
+ */
+final class IsoDateTimeParser {
+
+    private static final int LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    private IsoDateTimeParser() {
+    }
+
+    /**
+     * @param text ISO date-time
+     * @return the local date-time, ignoring any offset
+     * @throws java.time.DateTimeException if the text is not a valid ISO date-time
+     */
+    static LocalDateTime parse(String text) {
+        Objects.requireNonNull(text, "text cannot be null");
+        if (text.length() == LENGTH && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+                && text.charAt(13) == ':' && text.charAt(16) == ':') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 2);
+            int day = digits(text, 8, 2);
+            int hour = digits(text, 11, 2);
+            int minute = digits(text, 14, 2);
+            int second = digits(text, 17, 2);
+            if ((year | month | day | hour | minute | second) >= 0) {
+                return LocalDateTime.of(year, month, day, hour, minute, second);
+            }
+        }
+        return LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME);
+    }
+
+    private static int digits(String text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
\ No newline at end of file
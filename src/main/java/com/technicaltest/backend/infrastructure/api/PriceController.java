@@ -1,7 +1,15 @@
 package com.technicaltest.backend.infrastructure.api;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.technicaltest.backend.application.dto.PriceBatchItemCompactDto;
+import com.technicaltest.backend.application.dto.PriceBatchItemDto;
+import com.technicaltest.backend.application.dto.PriceBatchRequestDto;
+import com.technicaltest.backend.application.dto.PriceCompactDto;
+import com.technicaltest.backend.application.dto.PriceQueryDto;
 import com.technicaltest.backend.application.dto.PriceResponseDto;
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
 import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,45 +18,89 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.format.annotation.DateTimeFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for price queries.
- * Provides endpoint to get applicable price for a product at a given date.
+ * Provides endpoints to get the applicable price for a product at a given date,
+ * one lookup at a time or several in a single request.
+ * Single lookups write the JSON of the price straight to the response, serialized once per price
+ * instance by {@link PriceRepresentationCache}, so repeated lookups of a cached price allocate next to nothing,
+ * with the ETag and Cache-Control headers of {@link PriceHttpCachePolicy}.
+ * Clients accepting {@code application/cbor} get the compact DTOs in CBOR instead, with epoch second
+ * dates and unscaled integer prices (see {@link PriceMediaTypes}).
  */
 @RestController
 @RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Tag(name = "Prices", description = "Price query operations")
 public class PriceController {
 
     private final GetApplicablePricePort getApplicablePricePort;
+    private static final CBORMapper CBOR_MAPPER = new CBORMapper();
 
-    public PriceController(GetApplicablePricePort getApplicablePricePort) {
+    private final PriceRepresentationCache jsonRepresentations;
+    private final PriceRepresentationCache cborRepresentations;
+    private final PriceHttpCachePolicy httpCachePolicy;
+
+    public PriceController(GetApplicablePricePort getApplicablePricePort, ObjectMapper objectMapper,
+                           PriceHttpCachePolicy httpCachePolicy) {
         this.getApplicablePricePort = Objects.requireNonNull(
                 getApplicablePricePort,
                 "getApplicablePricePort cannot be null"
         );
+        this.jsonRepresentations = new PriceRepresentationCache(
+                Objects.requireNonNull(objectMapper, "objectMapper cannot be null").writerFor(PriceResponseDto.class),
+                this::mapToDto);
+        this.cborRepresentations = new PriceRepresentationCache(
+                CBOR_MAPPER.writerFor(PriceCompactDto.class), this::mapToCompactDto);
+        this.httpCachePolicy = Objects.requireNonNull(httpCachePolicy, "httpCachePolicy cannot be null");
     }
 
     @GetMapping
     @Operation(
             summary = "Get applicable price",
             description = "Returns the applicable price for a product in a brand at a specific date. " +
-                    "When multiple prices match, returns the one with highest priority."
+                    "When multiple prices match, returns the one with highest priority. " +
+                    "Accept application/cbor to get the compact binary form."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Price found successfully",
-                    content = @Content(
-                            mediaType = "application/json",
-                            schema = @Schema(implementation = PriceResponseDto.class)
-                    )
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = PriceResponseDto.class)
+                            ),
+                            @Content(
+                                    mediaType = "application/cbor",
+                                    schema = @Schema(implementation = PriceCompactDto.class)
+                            )
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Price unchanged since the ETag sent in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -59,11 +111,11 @@ public class PriceController {
                     description = "Invalid parameters"
             )
     })
-    public ResponseEntity<PriceResponseDto> getApplicablePrice(
-            @Parameter(description = "Application date and time (ISO format)", example = "2020-06-14T10:00:00")
+    public void getApplicablePrice(
+            @Parameter(description = "Application date and time (ISO format)", example = "2020-06-14T10:00:00",
+                    schema = @Schema(type = "string", format = "date-time"))
             @RequestParam("applicationDate")
-            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime applicationDate,
+            String applicationDate,
 
             @Parameter(description = "Product identifier", example = "35455")
             @RequestParam("productId")
@@ -71,13 +123,84 @@ public class PriceController {
 
             @Parameter(description = "Brand identifier (1 = ZARA)", example = "1")
             @RequestParam("brandId")
-            Long brandId
+            Long brandId,
+
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Optional<Price> price = getApplicablePricePort.execute(
+                productId, brandId, IsoDateTimeParser.parse(applicationDate));
+        if (price.isEmpty()) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        boolean cbor = PriceMediaTypes.prefersCbor(request.getHeader(HttpHeaders.ACCEPT));
+        PriceRepresentationCache.Representation representation =
+                (cbor ? cborRepresentations : jsonRepresentations).get(price.get());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (httpCachePolicy.checkNotModified(request, response, representation.getEtag())) {
+            return;
+        }
+        response.setContentType(cbor ? MediaType.APPLICATION_CBOR_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(representation.getBody().length);
+        response.getOutputStream().write(representation.getBody());
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get applicable prices in batch",
+            description = "Returns the applicable price of up to " + PriceBatchRequestDto.MAX_QUERIES +
+                    " lookups at once, resolved together. Results follow the order of the request and " +
+                    "lookups without an applicable price are returned with found = false. " +
+                    "Accept application/cbor to get the compact binary form."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lookups resolved, one result per lookup"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body"
+            )
+    })
+    public ResponseEntity<List<?>> getApplicablePrices(
+            @Valid @RequestBody PriceBatchRequestDto request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        return getApplicablePricePort
-                .execute(productId, brandId, applicationDate)
-                .map(this::mapToDto)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        List<PriceQuery> queries = request.getQueries()
+                .stream()
+                .map(query -> new PriceQuery(query.getProductId(), query.getBrandId(), query.getApplicationDate()))
+                .collect(Collectors.toList());
+        List<Optional<Price>> prices = getApplicablePricePort.executeAll(queries);
+
+        if (PriceMediaTypes.prefersCbor(accept)) {
+            List<PriceBatchItemCompactDto> results = new ArrayList<>(queries.size());
+            for (int i = 0; i < queries.size(); i++) {
+                PriceQueryDto query = request.getQueries().get(i);
+                results.add(new PriceBatchItemCompactDto(toEpochSecond(query.getApplicationDate()),
+                        query.getProductId(), query.getBrandId(),
+                        prices.get(i).map(this::mapToCompactDto).orElse(null)));
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(results);
+        }
+
+        List<PriceBatchItemDto> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            PriceQueryDto query = request.getQueries().get(i);
+            results.add(new PriceBatchItemDto(query.getApplicationDate(), query.getProductId(), query.getBrandId(),
+                    prices.get(i).map(this::mapToDto).orElse(null)));
+        }
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(results);
+    }
+
+    @ExceptionHandler(DateTimeException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidDate(DateTimeException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
     }
 
     private PriceResponseDto mapToDto(Price price) {
@@ -91,4 +214,21 @@ public class PriceController {
                 price.getCurrency()
         );
     }
+
+    private PriceCompactDto mapToCompactDto(Price price) {
+        return new PriceCompactDto(
+                price.getProductId(),
+                price.getBrandId(),
+                price.getPriceList(),
+                toEpochSecond(price.getStartDate()),
+                toEpochSecond(price.getEndDate()),
+                price.getPrice().unscaledValue().longValueExact(),
+                price.getPrice().scale(),
+                price.getCurrency()
+        );
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.technicaltest.backend.application.dto.PriceResponseDto;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.ExportPricesPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * REST Controller for whole-catalog price exports.
+ * Streams the applicable price of every product of a brand at a date, as NDJSON or CSV,
+ * straight to the response while the catalog is scanned.
+ */
+@RestController
+@RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Tag(name = "Prices", description = "Price query operations")
+public class PriceExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceExportController.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "productId,brandId,priceList,startDate,endDate,price,currency\n";
+
+    private final ExportPricesPort exportPricesPort;
+    private final ObjectWriter priceWriter;
+
+    public PriceExportController(ExportPricesPort exportPricesPort, ObjectMapper objectMapper) {
+        this.exportPricesPort = Objects.requireNonNull(exportPricesPort, "exportPricesPort cannot be null");
+        this.priceWriter = Objects.requireNonNull(objectMapper, "objectMapper cannot be null")
+                .writerFor(PriceResponseDto.class);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "Export the prices of a brand",
+            description = "Streams the applicable price of every product of a brand at a specific date, " +
+                    "one product per line ordered by product id, as NDJSON or as CSV with a header. " +
+                    "Products without an applicable price are left out."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Prices streamed, possibly none"),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+    })
+    public void exportPrices(
+            @Parameter(description = "Brand identifier (1 = ZARA)", example = "1")
+            @RequestParam("brandId") Long brandId,
+
+            @Parameter(description = "Application date and time (ISO format)", example = "2020-06-14T10:00:00")
+            @RequestParam("applicationDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @Parameter(description = "Output format: NDJSON or CSV", example = "NDJSON")
+            @RequestParam(name = "format", defaultValue = "NDJSON") ExportFormat format,
+
+            HttpServletResponse response
+    ) throws IOException {
+        long start = System.nanoTime();
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try (OutputStream body = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE)) {
+            if (format == ExportFormat.CSV) {
+                body.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+            }
+            long products = exportPricesPort.execute(brandId, applicationDate, price -> write(body, format, price));
+            log.info("Exported {} prices of brand {} at {} in {} ms", products, brandId, applicationDate,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private void write(OutputStream body, ExportFormat format, Price price) {
+        try {
+            if (format == ExportFormat.CSV) {
+                body.write(toCsv(price).getBytes(StandardCharsets.UTF_8));
+            } else {
+                body.write(priceWriter.writeValueAsBytes(mapToDto(price)));
+                body.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(Price price) {
+        return price.getProductId() + "," + price.getBrandId() + "," + price.getPriceList() + ","
+                + price.getStartDate() + "," + price.getEndDate() + ","
+                + price.getPrice().toPlainString() + "," + price.getCurrency() + "\n";
+    }
+
+    private PriceResponseDto mapToDto(Price price) {
+        return new PriceResponseDto(
+                price.getProductId(),
+                price.getBrandId(),
+                price.getPriceList(),
+                price.getStartDate(),
+                price.getEndDate(),
+                price.getPrice(),
+                price.getCurrency()
+        );
+    }
+
+    /**
+     * Output formats of the export.
+     */
+    public enum ExportFormat {
+        NDJSON(MediaType.APPLICATION_NDJSON_VALUE),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        ExportFormat(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() { return contentType; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.technicaltest.backend.application.dto.PriceSegmentDto;
+import com.technicaltest.backend.domain.model.PriceSegment;
+import com.technicaltest.backend.domain.port.in.GetPriceHistoryPort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * REST Controller for price history queries.
+ * Streams the effective price timeline of a product over an interval as NDJSON, one segment per line,
+ * written as soon as each segment is resolved.
+ */
+@RestController
+@RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Tag(name = "Prices", description = "Price query operations")
+public class PriceHistoryController {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final GetPriceHistoryPort getPriceHistoryPort;
+    private final ObjectWriter segmentWriter;
+
+    public PriceHistoryController(GetPriceHistoryPort getPriceHistoryPort, ObjectMapper objectMapper) {
+        this.getPriceHistoryPort = Objects.requireNonNull(getPriceHistoryPort, "getPriceHistoryPort cannot be null");
+        this.segmentWriter = Objects.requireNonNull(objectMapper, "objectMapper cannot be null")
+                .writerFor(PriceSegmentDto.class);
+    }
+
+    @GetMapping("/history")
+    @Operation(
+            summary = "Get price history",
+            description = "Streams the effective price timeline of a product in a brand between two dates, " +
+                    "one segment per line in time order. Each segment holds the price that applies from its " +
+                    "start to its end date, both inclusive; periods without a price have no segment."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Segments streamed, possibly none",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = PriceSegmentDto.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters")
+    })
+    public void getPriceHistory(
+            @Parameter(description = "Product identifier", example = "35455")
+            @RequestParam("productId") Long productId,
+
+            @Parameter(description = "Brand identifier (1 = ZARA)", example = "1")
+            @RequestParam("brandId") Long brandId,
+
+            @Parameter(description = "Start of the interval, inclusive (ISO format)", example = "2020-06-14T00:00:00")
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "End of the interval, inclusive (ISO format)", example = "2020-06-16T23:59:59")
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+
+            HttpServletResponse response
+    ) throws IOException {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream body = response.getOutputStream();
+        getPriceHistoryPort.execute(productId, brandId, from, to, segment -> write(body, segment));
+        body.flush();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidRange(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    private void write(OutputStream body, PriceSegment segment) {
+        try {
+            body.write(segmentWriter.writeValueAsBytes(mapToDto(segment)));
+            body.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private PriceSegmentDto mapToDto(PriceSegment segment) {
+        return new PriceSegmentDto(
+                segment.getStartDate(),
+                segment.getEndDate(),
+                segment.getPrice().getPriceList(),
+                segment.getPrice().getPrice(),
+                segment.getPrice().getCurrency()
+        );
+    }
+}
\ No newline at end of file
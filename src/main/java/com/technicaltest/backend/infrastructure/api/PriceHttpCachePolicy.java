@@ -0,0 +1,64 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * HTTP caching of price responses: the ETag of the representation, a shared {@code Cache-Control}
+ * max-age so CDNs and clients can reuse it, and 304 answers to matching conditional requests.
+ * A lookup URL pins its application date, so its answer only changes when prices are written; the
+ * max-age bounds how long a cache may serve a response without revalidating it after such a write.
+ */
+public class PriceHttpCachePolicy {
+
+    private static final PriceHttpCachePolicy DISABLED = new PriceHttpCachePolicy(null);
+
+    private final String cacheControl;
+
+    private PriceHttpCachePolicy(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * @param maxAge how long responses may be reused without revalidation
+     * @return policy adding caching headers to price responses
+     */
+    public static PriceHttpCachePolicy of(Duration maxAge) {
+        Objects.requireNonNull(maxAge, "maxAge cannot be null");
+        return new PriceHttpCachePolicy(CacheControl.maxAge(maxAge).cachePublic().getHeaderValue());
+    }
+
+    /**
+     * @return policy leaving price responses without caching headers
+     */
+    public static PriceHttpCachePolicy disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Adds the caching headers of a representation to the response and answers a conditional request
+     * whose {@code If-None-Match} matches it with 304.
+     *
+     * @param request current request
+     * @param response current response
+     * @param etag strong entity tag of the representation, quoted
+     * @return true if a 304 was written and the body must not be
+     */
+    boolean checkNotModified(HttpServletRequest request, HttpServletResponse response, String etag) {
+        if (Objects.isNull(cacheControl)) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (Objects.isNull(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return false;
+        }
+        return new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
\ No newline at end of file
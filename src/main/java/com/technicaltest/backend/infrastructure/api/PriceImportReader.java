@@ -0,0 +1,146 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.technicaltest.backend.application.dto.PriceDto;
+import com.technicaltest.backend.domain.model.Price;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Parses a bulk price import line by line, as NDJSON (one {@link PriceDto} per line) or as CSV
+ * with a header naming the columns. Prices are read lazily, so an import of any size is never held
+ * in memory. Every line is read into a {@link PriceDto} and validated with the same constraints as a
+ * single price; a line that cannot be parsed, that breaks a constraint, or that the {@link Price}
+ * constructor rejects fails with an {@link IllegalArgumentException} carrying its line number.
+ * Blank lines are skipped.
+ */
+final class PriceImportReader {
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "brandId", "startDate", "endDate", "priceList", "productId", "priority", "price", "currency");
+
+    private PriceImportReader() {
+    }
+
+    /**
+     * @param reader NDJSON body
+     * @param dtoReader Jackson reader of {@link PriceDto}
+     * @param validator validator of the {@link PriceDto} constraints
+     * @return prices in body order
+     */
+    static Stream<Price> ndjson(BufferedReader reader, ObjectReader dtoReader, Validator validator) {
+        return parse(reader, 1, line -> toDomain(validate(validator, readDto(dtoReader, line))));
+    }
+
+    /**
+     * @param reader CSV body, starting with a header holding every column of {@link #CSV_COLUMNS} in any order
+     * @param validator validator of the {@link PriceDto} constraints
+     * @return prices in body order
+     */
+    static Stream<Price> csv(BufferedReader reader, Validator validator) {
+        int[] columns = readHeader(reader);
+        int width = Arrays.stream(columns).max().orElseThrow() + 1;
+        return parse(reader, 2, line -> {
+            String[] values = line.split(",", -1);
+            if (values.length < width) {
+                throw new IllegalArgumentException("expected " + width + " values but got " + values.length);
+            }
+            return toDomain(validate(validator, new PriceDto(null,
+                    Long.valueOf(values[columns[0]].trim()),
+                    LocalDateTime.parse(values[columns[1]].trim()),
+                    LocalDateTime.parse(values[columns[2]].trim()),
+                    Long.valueOf(values[columns[3]].trim()),
+                    Long.valueOf(values[columns[4]].trim()),
+                    Integer.valueOf(values[columns[5]].trim()),
+                    new BigDecimal(values[columns[6]].trim()),
+                    values[columns[7]].trim())));
+        });
+    }
+
+    /**
+     * Converts a validated price DTO into a new domain price, ignoring its id.
+     *
+     * @param dto price values
+     * @return validated domain price without id
+     */
+    static Price toDomain(PriceDto dto) {
+        return new Price(null, dto.getBrandId(), dto.getStartDate(), dto.getEndDate(), dto.getPriceList(),
+                dto.getProductId(), dto.getPriority(), dto.getPrice(), dto.getCurrency());
+    }
+
+    // same constraints as @Valid on a single price, reported field by field
+    private static PriceDto validate(Validator validator, PriceDto dto) {
+        Set<ConstraintViolation<PriceDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return dto;
+    }
+
+    private static Stream<Price> parse(BufferedReader reader, long firstLine, Function<String, Price> parser) {
+        AtomicLong lineNumber = new AtomicLong(firstLine - 1);
+        return reader.lines()
+                .map(line -> {
+                    long number = lineNumber.incrementAndGet();
+                    if (line.isBlank()) {
+                        return null;
+                    }
+                    try {
+                        return parser.apply(line);
+                    } catch (RuntimeException e) {
+                        throw new IllegalArgumentException("Invalid price on line " + number + ": " + e.getMessage(), e);
+                    }
+                })
+                .filter(Objects::nonNull);
+    }
+
+    private static PriceDto readDto(ObjectReader dtoReader, String line) {
+        try {
+            return dtoReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e.getOriginalMessage(), e);
+        }
+    }
+
+    private static int[] readHeader(BufferedReader reader) {
+        String header;
+        try {
+            header = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (Objects.isNull(header)) {
+            throw new IllegalArgumentException("CSV import is empty, expected a header with " + CSV_COLUMNS);
+        }
+        List<String> names = Arrays.stream(header.split(","))
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = names.indexOf(CSV_COLUMNS.get(i).toLowerCase(Locale.ROOT));
+            if (columns[i] < 0) {
+                throw new IllegalArgumentException("CSV header is missing column " + CSV_COLUMNS.get(i));
+            }
+        }
+        return columns;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Content negotiation between the JSON and the compact CBOR representation of price responses.
+ * JSON stays the default: CBOR is only chosen when the Accept header names it and ranks it before JSON,
+ * by quality, then specificity, then order, as clients that can read both list the one they want first.
+ * Headers that do not mention CBOR at all, by far the most common, and plain {@code application/cbor} ones
+ * are not parsed.
+ */
+final class PriceMediaTypes {
+
+    private static final String CBOR_SUBTYPE = "cbor";
+
+    private PriceMediaTypes() {
+    }
+
+    /**
+     * @param accept Accept header of the request, may be null
+     * @return true if the response should be CBOR, false for JSON
+     */
+    static boolean prefersCbor(String accept) {
+        if (Objects.isNull(accept) || !containsIgnoreCase(accept, CBOR_SUBTYPE)) {
+            return false;
+        }
+        if (accept.equalsIgnoreCase(MediaType.APPLICATION_CBOR_VALUE)) {
+            return true;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        int cbor = bestRange(mediaTypes, MediaType.APPLICATION_CBOR);
+        if (cbor < 0 || mediaTypes.get(cbor).getQualityValue() == 0) {
+            return false;
+        }
+        int json = bestRange(mediaTypes, MediaType.APPLICATION_JSON);
+        return json < 0 || compare(mediaTypes, cbor, json) < 0;
+    }
+
+    /**
+     * Index of the most specific range including a media type, which sets the quality the client gives to
+     * it; -1 if none does.
+     */
+    private static int bestRange(List<MediaType> mediaTypes, MediaType mediaType) {
+        int best = -1;
+        for (int i = 0; i < mediaTypes.size(); i++) {
+            MediaType range = mediaTypes.get(i);
+            if (range.includes(mediaType) && (best < 0 || specificity(range) > specificity(mediaTypes.get(best)))) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Orders two ranges the way Spring MVC would choose between them: higher quality first, then the more
+     * specific one, then the one listed first.
+     */
+    private static int compare(List<MediaType> mediaTypes, int first, int second) {
+        MediaType firstRange = mediaTypes.get(first);
+        MediaType secondRange = mediaTypes.get(second);
+        int byQuality = Double.compare(secondRange.getQualityValue(), firstRange.getQualityValue());
+        if (byQuality != 0) {
+            return byQuality;
+        }
+        int bySpecificity = Integer.compare(specificity(secondRange), specificity(firstRange));
+        return bySpecificity != 0 ? bySpecificity : Integer.compare(first, second);
+    }
+
+    private static int specificity(MediaType range) {
+        return range.isWildcardType() ? 0 : range.isWildcardSubtype() ? 1 : 2;
+    }
+
+    private static boolean containsIgnoreCase(String text, String part) {
+        for (int i = 0; i <= text.length() - part.length(); i++) {
+            if (text.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technicaltest.backend.domain.model.Price;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Serialized representation of prices in one format, serialized once per price instance and then reused.
+ * Prices served from the price cache or an in-memory index live as long as it holds them, so writing
+ * the same price again costs a lookup instead of a DTO and a Jackson run. Keys are weak and compared by
+ * identity: entries go away with the prices they were built from and never outlive a price change.
+ */
+final class PriceRepresentationCache {
+
+    private final Cache<Price, Representation> representations = Caffeine.newBuilder().weakKeys().build();
+    private final Function<Price, Representation> serializer = this::serialize;
+    private final ObjectWriter writer;
+    private final Function<Price, ?> toDto;
+
+    /**
+     * @param writer writer of the response DTO in the format of the representation
+     * @param toDto mapper of prices to the response DTO
+     */
+    PriceRepresentationCache(ObjectWriter writer, Function<Price, ?> toDto) {
+        this.writer = Objects.requireNonNull(writer, "writer cannot be null");
+        this.toDto = Objects.requireNonNull(toDto, "toDto cannot be null");
+    }
+
+    /**
+     * @param price price to represent
+     * @return the serialized price response, the same instance for the same price instance
+     */
+    Representation get(Price price) {
+        return representations.get(price, serializer);
+    }
+
+    private Representation serialize(Price price) {
+        try {
+            return new Representation(writer.writeValueAsBytes(toDto.apply(price)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Serialized price response with its strong entity tag, a digest of the bytes: the tag changes
+     * whenever a write changes anything the response shows, and differs between formats.
+     */
+    static final class Representation {
+
+        private final byte[] body;
+        private final String etag;
+
+        private Representation(byte[] body) {
+            this.body = body;
+            this.etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        }
+
+        // Getters
+        byte[] getBody() { return body; }
+        String getEtag() { return etag; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.technicaltest.backend.application.dto.PriceDto;
+import com.technicaltest.backend.application.dto.PriceImportResultDto;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.SavePricePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * REST Controller for price writes.
+ * Creates and replaces single prices, and imports large NDJSON or CSV bodies as a stream,
+ * all or nothing, reporting the achieved rows per second.
+ */
+@RestController
+@RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Tag(name = "Price writes", description = "Price create, update and bulk import operations")
+public class PriceWriteController {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceWriteController.class);
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final SavePricePort savePricePort;
+    private final ObjectReader priceReader;
+    private final Validator validator;
+
+    public PriceWriteController(SavePricePort savePricePort, ObjectMapper objectMapper, Validator validator) {
+        this.savePricePort = Objects.requireNonNull(savePricePort, "savePricePort cannot be null");
+        this.priceReader = Objects.requireNonNull(objectMapper, "objectMapper cannot be null").readerFor(PriceDto.class);
+        this.validator = Objects.requireNonNull(validator, "validator cannot be null");
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create price", description = "Creates a price. Its id is assigned by the service.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Price created"),
+            @ApiResponse(responseCode = "400", description = "Invalid price")
+    })
+    public ResponseEntity<PriceDto> createPrice(@Valid @RequestBody PriceDto request) {
+        Price created = savePricePort.create(PriceImportReader.toDomain(request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(mapToDto(created));
+    }
+
+    @PutMapping(path = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Update price", description = "Replaces every field of an existing price.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Price updated"),
+            @ApiResponse(responseCode = "404", description = "No price with the given id"),
+            @ApiResponse(responseCode = "400", description = "Invalid price")
+    })
+    public ResponseEntity<PriceDto> updatePrice(
+            @Parameter(description = "Price identifier", example = "1")
+            @PathVariable("id") Long id,
+            @Valid @RequestBody PriceDto request
+    ) {
+        return savePricePort.update(id, PriceImportReader.toDomain(request))
+                .map(this::mapToDto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import prices from NDJSON",
+            description = "Creates one price per line, each line a price as accepted by POST /api/prices. " +
+                    "The import is all or nothing: an invalid line rejects the whole body.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Prices imported"),
+            @ApiResponse(responseCode = "400", description = "Invalid line, nothing imported")
+    })
+    public ResponseEntity<PriceImportResultDto> importNdjson(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            return ResponseEntity.ok(importPrices(PriceImportReader.ndjson(reader, priceReader, validator)));
+        }
+    }
+
+    @PostMapping(path = "/import", consumes = TEXT_CSV_VALUE)
+    @Operation(summary = "Import prices from CSV",
+            description = "Creates one price per row, after a header naming the columns brandId, startDate, " +
+                    "endDate, priceList, productId, priority, price and currency in any order. " +
+                    "The import is all or nothing: an invalid row rejects the whole body.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Prices imported"),
+            @ApiResponse(responseCode = "400", description = "Invalid row, nothing imported")
+    })
+    public ResponseEntity<PriceImportResultDto> importCsv(InputStream body) throws IOException {
+        try (BufferedReader reader = reader(body)) {
+            return ResponseEntity.ok(importPrices(PriceImportReader.csv(reader, validator)));
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidPrice(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage()));
+    }
+
+    private PriceImportResultDto importPrices(Stream<Price> prices) {
+        long start = System.nanoTime();
+        long rows = savePricePort.importPrices(prices);
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Imported {} prices in {} ms ({} rows/s)", rows, millis, rows * 1000 / millis);
+        return new PriceImportResultDto(rows, millis, rows * 1000 / millis);
+    }
+
+    private static BufferedReader reader(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    private PriceDto mapToDto(Price price) {
+        return new PriceDto(
+                price.getId(),
+                price.getBrandId(),
+                price.getStartDate(),
+                price.getEndDate(),
+                price.getPriceList(),
+                price.getProductId(),
+                price.getPriority(),
+                price.getPrice(),
+                price.getCurrency()
+        );
+    }
+}
\ No newline at end of file
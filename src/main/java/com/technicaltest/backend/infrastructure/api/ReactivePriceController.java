@@ -0,0 +1,78 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.technicaltest.backend.application.dto.PriceResponseDto;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.ReactiveGetApplicablePricePort;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * WebFlux REST Controller for price queries, served by the {@code reactive} profile in place of
+ * {@link PriceController}. Lookups run on the event loop without a thread per request.
+ */
+@RestController
+@RequestMapping("/api/prices")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Prices", description = "Price query operations")
+public class ReactivePriceController {
+
+    private final ReactiveGetApplicablePricePort getApplicablePricePort;
+
+    public ReactivePriceController(ReactiveGetApplicablePricePort getApplicablePricePort) {
+        this.getApplicablePricePort = Objects.requireNonNull(
+                getApplicablePricePort,
+                "getApplicablePricePort cannot be null"
+        );
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get applicable price",
+            description = "Returns the applicable price for a product in a brand at a specific date. " +
+                    "When multiple prices match, returns the one with highest priority."
+    )
+    public Mono<ResponseEntity<PriceResponseDto>> getApplicablePrice(
+            @Parameter(description = "Application date and time (ISO format)", example = "2020-06-14T10:00:00")
+            @RequestParam("applicationDate")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime applicationDate,
+
+            @Parameter(description = "Product identifier", example = "35455")
+            @RequestParam("productId")
+            Long productId,
+
+            @Parameter(description = "Brand identifier (1 = ZARA)", example = "1")
+            @RequestParam("brandId")
+            Long brandId
+    ) {
+        return getApplicablePricePort
+                .execute(productId, brandId, applicationDate)
+                .map(this::mapToDto)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    private PriceResponseDto mapToDto(Price price) {
+        return new PriceResponseDto(
+                price.getProductId(),
+                price.getBrandId(),
+                price.getPriceList(),
+                price.getStartDate(),
+                price.getEndDate(),
+                price.getPrice(),
+                price.getCurrency()
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,192 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache in front of the price query use case.
+ * Caches the effective price timeline of a product and brand per time bucket, so every
+ * lookup within the same bucket is resolved in memory with the same result as the database.
+ * Buckets without any price are cached as empty timelines, which act as the negative cache.
+ * With a {@link SharedPriceCache}, a bucket missing from this replica is first read from the tier shared with
+ * the other replicas, and only loaded from the repository, then shared, when no replica has it yet.
+ * Batch lookups are answered from the cache where possible; the missing buckets are loaded like single ones,
+ * with one multi-key repository query per bucket, and cached, so a batch warms the cache for single lookups.
+ * A bucket is only cached if its product's {@link PriceCacheGenerations} stamp did not move while it was loaded,
+ * so a change evicted during the load is not hidden by the prices read before it.
+ */
+public class CachingGetApplicablePricePort implements GetApplicablePricePort {
+
+    private final PriceRepositoryPort priceRepository;
+    private final Cache cache;
+    private final Duration bucket;
+    private final SharedPriceCache sharedCache;
+    private final PriceCacheGenerations generations;
+
+    public CachingGetApplicablePricePort(PriceRepositoryPort priceRepository, Cache cache, Duration bucket) {
+        this(priceRepository, cache, bucket, null, new PriceCacheGenerations());
+    }
+
+    /**
+     * @param priceRepository repository the buckets are loaded from
+     * @param cache local bucket cache
+     * @param bucket bucket size
+     * @param sharedCache tier shared with the other replicas, null to only cache locally
+     * @param generations stamps of the local cache, shared with the invalidator evicting it
+     */
+    public CachingGetApplicablePricePort(PriceRepositoryPort priceRepository, Cache cache, Duration bucket,
+                                         SharedPriceCache sharedCache, PriceCacheGenerations generations) {
+        this.priceRepository = Objects.requireNonNull(priceRepository, "priceRepository cannot be null");
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+        this.bucket = Objects.requireNonNull(bucket, "bucket cannot be null");
+        this.sharedCache = sharedCache;
+        this.generations = Objects.requireNonNull(generations, "generations cannot be null");
+    }
+
+    @Override
+    public Optional<Price> execute(Long productId, Long brandId, LocalDateTime applicationDate) {
+        Objects.requireNonNull(productId, "productId cannot be null");
+        Objects.requireNonNull(brandId, "brandId cannot be null");
+        Objects.requireNonNull(applicationDate, "applicationDate cannot be null");
+
+        PriceBucketKey key = PriceBucketKey.of(brandId, productId, applicationDate, bucket);
+        PriceTimeline timeline = cache.get(key, PriceTimeline.class);
+        if (Objects.isNull(timeline)) {
+            timeline = loadTimelines(List.of(key)).get(key);
+        }
+        return timeline.findPriceAt(applicationDate);
+    }
+
+    @Override
+    public List<Optional<Price>> executeAll(List<PriceQuery> queries) {
+        Objects.requireNonNull(queries, "queries cannot be null");
+
+        List<PriceBucketKey> keys = new ArrayList<>(queries.size());
+        Map<PriceBucketKey, PriceTimeline> timelines = new HashMap<>();
+        Set<PriceBucketKey> misses = new LinkedHashSet<>();
+        for (PriceQuery query : queries) {
+            PriceBucketKey key = PriceBucketKey.of(
+                    query.getBrandId(), query.getProductId(), query.getApplicationDate(), bucket);
+            keys.add(key);
+            if (!timelines.containsKey(key) && !misses.contains(key)) {
+                PriceTimeline timeline = cache.get(key, PriceTimeline.class);
+                if (Objects.isNull(timeline)) {
+                    misses.add(key);
+                } else {
+                    timelines.put(key, timeline);
+                }
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            timelines.putAll(loadTimelines(misses));
+        }
+
+        List<Optional<Price>> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            results.add(timelines.get(keys.get(i)).findPriceAt(queries.get(i).getApplicationDate()));
+        }
+        return results;
+    }
+
+    /**
+     * Loads the timelines of buckets missing from this replica and caches those whose product was not
+     * evicted meanwhile; the others are returned without being cached.
+     *
+     * @param keys missing buckets
+     * @return the timeline of every bucket
+     */
+    private Map<PriceBucketKey, PriceTimeline> loadTimelines(Collection<PriceBucketKey> keys) {
+        Map<PriceBucketKey, Long> stamps = new HashMap<>();
+        for (PriceBucketKey key : keys) {
+            stamps.put(key, generations.current(toPriceKey(key)));
+        }
+
+        Map<PriceBucketKey, PriceTimeline> timelines = new HashMap<>();
+        loadPrices(keys).forEach((key, prices) -> {
+            PriceTimeline loaded = PriceTimeline.of(prices);
+            long stamp = stamps.get(key);
+            if (generations.current(toPriceKey(key)) != stamp) {
+                timelines.put(key, loaded);
+                return;
+            }
+            Cache.ValueWrapper cached = cache.putIfAbsent(key, loaded);
+            // an eviction between the check and the put may have missed this bucket: drop it again
+            if (generations.current(toPriceKey(key)) != stamp) {
+                cache.evict(key);
+            }
+            timelines.put(key, Objects.isNull(cached) ? loaded : (PriceTimeline) cached.get());
+        });
+        return timelines;
+    }
+
+    /**
+     * Loads buckets missing from this replica: from the shared tier if any, otherwise from the repository,
+     * one query per bucket for all its products, and then shared.
+     *
+     * @param keys missing buckets
+     * @return the prices of every bucket
+     */
+    private Map<PriceBucketKey, List<Price>> loadPrices(Collection<PriceBucketKey> keys) {
+        Map<PriceBucketKey, List<Price>> prices = new HashMap<>();
+        Map<Long, List<PriceBucketKey>> notShared = new LinkedHashMap<>();
+        Map<PriceBucketKey, OptionalLong> generations = new HashMap<>();
+        for (PriceBucketKey key : keys) {
+            Optional<List<Price>> shared = Objects.isNull(sharedCache) ? Optional.empty() : sharedCache.get(key);
+            if (shared.isPresent()) {
+                prices.put(key, shared.get());
+            } else {
+                notShared.computeIfAbsent(key.getBucketStart(), bucketStart -> new ArrayList<>()).add(key);
+                if (Objects.nonNull(sharedCache)) {
+                    // read before the repository, so a change invalidated meanwhile keeps this read out of the tier
+                    generations.put(key, sharedCache.generation(toPriceKey(key)));
+                }
+            }
+        }
+
+        for (List<PriceBucketKey> sameBucket : notShared.values()) {
+            PriceBucketKey first = sameBucket.get(0);
+            Map<PriceKey, List<Price>> loaded = sameBucket.size() == 1
+                    ? Map.of(toPriceKey(first), priceRepository.findPricesBetween(
+                            first.getProductId(), first.getBrandId(), first.getFrom(), first.getTo()))
+                    : priceRepository.findPricesBetween(
+                                    sameBucket.stream().map(CachingGetApplicablePricePort::toPriceKey).toList(),
+                                    first.getFrom(), first.getTo())
+                            .stream()
+                            .collect(Collectors.groupingBy(PriceKey::of));
+            for (PriceBucketKey key : sameBucket) {
+                List<Price> bucketPrices = loaded.getOrDefault(toPriceKey(key), List.of());
+                prices.put(key, bucketPrices);
+                OptionalLong generation = generations.getOrDefault(key, OptionalLong.empty());
+                if (generation.isPresent()) {
+                    sharedCache.put(key, generation.getAsLong(), bucketPrices);
+                }
+            }
+        }
+        return prices;
+    }
+
+    private static PriceKey toPriceKey(PriceBucketKey key) {
+        return new PriceKey(key.getBrandId(), key.getProductId());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Stand-in for the shared cache tier inside a single JVM, for tests and for running without a Redis server.
+ * Stores the same encoded keys and values as {@link RedisSharedPriceCache}, with the same per-product expiry
+ * and generations, and delivers invalidations synchronously to every subscriber. Replicas sharing one instance behave as
+ * replicas sharing one server.
+ */
+public class InProcessSharedPriceCache implements SharedPriceCache {
+
+    private final long expireAfterWriteNanos;
+    private final Map<String, ProductBuckets> products = new ConcurrentHashMap<>();
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final List<Consumer<Set<PriceKey>>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param expireAfterWrite time to live of the cached buckets of a product
+     */
+    public InProcessSharedPriceCache(Duration expireAfterWrite) {
+        this.expireAfterWriteNanos = Objects.requireNonNull(expireAfterWrite, "expireAfterWrite cannot be null")
+                .toNanos();
+    }
+
+    @Override
+    public Optional<List<Price>> get(PriceBucketKey key) {
+        ProductBuckets buckets = products.get(PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()));
+        if (Objects.isNull(buckets) || buckets.expiresAt - System.nanoTime() < 0) {
+            return Optional.empty();
+        }
+        byte[] encoded = buckets.fields.get(PriceCacheCodec.bucketField(key));
+        return Objects.isNull(encoded) ? Optional.empty() : Optional.of(PriceCacheCodec.decodePrices(key, encoded));
+    }
+
+    @Override
+    public OptionalLong generation(PriceKey key) {
+        return OptionalLong.of(generations.getOrDefault(
+                PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId()), 0L));
+    }
+
+    // the generation is checked under the lock of the product's entry, which invalidate takes after moving it
+    @Override
+    public void put(PriceBucketKey key, long generation, List<Price> prices) {
+        byte[] encoded = PriceCacheCodec.encodePrices(prices);
+        String generationKey = PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId());
+        products.compute(PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()), (productKey, buckets) -> {
+            if (generations.getOrDefault(generationKey, 0L) != generation) {
+                return buckets;
+            }
+            ProductBuckets live = buckets;
+            if (Objects.isNull(live) || live.expiresAt - System.nanoTime() < 0) {
+                live = new ProductBuckets();
+                live.expiresAt = System.nanoTime() + expireAfterWriteNanos;
+            }
+            live.fields.put(PriceCacheCodec.bucketField(key), encoded);
+            return live;
+        });
+    }
+
+    @Override
+    public void invalidate(Set<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        keys.forEach(key -> {
+            generations.merge(PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId()), 1L, Long::sum);
+            products.remove(PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()));
+        });
+        Set<PriceKey> broadcast = PriceCacheCodec.decodeInvalidation(PriceCacheCodec.encodeInvalidation(keys));
+        listeners.forEach(listener -> listener.accept(broadcast));
+    }
+
+    @Override
+    public void subscribe(Consumer<Set<PriceKey>> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener cannot be null"));
+    }
+
+    private static final class ProductBuckets {
+
+        private final Map<String, byte[]> fields = new ConcurrentHashMap<>();
+        private volatile long expiresAt;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Cache key for the prices of a product and brand within a fixed-size time bucket.
+ * Buckets are aligned on the epoch, so every date of the same bucket maps to the same key.
+ */
+public final class PriceBucketKey {
+
+    private final long brandId;
+    private final long productId;
+    private final long bucketStart;
+    private final long bucketSeconds;
+
+    private PriceBucketKey(long brandId, long productId, long bucketStart, long bucketSeconds) {
+        this.brandId = brandId;
+        this.productId = productId;
+        this.bucketStart = bucketStart;
+        this.bucketSeconds = bucketSeconds;
+    }
+
+    /**
+     * Builds the key of the bucket containing the given date.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @param applicationDate date inside the bucket
+     * @param bucket bucket size, at least one second
+     * @return the bucket key
+     */
+    public static PriceBucketKey of(long brandId, long productId, LocalDateTime applicationDate, Duration bucket) {
+        long bucketSeconds = bucket.getSeconds();
+        if (bucketSeconds < 1) {
+            throw new IllegalArgumentException("bucket must be at least one second");
+        }
+        long epochSecond = applicationDate.toEpochSecond(ZoneOffset.UTC);
+        long bucketStart = Math.floorDiv(epochSecond, bucketSeconds) * bucketSeconds;
+        return new PriceBucketKey(brandId, productId, bucketStart, bucketSeconds);
+    }
+
+    /**
+     * @return first instant of the bucket, inclusive
+     */
+    public LocalDateTime getFrom() {
+        return LocalDateTime.ofEpochSecond(bucketStart, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * @return last instant of the bucket, inclusive
+     */
+    public LocalDateTime getTo() {
+        return LocalDateTime.ofEpochSecond(bucketStart + bucketSeconds, 0, ZoneOffset.UTC).minusNanos(1);
+    }
+
+    // Getters
+    public long getBrandId() { return brandId; }
+    public long getProductId() { return productId; }
+    public long getBucketStart() { return bucketStart; }
+    public long getBucketSeconds() { return bucketSeconds; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceBucketKey that = (PriceBucketKey) o;
+        return brandId == that.brandId &&
+                productId == that.productId &&
+                bucketStart == that.bucketStart &&
+                bucketSeconds == that.bucketSeconds;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(brandId);
+        result = 31 * result + Long.hashCode(productId);
+        result = 31 * result + Long.hashCode(bucketStart);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PriceBucketKey{" +
+                "brandId=" + brandId +
+                ", productId=" + productId +
+                ", from=" + getFrom() +
+                ", to=" + getTo() +
+                '}';
+    }
+}
\ No newline at end of file
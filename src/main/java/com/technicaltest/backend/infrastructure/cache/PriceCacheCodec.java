@@ -0,0 +1,175 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Encoding of the shared cache tier, identical on every replica.
+ * The buckets of a product live in one hash, {@code prices:{brandId:productId}}, so that an invalidation is a
+ * single delete and, on a cluster, the hash tag keeps them on one node. Each bucket is a field named
+ * {@code bucketSeconds:bucketStart}, so replicas configured with other bucket sizes never read each other's
+ * buckets. Values are a versioned binary list of the bucket's prices; brand and product come from the key.
+ * The generation of a product is a counter next to its hash, {@code prices:{brandId:productId}:generation},
+ * in the same hash slot.
+ * Invalidations are broadcast as {@code brandId:productId} pairs separated by commas.
+ */
+final class PriceCacheCodec {
+
+    private static final String KEY_PREFIX = "prices:";
+    private static final byte FORMAT_VERSION = 1;
+
+    private PriceCacheCodec() {
+    }
+
+    /**
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @return key of the hash holding every cached bucket of the product
+     */
+    static String productKey(long brandId, long productId) {
+        return KEY_PREFIX + "{" + brandId + ":" + productId + "}";
+    }
+
+    /**
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @return key of the counter holding the generation of the product
+     */
+    static String generationKey(long brandId, long productId) {
+        return productKey(brandId, productId) + ":generation";
+    }
+
+    /**
+     * @param key bucket key
+     * @return field of the bucket within the hash of its product
+     */
+    static String bucketField(PriceBucketKey key) {
+        return key.getBucketSeconds() + ":" + key.getBucketStart();
+    }
+
+    /**
+     * @param prices prices of a bucket
+     * @return their binary form
+     */
+    static byte[] encodePrices(List<Price> prices) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + 64 * prices.size());
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(prices.size());
+            for (Price price : prices) {
+                out.writeBoolean(Objects.nonNull(price.getId()));
+                if (Objects.nonNull(price.getId())) {
+                    out.writeLong(price.getId());
+                }
+                writeDate(out, price.getStartDate());
+                writeDate(out, price.getEndDate());
+                out.writeLong(price.getPriceList());
+                out.writeInt(price.getPriority());
+                byte[] unscaled = price.getPrice().unscaledValue().toByteArray();
+                out.writeByte(unscaled.length);
+                out.write(unscaled);
+                out.writeInt(price.getPrice().scale());
+                out.writeUTF(price.getCurrency());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @param key bucket the prices were cached for
+     * @param encoded binary form written by {@link #encodePrices(List)}
+     * @return the prices of the bucket
+     * @throws IllegalArgumentException if the value is not in the current format
+     */
+    static List<Price> decodePrices(PriceBucketKey key, byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported shared cache format " + version);
+            }
+            int size = in.readInt();
+            List<Price> prices = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                Long id = in.readBoolean() ? in.readLong() : null;
+                LocalDateTime startDate = readDate(in);
+                LocalDateTime endDate = readDate(in);
+                long priceList = in.readLong();
+                int priority = in.readInt();
+                byte[] unscaled = new byte[in.readUnsignedByte()];
+                in.readFully(unscaled);
+                BigDecimal price = new BigDecimal(new BigInteger(unscaled), in.readInt());
+                prices.add(new Price(id, key.getBrandId(), startDate, endDate, priceList, key.getProductId(),
+                        priority, price, in.readUTF()));
+            }
+            return prices;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed shared cache value", e);
+        }
+    }
+
+    /**
+     * @param keys brands and products whose prices changed
+     * @return the invalidation message
+     */
+    static byte[] encodeInvalidation(Set<PriceKey> keys) {
+        StringBuilder message = new StringBuilder(keys.size() * 16);
+        for (PriceKey key : keys) {
+            if (!message.isEmpty()) {
+                message.append(',');
+            }
+            message.append(key.getBrandId()).append(':').append(key.getProductId());
+        }
+        return message.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param message invalidation message written by {@link #encodeInvalidation(Set)}
+     * @return the brands and products whose prices changed
+     * @throws IllegalArgumentException if the message is malformed
+     */
+    static Set<PriceKey> decodeInvalidation(byte[] message) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        String text = new String(message, StandardCharsets.UTF_8);
+        if (text.isEmpty()) {
+            return keys;
+        }
+        try {
+            for (String pair : text.split(",")) {
+                int separator = pair.indexOf(':');
+                keys.add(new PriceKey(Long.parseLong(pair.substring(0, separator)),
+                        Long.parseLong(pair.substring(separator + 1))));
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed invalidation message: " + text, e);
+        }
+        return keys;
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDateTime date) throws IOException {
+        out.writeLong(date.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(date.getNano());
+    }
+
+    private static LocalDateTime readDate(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Invalidation stamps of the local bucket cache, the local counterpart of the shared tier's generations.
+ * Products are hashed onto a fixed number of counters, so memory stays bounded whatever the catalog size;
+ * products sharing a counter only cost an extra load when one of them changes.
+ * A lookup reads the stamp of its product before loading a bucket and only caches the bucket if the stamp
+ * is unchanged afterwards, so a load racing an eviction cannot put back the prices that were just evicted.
+ */
+public class PriceCacheGenerations {
+
+    private static final int STRIPES = 4096;
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+
+    /**
+     * @param key brand and product
+     * @return the current stamp of the product
+     */
+    public long current(PriceKey key) {
+        return stamps.get(stripe(key));
+    }
+
+    /**
+     * Advances the stamps of the given products, before their buckets are evicted.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    public void advance(Collection<PriceKey> keys) {
+        for (PriceKey key : keys) {
+            stamps.incrementAndGet(stripe(key));
+        }
+    }
+
+    private static int stripe(PriceKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
\ No newline at end of file
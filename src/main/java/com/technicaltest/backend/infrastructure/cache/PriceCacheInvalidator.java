@@ -0,0 +1,61 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import org.springframework.cache.Cache;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Evicts every cached bucket of the products reported by the price change feed.
+ * Buckets are keyed by time as well, so the native Caffeine map is scanned for the matching products;
+ * any other cache provider is cleared instead. The products' {@link PriceCacheGenerations} stamps are advanced
+ * first, so a lookup still loading one of their buckets does not cache it once the eviction has run.
+ * With a {@link SharedPriceCache}, the products are also invalidated in the shared tier, which broadcasts
+ * them so that every replica evicts its local buckets without waiting for its own poll of the feed.
+ */
+public class PriceCacheInvalidator implements PriceChangeListener {
+
+    private final Cache cache;
+    private final SharedPriceCache sharedCache;
+    private final PriceCacheGenerations generations;
+
+    public PriceCacheInvalidator(Cache cache) {
+        this(cache, null, new PriceCacheGenerations());
+    }
+
+    /**
+     * @param cache local bucket cache
+     * @param sharedCache tier shared with the other replicas, null if lookups are only cached locally
+     * @param generations stamps of the local cache, shared with the lookups filling it
+     */
+    public PriceCacheInvalidator(Cache cache, SharedPriceCache sharedCache, PriceCacheGenerations generations) {
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+        this.sharedCache = sharedCache;
+        this.generations = Objects.requireNonNull(generations, "generations cannot be null");
+    }
+
+    @Override
+    public void onPricesChanged(Set<PriceKey> keys) {
+        evict(keys);
+        if (Objects.nonNull(sharedCache)) {
+            sharedCache.invalidate(keys);
+        }
+    }
+
+    /**
+     * Evicts the local buckets of the given products, as broadcast by the shared tier.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    public void evict(Set<PriceKey> keys) {
+        generations.advance(keys);
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            caffeine.asMap().keySet().removeIf(key -> key instanceof PriceBucketKey bucketKey
+                    && keys.contains(new PriceKey(bucketKey.getBrandId(), bucketKey.getProductId())));
+        } else {
+            cache.clear();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Preloads the price buckets of the given products by looking them up through the caching port,
+ * so they are loaded into the local cache, and into the shared tier if any, before the first request.
+ * Lookups run in parallel on a pool of daemon threads that only lives for one warm-up.
+ * A failed lookup is logged and skipped; a warm-up that exceeds its timeout is cancelled.
+ */
+public class PriceCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceCacheWarmer.class);
+
+    private final GetApplicablePricePort pricePort;
+    private final Duration bucket;
+    private final int parallelism;
+
+    /**
+     * @param pricePort caching port the buckets are loaded through
+     * @param bucket bucket size of the cache
+     * @param parallelism number of concurrent lookups
+     */
+    public PriceCacheWarmer(GetApplicablePricePort pricePort, Duration bucket, int parallelism) {
+        this.pricePort = Objects.requireNonNull(pricePort, "pricePort cannot be null");
+        this.bucket = Objects.requireNonNull(bucket, "bucket cannot be null");
+        if (bucket.getSeconds() < 1) {
+            throw new IllegalArgumentException("bucket must be at least one second");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Loads every bucket of the given products from the one containing {@code from} until {@code from + horizon}.
+     *
+     * @param keys brands and products to warm
+     * @param from first date to warm
+     * @param horizon span of dates to warm, the bucket of {@code from} is always warmed
+     * @param timeout maximum duration of the warm-up
+     * @return number of buckets loaded
+     */
+    public int warm(Collection<PriceKey> keys, LocalDateTime from, Duration horizon, Duration timeout) {
+        Objects.requireNonNull(keys, "keys cannot be null");
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(horizon, "horizon cannot be null");
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger loaded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "price-cache-warm-up-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalDateTime until = from.plus(horizon);
+        for (PriceKey key : keys) {
+            LocalDateTime date = PriceBucketKey.of(key.getBrandId(), key.getProductId(), from, bucket).getFrom();
+            do {
+                LocalDateTime applicationDate = date.isBefore(from) ? from : date;
+                executor.execute(() -> {
+                    try {
+                        pricePort.execute(key.getProductId(), key.getBrandId(), applicationDate);
+                        loaded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if (failed.getAndIncrement() == 0) {
+                            log.warn("Could not warm the prices of {} at {}", key, applicationDate, e);
+                        }
+                    }
+                });
+                date = date.plus(bucket);
+            } while (date.isBefore(until));
+        }
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+                log.warn("Cache warm-up timed out after {}, {} buckets loaded", timeout, loaded.get());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        if (failed.get() > 0) {
+            log.warn("Cache warm-up skipped {} buckets that could not be loaded", failed.get());
+        }
+        return loaded.get();
+    }
+}
\ No newline at end of file
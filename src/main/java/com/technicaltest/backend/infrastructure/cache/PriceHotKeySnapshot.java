@@ -0,0 +1,128 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * File holding the hottest products of the local cache, one {@code brandId:productId} per line, hottest first.
+ * Written on shutdown from the access frequencies Caffeine keeps for its size-based eviction, so no
+ * extra bookkeeping is done on the lookup path, and read on startup to warm the next instance.
+ */
+public class PriceHotKeySnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceHotKeySnapshot.class);
+
+    private final Path path;
+    private final Cache cache;
+    private final int size;
+
+    /**
+     * @param path snapshot file
+     * @param cache local bucket cache
+     * @param size maximum number of products written
+     */
+    public PriceHotKeySnapshot(Path path, Cache cache, int size) {
+        this.path = Objects.requireNonNull(path, "path cannot be null");
+        this.cache = Objects.requireNonNull(cache, "cache cannot be null");
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return the products of the snapshot, hottest first, empty if there is no snapshot yet
+     * @throws UncheckedIOException if the snapshot cannot be read
+     * @throws IllegalArgumentException if the snapshot is malformed
+     */
+    public List<PriceKey> read() {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        try {
+            List<PriceKey> keys = new ArrayList<>();
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    keys.add(parse(line.trim()));
+                }
+            }
+            return keys;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read hot key snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Writes the hottest products of the cache, replacing the previous snapshot. Never fails, so that it
+     * can run on shutdown: errors are logged.
+     */
+    public void write() {
+        List<PriceKey> keys = hottest();
+        if (keys.isEmpty()) {
+            return;
+        }
+        StringBuilder content = new StringBuilder(keys.size() * 16);
+        for (PriceKey key : keys) {
+            content.append(key.getBrandId()).append(':').append(key.getProductId()).append('\n');
+        }
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (Objects.nonNull(parent)) {
+                Files.createDirectories(parent);
+            }
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            Files.writeString(temporary, content, StandardCharsets.UTF_8);
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Wrote {} hot keys to snapshot {}", keys.size(), path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write hot key snapshot {}", path, e);
+        }
+    }
+
+    /**
+     * @return the distinct products of the cached buckets, hottest first, or none if the cache is not Caffeine
+     */
+    List<PriceKey> hottest() {
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            return List.of();
+        }
+        return caffeine.policy().eviction()
+                .map(eviction -> eviction.hottest(entries -> entries
+                        .map(Map.Entry::getKey)
+                        .filter(PriceBucketKey.class::isInstance)
+                        .map(PriceBucketKey.class::cast)
+                        .map(key -> new PriceKey(key.getBrandId(), key.getProductId()))
+                        .distinct()
+                        .limit(size)
+                        .toList()))
+                .orElse(List.of());
+    }
+
+    /**
+     * @param key product as {@code brandId:productId}
+     * @return the parsed product
+     * @throws IllegalArgumentException if the product is malformed
+     */
+    public static PriceKey parse(String key) {
+        int separator = key.indexOf(':');
+        try {
+            return new PriceKey(Long.parseLong(key.substring(0, separator).trim()),
+                    Long.parseLong(key.substring(separator + 1).trim()));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed hot key, expected brandId:productId: " + key, e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Shared cache tier on any server speaking the Redis protocol.
+ * A bucket is one {@code HGET}; caching one is a script that checks the generation of its product and, if it has
+ * not moved, runs an {@code HSET} and sets the expiry of the hash when it was just created, so every bucket of a
+ * product lives until {@code expireAfterWrite} after the first one cached. An invalidation {@code INCR}s the
+ * generations and deletes the hashes of the changed products, then publishes them on the invalidation channel.
+ * Generations never expire: a product that lost its counter could accept a write read before its last change.
+ * The tier is best effort: when the server cannot be reached, lookups fall back to the repository.
+ */
+public class RedisSharedPriceCache implements SharedPriceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSharedPriceCache.class);
+
+    // KEYS: product hash, generation counter; ARGV: expected generation, bucket field, value, expiry in millis
+    private static final RedisScript<Long> PUT_IF_CURRENT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            if redis.call('PTTL', KEYS[1]) == -1 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private final RedisOperations<String, byte[]> redis;
+    private final HashOperations<String, String, byte[]> buckets;
+    private final ValueOperations<String, byte[]> counters;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+    private final Duration expireAfterWrite;
+
+    /**
+     * @param redis operations with string keys and hash fields and binary values
+     * @param listenerContainer container receiving the invalidation broadcasts
+     * @param channel channel the invalidations are published on
+     * @param expireAfterWrite time to live of the cached buckets of a product
+     */
+    public RedisSharedPriceCache(RedisOperations<String, byte[]> redis,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 String channel, Duration expireAfterWrite) {
+        this.redis = Objects.requireNonNull(redis, "redis cannot be null");
+        this.buckets = redis.opsForHash();
+        this.counters = redis.opsForValue();
+        this.listenerContainer = Objects.requireNonNull(listenerContainer, "listenerContainer cannot be null");
+        this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+        this.expireAfterWrite = Objects.requireNonNull(expireAfterWrite, "expireAfterWrite cannot be null");
+    }
+
+    @Override
+    public Optional<List<Price>> get(PriceBucketKey key) {
+        try {
+            byte[] encoded = buckets.get(
+                    PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()), PriceCacheCodec.bucketField(key));
+            return Objects.isNull(encoded) ? Optional.empty() : Optional.of(PriceCacheCodec.decodePrices(key, encoded));
+        } catch (DataAccessException | IllegalArgumentException e) {
+            log.warn("Cannot read {} from the shared price cache: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public OptionalLong generation(PriceKey key) {
+        try {
+            byte[] generation = counters.get(PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId()));
+            return OptionalLong.of(Objects.isNull(generation)
+                    ? 0L : Long.parseLong(new String(generation, StandardCharsets.US_ASCII)));
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Cannot read the generation of {} from the shared price cache: {}", key, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public void put(PriceBucketKey key, long generation, List<Price> prices) {
+        try {
+            redis.execute(PUT_IF_CURRENT,
+                    List.of(PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()),
+                            PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId())),
+                    ascii(generation), PriceCacheCodec.bucketField(key).getBytes(StandardCharsets.UTF_8),
+                    PriceCacheCodec.encodePrices(prices), ascii(expireAfterWrite.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Cannot write {} to the shared price cache: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidate(Set<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            keys.forEach(key -> counters.increment(PriceCacheCodec.generationKey(key.getBrandId(), key.getProductId())));
+            redis.delete(keys.stream()
+                    .map(key -> PriceCacheCodec.productKey(key.getBrandId(), key.getProductId()))
+                    .collect(Collectors.toList()));
+            redis.convertAndSend(channel, PriceCacheCodec.encodeInvalidation(keys));
+        } catch (DataAccessException e) {
+            log.warn("Cannot invalidate {} products in the shared price cache: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Set<PriceKey>> listener) {
+        Objects.requireNonNull(listener, "listener cannot be null");
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(PriceCacheCodec.decodeInvalidation(message.getBody()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring shared price cache invalidation: {}", e.getMessage());
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+}
\ No newline at end of file
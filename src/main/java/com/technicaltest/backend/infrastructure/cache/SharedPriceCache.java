@@ -0,0 +1,60 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Second cache tier, shared by every replica of the service, holding the prices the repository returned
+ * for a bucket. Sits behind the local bucket cache of each replica and in front of the repository, so a
+ * replica that just started, or just evicted a bucket, reads it from its peers' work instead of the database.
+ * Keys and values are encoded by {@link PriceCacheCodec}, the same way by every implementation.
+ *
+ * <p>Every product has a generation that each invalidation moves forward. A replica reads it before querying
+ * the repository and shares what it read only if the generation has not moved since, so prices read before
+ * a change can never be shared after the change was invalidated.
+ */
+public interface SharedPriceCache {
+
+    /**
+     * @param key bucket to read
+     * @return the prices of the bucket, possibly none, or empty if the bucket is not cached or the tier is unavailable
+     */
+    Optional<List<Price>> get(PriceBucketKey key);
+
+    /**
+     * @param key brand and product about to be read from the repository
+     * @return current generation of the product, or empty if the tier is unavailable
+     */
+    OptionalLong generation(PriceKey key);
+
+    /**
+     * Caches the prices the repository returned for a bucket, unless its product was invalidated since
+     * the generation was read. Failures are ignored, the tier being a cache.
+     *
+     * @param key bucket the prices were read for
+     * @param generation generation of the product read before querying the repository
+     * @param prices prices of the bucket, possibly none
+     */
+    void put(PriceBucketKey key, long generation, List<Price> prices);
+
+    /**
+     * Moves the generation of the given products forward, removes every cached bucket of them and broadcasts
+     * the invalidation to every replica, this one included.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    void invalidate(Set<PriceKey> keys);
+
+    /**
+     * Registers a listener of the invalidations broadcast by any replica.
+     *
+     * @param listener receives the brands and products whose prices changed
+     */
+    void subscribe(Consumer<Set<PriceKey>> listener);
+}
\ No newline at end of file
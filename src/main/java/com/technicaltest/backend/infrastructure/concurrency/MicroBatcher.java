@@ -0,0 +1,122 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Groups independent requests arriving within a short window into one batch, resolved with a single call.
+ * The first request of a batch leads it: it waits for the window to elapse, or for the batch to reach its
+ * maximum size, then resolves the whole batch on its own thread and hands every other caller its result.
+ * No thread is spent when nothing is pending, and a request waits at most the window plus the batch call.
+ * Requests only share a batch within the same group, for instance the same query shape.
+ *
+ * @param <G> group of requests that can be resolved together
+ * @param <Q> request
+ * @param <V> result of a request
+ */
+public class MicroBatcher<G, Q, V> {
+
+    private final long windowNanos;
+    private final int maxSize;
+    private final BiFunction<G, List<Q>, List<V>> resolver;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<G, Batch<G, Q, V>> open = new HashMap<>();
+
+    /**
+     * @param window how long the first request of a batch waits for others
+     * @param maxSize number of requests that closes a batch before its window elapses
+     * @param resolver resolves the requests of a group, returning their results in the same order
+     */
+    public MicroBatcher(Duration window, int maxSize, BiFunction<G, List<Q>, List<V>> resolver) {
+        this.windowNanos = Objects.requireNonNull(window, "window cannot be null").toNanos();
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.resolver = Objects.requireNonNull(resolver, "resolver cannot be null");
+    }
+
+    /**
+     * Adds a request to the open batch of its group and waits for its result.
+     *
+     * @param group group of the request
+     * @param request request to resolve
+     * @return the result of the request
+     */
+    public V submit(G group, Q request) {
+        Batch<G, Q, V> batch;
+        int position;
+        boolean leader = false;
+        lock.lock();
+        try {
+            batch = open.get(group);
+            if (Objects.isNull(batch)) {
+                batch = new Batch<>(group);
+                open.put(group, batch);
+                leader = true;
+            }
+            position = batch.requests.size();
+            batch.requests.add(request);
+            if (batch.requests.size() >= maxSize) {
+                open.remove(group);
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            lead(batch);
+        }
+        try {
+            return batch.results.join().get(position);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private void lead(Batch<G, Q, V> batch) {
+        try {
+            batch.full.await(windowNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            open.remove(batch.group, batch);
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            batch.results.complete(resolver.apply(batch.group, batch.requests));
+        } catch (RuntimeException | Error e) {
+            batch.results.completeExceptionally(e);
+        }
+    }
+
+    private static final class Batch<G, Q, V> {
+
+        private final G group;
+        private final List<Q> requests = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+        private final CompletableFuture<List<V>> results = new CompletableFuture<>();
+
+        private Batch(G group) {
+            this.group = group;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Micro-batches the single lookups of the repository port: lookups arriving within a short window are
+ * resolved together with the multi-key queries of the port, one round trip for the whole batch.
+ * Highest priority lookups go through {@link PriceRepositoryPort#findApplicablePrices(java.util.Collection)},
+ * selecting the winner of each lookup as the batch use case does; interval lookups with the same interval,
+ * such as the cache bucket loads of concurrent lookups, go through
+ * {@link PriceRepositoryPort#findPricesBetween(java.util.Collection, LocalDateTime, LocalDateTime)}.
+ * Batches are resolved through the repository bean, so they get the same metrics and transaction handling
+ * as any other call. Calls made inside a transaction are never batched.
+ * The number of lookups per batch is recorded, tagged with the method, in the distribution named at
+ * construction.
+ */
+public class PriceLookupBatchingInterceptor implements MethodInterceptor {
+
+    private static final String HIGHEST_PRIORITY = "findHighestPriorityPrice";
+    private static final String BETWEEN = "findPricesBetween";
+
+    private final Supplier<PriceRepositoryPort> priceRepository;
+    private final MicroBatcher<String, PriceQuery, Optional<Price>> highestPriorityLookups;
+    private final MicroBatcher<List<LocalDateTime>, PriceKey, List<Price>> betweenLookups;
+    private final Supplier<DistributionSummary> highestPriorityBatchSizes;
+    private final Supplier<DistributionSummary> betweenBatchSizes;
+
+    /**
+     * @param window how long the first lookup of a batch waits for others
+     * @param maxSize number of lookups that closes a batch before its window elapses
+     * @param batchSizeName name of the distribution of lookups per batch
+     * @param priceRepository repository bean the batches are resolved with
+     * @param meterRegistry registry holding the distributions
+     */
+    public PriceLookupBatchingInterceptor(Duration window, int maxSize, String batchSizeName,
+                                          Supplier<PriceRepositoryPort> priceRepository,
+                                          Supplier<MeterRegistry> meterRegistry) {
+        Objects.requireNonNull(batchSizeName, "batchSizeName cannot be null");
+        Objects.requireNonNull(meterRegistry, "meterRegistry cannot be null");
+        this.priceRepository = SingletonSupplier.of(
+                Objects.requireNonNull(priceRepository, "priceRepository cannot be null"));
+        this.highestPriorityLookups = new MicroBatcher<>(window, maxSize, this::findHighestPriorityPrices);
+        this.betweenLookups = new MicroBatcher<>(window, maxSize, this::findPricesBetween);
+        this.highestPriorityBatchSizes = SingletonSupplier.of(
+                () -> batchSizes(batchSizeName, HIGHEST_PRIORITY, meterRegistry.get()));
+        this.betweenBatchSizes = SingletonSupplier.of(
+                () -> batchSizes(batchSizeName, BETWEEN, meterRegistry.get()));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                || !(arguments[0] instanceof Long productId) || !(arguments[1] instanceof Long brandId)
+                || !(arguments[2] instanceof LocalDateTime date)) {
+            return invocation.proceed();
+        }
+
+        if (HIGHEST_PRIORITY.equals(invocation.getMethod().getName())) {
+            return highestPriorityLookups.submit(HIGHEST_PRIORITY, new PriceQuery(productId, brandId, date));
+        }
+        if (arguments.length == 4 && arguments[3] instanceof LocalDateTime to) {
+            return betweenLookups.submit(List.of(date, to), new PriceKey(brandId, productId));
+        }
+        return invocation.proceed();
+    }
+
+    private List<Optional<Price>> findHighestPriorityPrices(String method, List<PriceQuery> queries) {
+        highestPriorityBatchSizes.get().record(queries.size());
+        Map<PriceKey, List<Price>> candidates = priceRepository.get().findApplicablePrices(queries)
+                .stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+        return queries.stream()
+                .map(query -> candidates.getOrDefault(query.getKey(), List.of())
+                        .stream()
+                        .filter(price -> price.isApplicableAt(query.getApplicationDate()))
+                        .max(Price.PRIORITY_ORDER))
+                .collect(Collectors.toList());
+    }
+
+    private List<List<Price>> findPricesBetween(List<LocalDateTime> interval, List<PriceKey> keys) {
+        betweenBatchSizes.get().record(keys.size());
+        Map<PriceKey, List<Price>> prices = priceRepository.get()
+                .findPricesBetween(new LinkedHashSet<>(keys), interval.get(0), interval.get(1))
+                .stream()
+                .collect(Collectors.groupingBy(PriceKey::of));
+        return keys.stream()
+                .map(key -> prices.getOrDefault(key, List.of()))
+                .collect(Collectors.toList());
+    }
+
+    private static DistributionSummary batchSizes(String name, String method, MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(name)
+                .description("Lookups resolved per batch query")
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical calls of a port into one: the first caller runs the call and every
+ * caller arriving with the same method and arguments while it is in flight waits for it and gets the
+ * same result, or the same exception, instead of running its own query.
+ * Results are shared between callers, so they must be treated as read only, and a waiter may get the
+ * answer of a query that started up to one query time before its own call.
+ * Calls made inside a transaction are never coalesced, so they keep reading what the transaction sees.
+ * Every coalesced call is counted, tagged with the method, in the counter named at construction.
+ */
+public class SingleFlightInterceptor implements MethodInterceptor {
+
+    private final String coalescedName;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Call, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Counter> coalesced = new ConcurrentHashMap<>();
+
+    /**
+     * @param coalescedName name of the counter of coalesced calls
+     * @param meterRegistry registry holding the counters
+     */
+    public SingleFlightInterceptor(String coalescedName, Supplier<MeterRegistry> meterRegistry) {
+        this.coalescedName = Objects.requireNonNull(coalescedName, "coalescedName cannot be null");
+        this.meterRegistry = SingletonSupplier.of(
+                Objects.requireNonNull(meterRegistry, "meterRegistry cannot be null"));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+
+        Call call = new Call(invocation.getMethod(), invocation.getArguments());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(call, flight);
+        if (Objects.nonNull(leader)) {
+            coalesced.computeIfAbsent(call.method, method -> Counter.builder(coalescedName)
+                    .description("Calls answered by an identical call already in flight")
+                    .tag("method", method.getName())
+                    .register(meterRegistry.get())).increment();
+            return await(leader);
+        }
+
+        try {
+            Object result = invocation.proceed();
+            flight.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(call, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> leader) throws Throwable {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class Call {
+
+        private final Method method;
+        private final Object[] arguments;
+        private final int hash;
+
+        private Call(Method method, Object[] arguments) {
+            this.method = method;
+            this.arguments = arguments;
+            this.hash = 31 * method.hashCode() + Arrays.hashCode(arguments);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Call that)) return false;
+            return hash == that.hash && method.equals(that.method) && Arrays.equals(arguments, that.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
\ No newline at end of file
@@ -1,8 +1,16 @@
 package com.technicaltest.backend.infrastructure.config;
 
+import com.technicaltest.backend.application.service.ExportPricesUseCase;
 import com.technicaltest.backend.application.service.GetApplicablePriceUseCase;
+import com.technicaltest.backend.application.service.GetPriceHistoryUseCase;
+import com.technicaltest.backend.application.service.SavePriceUseCase;
+import com.technicaltest.backend.domain.port.in.ExportPricesPort;
 import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.in.GetPriceHistoryPort;
+import com.technicaltest.backend.domain.port.in.SavePricePort;
+import com.technicaltest.backend.domain.port.out.PriceExportRepositoryPort;
 import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,4 +32,37 @@ public class BeanConfiguration {
     public GetApplicablePricePort getApplicablePricePort(PriceRepositoryPort priceRepositoryPort) {
         return new GetApplicablePriceUseCase(priceRepositoryPort);
     }
+
+    /**
+     * Creates the GetPriceHistoryPort bean.
+     *
+     * @param priceRepositoryPort implementation of the repository port
+     * @return configured use case instance as port interface
+     */
+    @Bean
+    public GetPriceHistoryPort getPriceHistoryPort(PriceRepositoryPort priceRepositoryPort) {
+        return new GetPriceHistoryUseCase(priceRepositoryPort);
+    }
+
+    /**
+     * Creates the SavePricePort bean.
+     *
+     * @param priceWriteRepositoryPort implementation of the write repository port
+     * @return configured use case instance as port interface
+     */
+    @Bean
+    public SavePricePort savePricePort(PriceWriteRepositoryPort priceWriteRepositoryPort) {
+        return new SavePriceUseCase(priceWriteRepositoryPort);
+    }
+
+    /**
+     * Creates the ExportPricesPort bean.
+     *
+     * @param priceExportRepositoryPort implementation of the export repository port
+     * @return configured use case instance as port interface
+     */
+    @Bean
+    public ExportPricesPort exportPricesPort(PriceExportRepositoryPort priceExportRepositoryPort) {
+        return new ExportPricesUseCase(priceExportRepositoryPort);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.aop.PortInterceptorPostProcessor;
+import com.technicaltest.backend.infrastructure.concurrency.PriceLookupBatchingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Spring configuration for the micro-batching of repository lookups: single lookups arriving within
+ * {@code prices.batching.window} of each other, or until {@code prices.batching.max-size} of them, are
+ * resolved with one multi-key query. It runs behind the single-flight layer, so identical lookups still
+ * share a single slot of a batch, and behind the repository metrics, whose timer includes the time spent
+ * waiting for the batch; {@code prices.repository.batch.size} records the lookups per batch query.
+ * Disabled unless {@code prices.batching.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceBatchingProperties.class)
+@ConditionalOnProperty(name = "prices.batching.enabled", havingValue = "true")
+public class PriceBatchingConfiguration {
+
+    public static final String BATCH_SIZE = "prices.repository.batch.size";
+
+    /**
+     * Batches the single lookups of the repository port. Applied before the single-flight and metrics
+     * post processors, so it ends up behind them.
+     *
+     * @param properties batching settings
+     * @param priceRepository repository bean, resolved when the first batch is queried
+     * @param meterRegistry registry holding the batch sizes
+     * @return post processor adding micro-batching to the PriceRepositoryPort bean
+     */
+    @Bean
+    public static PortInterceptorPostProcessor batchingPostProcessor(
+            PriceBatchingProperties properties,
+            ObjectProvider<PriceRepositoryPort> priceRepository,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        PortInterceptorPostProcessor postProcessor = new PortInterceptorPostProcessor(PriceRepositoryPort.class,
+                Set.of("findHighestPriorityPrice", "findPricesBetween"),
+                new PriceLookupBatchingInterceptor(properties.getWindow(), properties.getMaxSize(), BATCH_SIZE,
+                        priceRepository::getObject, meterRegistry::getObject));
+        postProcessor.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        return postProcessor;
+    }
+}
\ No newline at end of file
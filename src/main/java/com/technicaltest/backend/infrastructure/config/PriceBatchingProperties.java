@@ -0,0 +1,38 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the micro-batching of repository lookups, bound from {@code prices.batching.*}.
+ */
+@ConfigurationProperties(prefix = "prices.batching")
+public class PriceBatchingProperties {
+
+    /**
+     * Whether concurrent lookups are grouped into batch queries, trading up to one window of latency
+     * for fewer database round trips.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long the first lookup of a batch waits for others before the batch is queried.
+     */
+    private Duration window = Duration.ofMillis(2);
+
+    /**
+     * Number of lookups that closes a batch before its window elapses.
+     */
+    private int maxSize = 64;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getWindow() { return window; }
+    public void setWindow(Duration window) { this.window = window; }
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+}
\ No newline at end of file
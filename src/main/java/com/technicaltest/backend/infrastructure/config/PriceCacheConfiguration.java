@@ -0,0 +1,213 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.cache.CachingGetApplicablePricePort;
+import com.technicaltest.backend.infrastructure.cache.PriceCacheGenerations;
+import com.technicaltest.backend.infrastructure.cache.PriceCacheInvalidator;
+import com.technicaltest.backend.infrastructure.cache.PriceCacheWarmer;
+import com.technicaltest.backend.infrastructure.cache.PriceHotKeySnapshot;
+import com.technicaltest.backend.infrastructure.cache.SharedPriceCache;
+import com.technicaltest.backend.infrastructure.persistence.adapter.JdbcTopPriceKeysAdapter;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Spring configuration for the applicable-price cache.
+ * Registers a bounded Caffeine cache with statistics and exposes the caching port as the
+ * primary GetApplicablePricePort, leaving the plain use case bean untouched. When a
+ * {@link SharedPriceCache} is configured, it becomes the second tier of the caching port.
+ * With {@code prices.cache.warm-up.enabled=true}, the hottest products are loaded before the
+ * instance reports ready.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceCacheProperties.class)
+@ConditionalOnProperty(name = "prices.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceCacheConfiguration {
+
+    public static final String PRICES_CACHE = "prices";
+
+    private static final Logger log = LoggerFactory.getLogger(PriceCacheConfiguration.class);
+
+    /**
+     * Registers the prices cache: size bounded, with a shorter time to live for empty
+     * buckets so that newly created prices are not hidden by the negative cache for long.
+     *
+     * @param properties cache settings
+     * @return customizer of the Caffeine cache manager
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> priceCacheCustomizer(PriceCacheProperties properties) {
+        return cacheManager -> cacheManager.registerCustomCache(PRICES_CACHE, Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new PriceTimelineExpiry(
+                        properties.getExpireAfterWrite().toNanos(),
+                        properties.getNotFoundExpireAfterWrite().toNanos()))
+                .recordStats()
+                .build());
+    }
+
+    /**
+     * Creates the caching GetApplicablePricePort bean, preferred over the plain use case.
+     *
+     * @param priceRepositoryPort implementation of the repository port
+     * @param cacheManager cache manager holding the prices cache
+     * @param properties cache settings
+     * @param sharedPriceCache shared tier, if any
+     * @param priceCacheGenerations stamps of the prices cache
+     * @return caching port
+     */
+    @Bean
+    @Primary
+    public GetApplicablePricePort cachingGetApplicablePricePort(
+            PriceRepositoryPort priceRepositoryPort,
+            CacheManager cacheManager,
+            PriceCacheProperties properties,
+            ObjectProvider<SharedPriceCache> sharedPriceCache,
+            PriceCacheGenerations priceCacheGenerations) {
+        return new CachingGetApplicablePricePort(priceRepositoryPort, cacheManager.getCache(PRICES_CACHE),
+                properties.getBucket(), sharedPriceCache.getIfAvailable(), priceCacheGenerations);
+    }
+
+    /**
+     * Creates the invalidation stamps of the prices cache, read by the caching port and advanced by the
+     * invalidator.
+     *
+     * @return stamps of the prices cache
+     */
+    @Bean
+    public PriceCacheGenerations priceCacheGenerations() {
+        return new PriceCacheGenerations();
+    }
+
+    /**
+     * Evicts the cached buckets of changed products, after the indexes they are reloaded from,
+     * and of the products whose invalidation another replica broadcast through the shared tier.
+     *
+     * @param cacheManager cache manager holding the prices cache
+     * @param sharedPriceCache shared tier, if any
+     * @param priceCacheGenerations stamps of the prices cache
+     * @return listener of the price change feed
+     */
+    @Bean
+    @Order(PriceChangeListener.CACHE_ORDER)
+    public PriceCacheInvalidator priceCacheInvalidator(CacheManager cacheManager,
+                                                       ObjectProvider<SharedPriceCache> sharedPriceCache,
+                                                       PriceCacheGenerations priceCacheGenerations) {
+        SharedPriceCache shared = sharedPriceCache.getIfAvailable();
+        PriceCacheInvalidator invalidator = new PriceCacheInvalidator(cacheManager.getCache(PRICES_CACHE), shared,
+                priceCacheGenerations);
+        if (Objects.nonNull(shared)) {
+            shared.subscribe(invalidator::evict);
+        }
+        return invalidator;
+    }
+
+    /**
+     * Creates the hot key snapshot, written on shutdown with the hottest products of the cache so that
+     * the next instance warms them. Only registered when {@code prices.cache.warm-up.snapshot-path} is set.
+     *
+     * @param cacheManager cache manager holding the prices cache
+     * @param properties cache settings
+     * @return the hot key snapshot
+     */
+    @Bean(destroyMethod = "write")
+    @ConditionalOnProperty(name = "prices.cache.warm-up.snapshot-path")
+    public PriceHotKeySnapshot priceHotKeySnapshot(CacheManager cacheManager, PriceCacheProperties properties) {
+        PriceCacheProperties.WarmUp warmUp = properties.getWarmUp();
+        return new PriceHotKeySnapshot(warmUp.getSnapshotPath(), cacheManager.getCache(PRICES_CACHE),
+                warmUp.getSnapshotSize());
+    }
+
+    /**
+     * Creates the warm-up, which loads the buckets of the configured products, of the hot key snapshot and
+     * of the top-N query through the caching port. Application runners complete before the instance
+     * reports ready, so the readiness probe only succeeds once the cache is warm or the warm-up timed out.
+     * An unreadable snapshot or a failed top-N query is logged and the other products are still warmed.
+     *
+     * @param getApplicablePricePort caching port the buckets are loaded through
+     * @param topPriceKeys top-N query on PRICES
+     * @param hotKeySnapshot hot key snapshot, if any
+     * @param properties cache settings
+     * @return the warm-up job
+     */
+    @Bean
+    @ConditionalOnProperty(name = "prices.cache.warm-up.enabled", havingValue = "true")
+    public ApplicationRunner priceCacheWarmUpRunner(GetApplicablePricePort getApplicablePricePort,
+                                                    JdbcTopPriceKeysAdapter topPriceKeys,
+                                                    ObjectProvider<PriceHotKeySnapshot> hotKeySnapshot,
+                                                    PriceCacheProperties properties) {
+        PriceCacheProperties.WarmUp warmUp = properties.getWarmUp();
+        Set<PriceKey> configuredKeys = new LinkedHashSet<>();
+        warmUp.getKeys().forEach(key -> configuredKeys.add(PriceHotKeySnapshot.parse(key)));
+        PriceCacheWarmer warmer = new PriceCacheWarmer(
+                getApplicablePricePort, properties.getBucket(), warmUp.getParallelism());
+        return args -> {
+            long start = System.nanoTime();
+            LocalDateTime from = LocalDateTime.now();
+            Set<PriceKey> keys = new LinkedHashSet<>(configuredKeys);
+            hotKeySnapshot.ifAvailable(snapshot -> {
+                try {
+                    keys.addAll(snapshot.read());
+                } catch (RuntimeException e) {
+                    log.warn("Ignoring unreadable hot key snapshot", e);
+                }
+            });
+            try {
+                keys.addAll(topPriceKeys.findTopKeys(from, from.plus(warmUp.getHorizon()), warmUp.getTopN()));
+            } catch (RuntimeException e) {
+                log.warn("Warming the prices cache without the top products, whose query failed", e);
+            }
+            int loaded = warmer.warm(keys, from, warmUp.getHorizon(), warmUp.getTimeout());
+            log.info("Warmed the prices cache with {} buckets of {} products in {} ms",
+                    loaded, keys.size(), (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+
+    private static final class PriceTimelineExpiry implements Expiry<Object, Object> {
+
+        private final long foundNanos;
+        private final long notFoundNanos;
+
+        private PriceTimelineExpiry(long foundNanos, long notFoundNanos) {
+            this.foundNanos = foundNanos;
+            this.notFoundNanos = notFoundNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return value instanceof PriceTimeline timeline && timeline.isEmpty() ? notFoundNanos : foundNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,175 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration of the applicable-price cache, bound from {@code prices.cache.*}.
+ */
+@ConfigurationProperties(prefix = "prices.cache")
+public class PriceCacheProperties {
+
+    /**
+     * Whether lookups are served through the cache.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Size of the time bucket whose prices are cached together.
+     */
+    private Duration bucket = Duration.ofHours(1);
+
+    /**
+     * Maximum number of cached buckets.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * Time to live of a bucket with at least one price.
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+
+    /**
+     * Time to live of a bucket without prices (negative cache).
+     */
+    private Duration notFoundExpireAfterWrite = Duration.ofMinutes(1);
+
+    /**
+     * Cache tier shared by every replica, behind the local one.
+     */
+    private final Shared shared = new Shared();
+
+    /**
+     * Preloading of the hottest products at startup.
+     */
+    private final WarmUp warmUp = new WarmUp();
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getBucket() { return bucket; }
+    public void setBucket(Duration bucket) { this.bucket = bucket; }
+
+    public long getMaximumSize() { return maximumSize; }
+    public void setMaximumSize(long maximumSize) { this.maximumSize = maximumSize; }
+
+    public Duration getExpireAfterWrite() { return expireAfterWrite; }
+    public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+
+    public Duration getNotFoundExpireAfterWrite() { return notFoundExpireAfterWrite; }
+    public void setNotFoundExpireAfterWrite(Duration notFoundExpireAfterWrite) {
+        this.notFoundExpireAfterWrite = notFoundExpireAfterWrite;
+    }
+
+    public Shared getShared() { return shared; }
+
+    public WarmUp getWarmUp() { return warmUp; }
+
+    /**
+     * Configuration of the shared cache tier, bound from {@code prices.cache.shared.*}.
+     */
+    public static class Shared {
+
+        /**
+         * Shared tier: none, redis (any server speaking the Redis protocol, see {@code spring.data.redis.*})
+         * or local (an in-process stand-in).
+         */
+        private String type = "none";
+
+        /**
+         * Time to live of the cached buckets of a product, counted from the last one cached.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+
+        /**
+         * Channel the invalidations are broadcast on.
+         */
+        private String channel = "prices:invalidations";
+
+        // Getters and Setters
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+
+        public Duration getExpireAfterWrite() { return expireAfterWrite; }
+        public void setExpireAfterWrite(Duration expireAfterWrite) { this.expireAfterWrite = expireAfterWrite; }
+
+        public String getChannel() { return channel; }
+        public void setChannel(String channel) { this.channel = channel; }
+    }
+
+    /**
+     * Configuration of the startup warm-up, bound from {@code prices.cache.warm-up.*}.
+     */
+    public static class WarmUp {
+
+        /**
+         * Whether the hottest products are loaded into the cache before the instance reports ready.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Products always warmed, as {@code brandId:productId}.
+         */
+        private List<String> keys = new ArrayList<>();
+
+        /**
+         * File the hottest products are written to on shutdown and read from on startup, none if unset.
+         */
+        private Path snapshotPath;
+
+        /**
+         * Maximum number of products written to the snapshot.
+         */
+        private int snapshotSize = 1000;
+
+        /**
+         * Number of products warmed from the top-N query on PRICES, 0 to skip it.
+         */
+        private int topN = 0;
+
+        /**
+         * Span of dates warmed from startup on, the current bucket is always warmed.
+         */
+        private Duration horizon = Duration.ofHours(1);
+
+        /**
+         * Number of concurrent lookups.
+         */
+        private int parallelism = 4;
+
+        /**
+         * Maximum duration of the warm-up, after which the instance reports ready with what is loaded.
+         */
+        private Duration timeout = Duration.ofSeconds(30);
+
+        // Getters and Setters
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+        public List<String> getKeys() { return keys; }
+        public void setKeys(List<String> keys) { this.keys = keys; }
+
+        public Path getSnapshotPath() { return snapshotPath; }
+        public void setSnapshotPath(Path snapshotPath) { this.snapshotPath = snapshotPath; }
+
+        public int getSnapshotSize() { return snapshotSize; }
+        public void setSnapshotSize(int snapshotSize) { this.snapshotSize = snapshotSize; }
+
+        public int getTopN() { return topN; }
+        public void setTopN(int topN) { this.topN = topN; }
+
+        public Duration getHorizon() { return horizon; }
+        public void setHorizon(Duration horizon) { this.horizon = horizon; }
+
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+
+        public Duration getTimeout() { return timeout; }
+        public void setTimeout(Duration timeout) { this.timeout = timeout; }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeFeed;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Spring configuration for the price change feed.
+ * Enabled unless {@code prices.changes.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceChangeFeedProperties.class)
+@ConditionalOnProperty(name = "prices.changes.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceChangeFeedConfiguration {
+
+    /**
+     * Creates the feed that applies the PRICE_CHANGES outbox to every listener, in listener order.
+     *
+     * @param jdbcTemplate JDBC access to the outbox
+     * @param listeners in-process indexes and caches to keep fresh
+     * @param properties feed settings
+     * @return the change feed
+     */
+    @Bean
+    public PriceChangeFeed priceChangeFeed(JdbcTemplate jdbcTemplate,
+                                           ObjectProvider<PriceChangeListener> listeners,
+                                           PriceChangeFeedProperties properties) {
+        return new PriceChangeFeed(jdbcTemplate, listeners.orderedStream().toList(), properties);
+    }
+}
\ No newline at end of file
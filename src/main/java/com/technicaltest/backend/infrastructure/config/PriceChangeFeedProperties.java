@@ -0,0 +1,53 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the price change feed, bound from {@code prices.changes.*}.
+ */
+@ConfigurationProperties(prefix = "prices.changes")
+public class PriceChangeFeedProperties {
+
+    /**
+     * Whether in-process indexes and caches follow the PRICE_CHANGES outbox.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay between two polls of the outbox.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Maximum number of changes read per poll.
+     */
+    private int batchSize = 1_000;
+
+    /**
+     * How long a missing change identifier is waited for before the feed moves past it.
+     */
+    private Duration gapTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Age after which changes are purged from the outbox.
+     */
+    private Duration retention = Duration.ofHours(1);
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getPollInterval() { return pollInterval; }
+    public void setPollInterval(Duration pollInterval) { this.pollInterval = pollInterval; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Duration getGapTimeout() { return gapTimeout; }
+    public void setGapTimeout(Duration gapTimeout) { this.gapTimeout = gapTimeout; }
+
+    public Duration getRetention() { return retention; }
+    public void setRetention(Duration retention) { this.retention = retention; }
+}
\ No newline at end of file
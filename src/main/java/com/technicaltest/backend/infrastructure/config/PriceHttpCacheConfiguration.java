@@ -0,0 +1,30 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.infrastructure.api.PriceHttpCachePolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring configuration for the HTTP caching of price responses.
+ * Caching headers are added unless {@code prices.http-cache.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceHttpCacheProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PriceHttpCacheConfiguration {
+
+    /**
+     * Creates the caching policy of the price responses.
+     *
+     * @param properties HTTP caching settings
+     * @return the policy, disabled when HTTP caching is turned off
+     */
+    @Bean
+    public PriceHttpCachePolicy priceHttpCachePolicy(PriceHttpCacheProperties properties) {
+        return properties.isEnabled()
+                ? PriceHttpCachePolicy.of(properties.getMaxAge())
+                : PriceHttpCachePolicy.disabled();
+    }
+}
\ No newline at end of file
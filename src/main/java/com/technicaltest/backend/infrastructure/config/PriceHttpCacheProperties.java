@@ -0,0 +1,30 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the HTTP caching headers of price responses, bound from {@code prices.http-cache.*}.
+ */
+@ConfigurationProperties(prefix = "prices.http-cache")
+public class PriceHttpCacheProperties {
+
+    /**
+     * Whether price responses carry an ETag and a Cache-Control header and answer conditional requests.
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long CDNs and clients may reuse a price response before revalidating it, which bounds how
+     * long they may keep serving a price after it has been written.
+     */
+    private Duration maxAge = Duration.ofMinutes(1);
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getMaxAge() { return maxAge; }
+    public void setMaxAge(Duration maxAge) { this.maxAge = maxAge; }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.aop.PortInterceptorPostProcessor;
+import com.technicaltest.backend.infrastructure.cache.SharedPriceCache;
+import com.technicaltest.backend.infrastructure.metrics.PortMetricsInterceptor;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/**
+ * Spring configuration for the metrics of the price lookup hot path, one stage at a time:
+ * the lookup port ({@code prices.lookup}), the repository port ({@code prices.repository}, with the
+ * candidate prices read per call in {@code prices.repository.candidates}) and the entity mapper
+ * ({@code prices.mapper}), which only the write path uses since lookups are projected straight into
+ * the domain model. Reads of the shared cache tier are timed in {@code prices.cache.shared}, found on a hit.
+ * Local cache, HTTP and connection pool metrics come from Spring Boot.
+ * Enabled unless {@code prices.metrics.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "prices.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceMetricsConfiguration {
+
+    public static final String LOOKUP = "prices.lookup";
+    public static final String REPOSITORY = "prices.repository";
+    public static final String CANDIDATES = "prices.repository.candidates";
+    public static final String MAPPER = "prices.mapper";
+    public static final String SHARED_CACHE = "prices.cache.shared";
+
+    /**
+     * Times every call of the lookup ports, the caching one and the plain use case.
+     *
+     * @param meterRegistry registry holding the timers
+     * @return post processor instrumenting the GetApplicablePricePort beans
+     */
+    @Bean
+    public static PortInterceptorPostProcessor lookupMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortInterceptorPostProcessor(GetApplicablePricePort.class, Set.of(),
+                new PortMetricsInterceptor(LOOKUP, null, meterRegistry::getObject));
+    }
+
+    /**
+     * Times every call of the repository port and records how many prices each one returns.
+     *
+     * @param meterRegistry registry holding the timers and the candidate counts
+     * @return post processor instrumenting the PriceRepositoryPort bean
+     */
+    @Bean
+    public static PortInterceptorPostProcessor repositoryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortInterceptorPostProcessor(PriceRepositoryPort.class, Set.of(),
+                new PortMetricsInterceptor(REPOSITORY, CANDIDATES, meterRegistry::getObject));
+    }
+
+    /**
+     * Times the conversion of every entity written back into the domain model.
+     *
+     * @param meterRegistry registry holding the timer
+     * @return post processor instrumenting the PriceMapper bean
+     */
+    @Bean
+    public static PortInterceptorPostProcessor mapperMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortInterceptorPostProcessor(PriceMapper.class, Set.of("toDomain"),
+                new PortMetricsInterceptor(MAPPER, null, meterRegistry::getObject));
+    }
+
+    /**
+     * Times every call of the shared cache tier, tagging reads found on a hit and not_found on a miss.
+     *
+     * @param meterRegistry registry holding the timers
+     * @return post processor instrumenting the SharedPriceCache bean, if any
+     */
+    @Bean
+    public static PortInterceptorPostProcessor sharedCacheMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PortInterceptorPostProcessor(SharedPriceCache.class, Set.of(),
+                new PortMetricsInterceptor(SHARED_CACHE, null, meterRegistry::getObject));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.infrastructure.cache.InProcessSharedPriceCache;
+import com.technicaltest.backend.infrastructure.cache.RedisSharedPriceCache;
+import com.technicaltest.backend.infrastructure.cache.SharedPriceCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Spring configuration for the cache tier shared by every replica, selected with {@code prices.cache.shared.type}:
+ * {@code redis} for a server speaking the Redis protocol, reached through {@code spring.data.redis.*},
+ * or {@code local} for the in-process stand-in. Without one, each replica only caches locally.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceCacheProperties.class)
+@ConditionalOnProperty(name = "prices.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceSharedCacheConfiguration {
+
+    /**
+     * Creates the container receiving the invalidations broadcast by the other replicas.
+     *
+     * @param connectionFactory connection factory of the Redis server
+     * @return listener container, started with the context
+     */
+    @Bean
+    @ConditionalOnProperty(name = "prices.cache.shared.type", havingValue = "redis")
+    public RedisMessageListenerContainer priceInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    /**
+     * Creates the shared tier on the Redis server.
+     *
+     * @param connectionFactory connection factory of the Redis server
+     * @param priceInvalidationListenerContainer container receiving the invalidation broadcasts
+     * @param properties cache settings
+     * @return shared tier
+     */
+    @Bean
+    @ConditionalOnProperty(name = "prices.cache.shared.type", havingValue = "redis")
+    public SharedPriceCache redisSharedPriceCache(RedisConnectionFactory connectionFactory,
+                                                  RedisMessageListenerContainer priceInvalidationListenerContainer,
+                                                  PriceCacheProperties properties) {
+        RedisTemplate<String, byte[]> redis = new RedisTemplate<>();
+        redis.setConnectionFactory(connectionFactory);
+        redis.setKeySerializer(RedisSerializer.string());
+        redis.setHashKeySerializer(RedisSerializer.string());
+        redis.setValueSerializer(RedisSerializer.byteArray());
+        redis.setHashValueSerializer(RedisSerializer.byteArray());
+        redis.afterPropertiesSet();
+        return new RedisSharedPriceCache(redis, priceInvalidationListenerContainer,
+                properties.getShared().getChannel(), properties.getShared().getExpireAfterWrite());
+    }
+
+    /**
+     * Creates the in-process stand-in of the shared tier.
+     *
+     * @param properties cache settings
+     * @return shared tier
+     */
+    @Bean
+    @ConditionalOnProperty(name = "prices.cache.shared.type", havingValue = "local")
+    public SharedPriceCache inProcessSharedPriceCache(PriceCacheProperties properties) {
+        return new InProcessSharedPriceCache(properties.getShared().getExpireAfterWrite());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.aop.PortInterceptorPostProcessor;
+import com.technicaltest.backend.infrastructure.concurrency.SingleFlightInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Set;
+
+/**
+ * Spring configuration for the single-flight layer of the repository port: concurrent identical lookups,
+ * for instance of the same product during a flash sale or of the same cache bucket, share one query.
+ * It runs in front of the transaction of the adapters, so waiting callers hold no connection, and behind
+ * the repository metrics, so {@code prices.repository} still times every call; {@code prices.repository.coalesced}
+ * counts the calls that shared another one's query.
+ * Enabled unless {@code prices.single-flight.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "prices.single-flight.enabled", havingValue = "true", matchIfMissing = true)
+public class PriceSingleFlightConfiguration {
+
+    public static final String COALESCED = "prices.repository.coalesced";
+
+    /**
+     * Coalesces the concurrent identical lookups of the repository port. Applied before the metrics
+     * post processors, so it ends up behind them.
+     *
+     * @param meterRegistry registry holding the coalesced calls counter
+     * @return post processor adding single-flight to the PriceRepositoryPort bean
+     */
+    @Bean
+    public static PortInterceptorPostProcessor singleFlightPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        PortInterceptorPostProcessor postProcessor = new PortInterceptorPostProcessor(PriceRepositoryPort.class,
+                Set.of("findHighestPriorityPrice", "findApplicablePrices", "findPricesBetween"),
+                new SingleFlightInterceptor(COALESCED, meterRegistry::getObject));
+        postProcessor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return postProcessor;
+    }
+}
\ No newline at end of file
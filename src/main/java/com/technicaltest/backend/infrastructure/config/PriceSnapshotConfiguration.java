@@ -0,0 +1,58 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.infrastructure.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeOutbox;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceSnapshot;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Spring configuration for the snapshot file of the columnar price store.
+ * Active with {@code prices.repository.type=columnar}.
+ */
+@Configuration
+@EnableConfigurationProperties(PriceSnapshotProperties.class)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "columnar")
+public class PriceSnapshotConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceSnapshotConfiguration.class);
+
+    /**
+     * Creates the export job, which writes the database catalog to {@code prices.snapshot.path}
+     * once the application has started. Run it as a one-off process with
+     * {@code --spring.main.web-application-type=none} to exit when done. The outbox position is read
+     * before the catalog, so instances mapping the snapshot replay every change the catalog may miss.
+     *
+     * @param adapter columnar adapter that loads the catalog
+     * @param changeOutbox outbox the snapshot's change position is read from
+     * @param properties snapshot settings
+     * @return the export job
+     */
+    @Bean
+    @ConditionalOnProperty(name = "prices.snapshot.export", havingValue = "true")
+    public ApplicationRunner priceSnapshotExportRunner(ColumnarPriceRepositoryAdapter adapter,
+                                                       PriceChangeOutbox changeOutbox,
+                                                       PriceSnapshotProperties properties) {
+        return args -> {
+            if (Objects.isNull(properties.getPath())) {
+                throw new IllegalStateException("prices.snapshot.path must be set to export a snapshot");
+            }
+            long start = System.nanoTime();
+            Instant exportedAt = Instant.now();
+            long changePosition = changeOutbox.lastChange();
+            ColumnarPriceStore store = adapter.loadFromDatabase();
+            ColumnarPriceSnapshot.write(store, changePosition, exportedAt, properties.getPath());
+            log.info("Exported {} prices to snapshot {} at change position {} in {} ms",
+                    store.size(), properties.getPath(), changePosition, (System.nanoTime() - start) / 1_000_000);
+        };
+    }
+}
\ No newline at end of file
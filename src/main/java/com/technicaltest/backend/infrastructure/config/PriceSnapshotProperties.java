@@ -0,0 +1,30 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration of the columnar price snapshot file, bound from {@code prices.snapshot.*}.
+ */
+@ConfigurationProperties(prefix = "prices.snapshot")
+public class PriceSnapshotProperties {
+
+    /**
+     * Snapshot file mapped at startup instead of loading the catalog from the database.
+     * When unset or missing, the columnar store is loaded from the database.
+     */
+    private Path path;
+
+    /**
+     * Whether to export the database catalog to the snapshot file once the application has started.
+     */
+    private boolean export = false;
+
+    // Getters and Setters
+    public Path getPath() { return path; }
+    public void setPath(Path path) { this.path = path; }
+
+    public boolean isExport() { return export; }
+    public void setExport(boolean export) { this.export = export; }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.application.service.ReactiveGetApplicablePriceUseCase;
+import com.technicaltest.backend.domain.port.in.ReactiveGetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.ReactivePriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.adapter.R2dbcPriceRepositoryAdapter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Spring configuration for the reactive price query stack, active when the application
+ * runs on WebFlux ({@code reactive} profile).
+ * The R2DBC connection pool is deliberately not exposed as a {@code ConnectionFactory} bean:
+ * Spring Boot would then stop configuring the JDBC DataSource that Flyway and JPA rely on.
+ */
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePriceConfiguration implements DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    /**
+     * Creates the R2DBC client of the price store from the {@code spring.r2dbc} properties.
+     *
+     * @param properties R2DBC connection and pool settings
+     * @return client over a pooled connection factory
+     */
+    @Bean
+    public DatabaseClient priceDatabaseClient(R2dbcProperties properties) {
+        connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                        .username(properties.getUsername())
+                        .password(properties.getPassword())
+                        .build())
+                .initialSize(properties.getPool().getInitialSize())
+                .maxSize(properties.getPool().getMaxSize())
+                .maxIdleTime(properties.getPool().getMaxIdleTime())
+                .build());
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Creates the reactive repository port backed by R2DBC.
+     *
+     * @param priceDatabaseClient R2DBC client of the price store
+     * @return R2DBC adapter as port interface
+     */
+    @Bean
+    public ReactivePriceRepositoryPort reactivePriceRepositoryPort(DatabaseClient priceDatabaseClient) {
+        return new R2dbcPriceRepositoryAdapter(priceDatabaseClient);
+    }
+
+    /**
+     * Creates the ReactiveGetApplicablePricePort bean.
+     *
+     * @param reactivePriceRepositoryPort implementation of the reactive repository port
+     * @return configured use case instance as port interface
+     */
+    @Bean
+    public ReactiveGetApplicablePricePort reactiveGetApplicablePricePort(
+            ReactivePriceRepositoryPort reactivePriceRepositoryPort) {
+        return new ReactiveGetApplicablePriceUseCase(reactivePriceRepositoryPort);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionPool != null) {
+            connectionPool.dispose();
+        }
+    }
+}
\ No newline at end of file
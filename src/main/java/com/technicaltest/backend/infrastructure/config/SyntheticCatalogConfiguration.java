@@ -0,0 +1,31 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import com.technicaltest.backend.infrastructure.persistence.generator.SyntheticCatalogLoader;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Spring configuration for the synthetic catalog used in load and scale testing.
+ * Enabled with {@code prices.generator.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(SyntheticCatalogProperties.class)
+@ConditionalOnProperty(name = "prices.generator.enabled", havingValue = "true")
+public class SyntheticCatalogConfiguration {
+
+    /**
+     * Creates the loader that fills PRICES with the synthetic catalog at startup.
+     *
+     * @param jdbcTemplate JDBC access to the database
+     * @param properties generator settings
+     * @return the catalog loader
+     */
+    @Bean
+    public SyntheticCatalogLoader syntheticCatalogLoader(JdbcTemplate jdbcTemplate,
+                                                         SyntheticCatalogProperties properties) {
+        return new SyntheticCatalogLoader(jdbcTemplate, properties);
+    }
+}
\ No newline at end of file
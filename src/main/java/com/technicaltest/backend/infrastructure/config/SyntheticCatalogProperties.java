@@ -0,0 +1,110 @@
+package com.technicaltest.backend.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Configuration of the synthetic catalog generator, bound from {@code prices.generator.*}.
+ */
+@ConfigurationProperties(prefix = "prices.generator")
+public class SyntheticCatalogProperties {
+
+    /**
+     * Whether a synthetic catalog is bulk loaded into PRICES at startup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of brands; every brand gets the same number of products.
+     */
+    private int brands = 1;
+
+    /**
+     * Number of products per brand.
+     */
+    private int products = 100_000;
+
+    /**
+     * Identifier of the first generated product, kept apart from the seed data.
+     */
+    private long firstProductId = 1_000_000;
+
+    /**
+     * Prices per product: a base price over the whole range plus overlapping promotions.
+     */
+    private int pricesPerProduct = 4;
+
+    /**
+     * Number of distinct price lists the promotions are spread over.
+     */
+    private int priceLists = 4;
+
+    /**
+     * Highest promotion priority; promotion priorities are uniform in 1..maxPriority.
+     */
+    private int maxPriority = 3;
+
+    /**
+     * Longest promotion; promotion lengths are uniform up to this duration.
+     */
+    private Duration maxPromotionLength = Duration.ofDays(30);
+
+    /**
+     * Start of the date range covered by the catalog.
+     */
+    private LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /**
+     * End of the date range covered by the catalog.
+     */
+    private LocalDateTime to = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    /**
+     * Random seed, so that the same settings always produce the same catalog.
+     */
+    private long seed = 42;
+
+    /**
+     * Rows sent to the database per JDBC batch.
+     */
+    private int batchSize = 10_000;
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBrands() { return brands; }
+    public void setBrands(int brands) { this.brands = brands; }
+
+    public int getProducts() { return products; }
+    public void setProducts(int products) { this.products = products; }
+
+    public long getFirstProductId() { return firstProductId; }
+    public void setFirstProductId(long firstProductId) { this.firstProductId = firstProductId; }
+
+    public int getPricesPerProduct() { return pricesPerProduct; }
+    public void setPricesPerProduct(int pricesPerProduct) { this.pricesPerProduct = pricesPerProduct; }
+
+    public int getPriceLists() { return priceLists; }
+    public void setPriceLists(int priceLists) { this.priceLists = priceLists; }
+
+    public int getMaxPriority() { return maxPriority; }
+    public void setMaxPriority(int maxPriority) { this.maxPriority = maxPriority; }
+
+    public Duration getMaxPromotionLength() { return maxPromotionLength; }
+    public void setMaxPromotionLength(Duration maxPromotionLength) { this.maxPromotionLength = maxPromotionLength; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.technicaltest.backend.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every call of a port, tagged with the implementing component, the method and the outcome:
+ * found or not_found for single lookups, success for anything else, error when it throws.
+ * Optionally also records how many prices each call returned, which for the repository port is
+ * the number of candidate rows read.
+ * Meters are registered once per method and then only recorded, so a call costs two clock reads
+ * and a histogram update; the meter registry is resolved on the first call.
+ */
+public class PortMetricsInterceptor implements MethodInterceptor {
+
+    static final String FOUND = "found";
+    static final String NOT_FOUND = "not_found";
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+
+    private final String name;
+    private final String resultsName;
+    private final Supplier<MeterRegistry> meterRegistry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param name name of the timer
+     * @param resultsName name of the distribution of returned prices, null to not record it
+     * @param meterRegistry registry holding the meters
+     */
+    public PortMetricsInterceptor(String name, String resultsName, Supplier<MeterRegistry> meterRegistry) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.resultsName = resultsName;
+        this.meterRegistry = SingletonSupplier.of(Objects.requireNonNull(meterRegistry, "meterRegistry cannot be null"));
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(invocation.getMethod(), method -> new MethodMeters(
+                AopUtils.getTargetClass(invocation.getThis()).getSimpleName(), method.getName()));
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            methodMeters.timer(ERROR).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        long duration = System.nanoTime() - start;
+        if (result instanceof Optional<?> optional) {
+            methodMeters.timer(optional.isPresent() ? FOUND : NOT_FOUND).record(duration, TimeUnit.NANOSECONDS);
+            methodMeters.recordResults(optional.isPresent() ? 1 : 0);
+        } else {
+            methodMeters.timer(SUCCESS).record(duration, TimeUnit.NANOSECONDS);
+            if (result instanceof Collection<?> collection) {
+                methodMeters.recordResults(countPrices(collection));
+            }
+        }
+        return result;
+    }
+
+    private static long countPrices(Collection<?> collection) {
+        return collection.stream()
+                .filter(element -> !(element instanceof Optional<?> optional) || optional.isPresent())
+                .count();
+    }
+
+    private final class MethodMeters {
+
+        private final String component;
+        private final String method;
+        private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+        private final DistributionSummary results;
+
+        private MethodMeters(String component, String method) {
+            this.component = component;
+            this.method = method;
+            this.results = Objects.isNull(resultsName) ? null : DistributionSummary.builder(resultsName)
+                    .description("Prices returned per call")
+                    .tags("component", component, "method", method)
+                    .register(meterRegistry.get());
+        }
+
+        private Timer timer(String outcome) {
+            return timers.computeIfAbsent(outcome, key -> Timer.builder(name)
+                    .tags("component", component, "method", method, "outcome", key)
+                    .register(meterRegistry.get()));
+        }
+
+        private void recordResults(long count) {
+            if (Objects.nonNull(results)) {
+                results.record(count);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.config.PriceSnapshotProperties;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeFeed;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceSnapshot;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that serves price lookups from an off-heap {@link ColumnarPriceStore} instead of the database.
+ * Keeps the whole catalog in-process like {@link InMemoryPriceRepositoryAdapter} but as primitive
+ * columns in direct memory, so the heap only holds the prices being returned.
+ * When a snapshot file is configured ({@code prices.snapshot.path}) the store is memory-mapped from it
+ * instead, which makes startup independent of the catalog size; the changes made since the export are
+ * replayed through the change feed, and a snapshot older than the outbox retention is not used.
+ * The store is immutable: products changed since it was built are served from an on-heap overlay
+ * of {@link PriceTimeline}s kept by the price change feed, until the next reload.
+ * Enabled with {@code prices.repository.type=columnar}.
+ */
+@Component
+@Order(PriceChangeListener.INDEX_ORDER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "columnar")
+public class ColumnarPriceRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarPriceRepositoryAdapter.class);
+
+    private final PriceJpaRepository jpaRepository;
+    private final PriceSnapshotProperties snapshotProperties;
+    private final ObjectProvider<PriceChangeFeed> changeFeed;
+
+    private volatile ColumnarPriceStore store = ColumnarPriceStore.empty();
+    private volatile Map<PriceKey, PriceTimeline> changes = new ConcurrentHashMap<>();
+
+    public ColumnarPriceRepositoryAdapter(PriceJpaRepository jpaRepository, PriceSnapshotProperties snapshotProperties,
+                                          ObjectProvider<PriceChangeFeed> changeFeed) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository cannot be null");
+        this.snapshotProperties = Objects.requireNonNull(snapshotProperties, "snapshotProperties cannot be null");
+        this.changeFeed = Objects.requireNonNull(changeFeed, "changeFeed cannot be null");
+    }
+
+    /**
+     * Rebuilds the whole store, from the snapshot file if there is one or else from the database,
+     * and swaps it atomically.
+     * Runs when the root context is refreshed, once the change feed has taken its starting position.
+     */
+    @EventListener(value = ContextRefreshedEvent.class, condition = "#root.event.applicationContext.parent == null")
+    @Transactional(readOnly = true)
+    public void reload() {
+        long start = System.nanoTime();
+        Path path = snapshotProperties.getPath();
+        PriceChangeFeed feed = changeFeed.getIfAvailable();
+        if (Objects.nonNull(path) && Files.isRegularFile(path)) {
+            ColumnarPriceSnapshot snapshot = ColumnarPriceSnapshot.map(path);
+            if (Objects.isNull(feed) || feed.canReplaySince(snapshot.getExportedAt())) {
+                swap(snapshot.getStore());
+                log.info("Mapped columnar price snapshot {} with {} prices of {} products in {} ms",
+                        path, store.size(), store.keyCount(), (System.nanoTime() - start) / 1_000_000);
+                // outside the lock: the feed thread holds the feed while it applies changes to this adapter
+                if (Objects.nonNull(feed)) {
+                    feed.replayFrom(snapshot.getChangePosition());
+                }
+                return;
+            }
+            log.warn("Ignoring columnar price snapshot {} exported at {}: the changes made since may be purged",
+                    path, snapshot.getExportedAt());
+        }
+        swap(loadFromDatabase());
+        log.info("Loaded columnar price store with {} prices of {} products ({} KB off-heap) in {} ms",
+                store.size(), store.keyCount(), store.offHeapBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void swap(ColumnarPriceStore loaded) {
+        store = loaded;
+        changes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Builds a store holding every price in the database, without serving from it.
+     *
+     * @return store of the current database catalog
+     */
+    @Transactional(readOnly = true)
+    public ColumnarPriceStore loadFromDatabase() {
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(
+                (int) Math.min(jpaRepository.count(), ColumnarPriceStore.MAX_ROWS));
+        try (Stream<Price> prices = jpaRepository.streamAllPrices()) {
+            prices.forEach(builder::add);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reloads the timelines of the changed products into the overlay. Products left without prices
+     * keep an empty timeline, hiding whatever the store still holds for them.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    @Override
+    public synchronized void onPricesChanged(Set<PriceKey> keys) {
+        for (PriceKey key : keys) {
+            changes.put(key, PriceTimeline.of(jpaRepository.findAllPrices(key.getProductId(), key.getBrandId())));
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceTimeline changed = findChanged(productId, brandId);
+        if (Objects.nonNull(changed)) {
+            return changed.findPricesAt(applicationDate);
+        }
+        return store.findPricesAt(brandId, productId, applicationDate);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceTimeline changed = findChanged(productId, brandId);
+        if (Objects.nonNull(changed)) {
+            return changed.findPriceAt(applicationDate);
+        }
+        return store.findPriceAt(brandId, productId, applicationDate);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        PriceTimeline changed = findChanged(productId, brandId);
+        if (Objects.nonNull(changed)) {
+            return changed.findPricesBetween(from, to);
+        }
+        return store.findPricesBetween(brandId, productId, from, to);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            prices.addAll(findPricesBetween(key.getProductId(), key.getBrandId(), from, to));
+        }
+        return prices;
+    }
+
+    @Override
+    public void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                    Consumer<Price> consumer) {
+        findPricesBetween(productId, brandId, from, to)
+                .stream()
+                .sorted(Comparator.comparing(Price::getStartDate))
+                .forEach(consumer);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        List<Price> prices = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            findHighestPriorityPrice(query.getProductId(), query.getBrandId(), query.getApplicationDate())
+                    .ifPresent(prices::add);
+        }
+        return prices;
+    }
+
+    private PriceTimeline findChanged(Long productId, Long brandId) {
+        Map<PriceKey, PriceTimeline> changed = changes;
+        return changed.isEmpty() ? null : changed.get(new PriceKey(brandId, productId));
+    }
+}
\ No newline at end of file
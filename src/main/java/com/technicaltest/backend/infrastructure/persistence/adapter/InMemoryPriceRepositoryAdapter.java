@@ -0,0 +1,150 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that serves price lookups from an in-memory interval index instead of the database.
+ * All prices are loaded once and flattened into a {@link PriceTimeline} per brand and product,
+ * so a lookup is a hash probe on the primitive brand and product plus a binary search, returning the
+ * result the timeline shares between lookups. Changed products are swapped in one by one by the
+ * price change feed.
+ * Enabled with {@code prices.repository.type=memory}.
+ */
+@Component
+@Order(PriceChangeListener.INDEX_ORDER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "memory")
+public class InMemoryPriceRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPriceRepositoryAdapter.class);
+
+    private final PriceJpaRepository jpaRepository;
+
+    private volatile PriceTimelineIndex index = new PriceTimelineIndex();
+
+    public InMemoryPriceRepositoryAdapter(PriceJpaRepository jpaRepository) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository cannot be null");
+    }
+
+    /**
+     * Rebuilds the whole index from the database and swaps it atomically.
+     * Runs when the root context is refreshed, after the synthetic catalog is loaded.
+     */
+    @EventListener(value = ContextRefreshedEvent.class, condition = "#root.event.applicationContext.parent == null")
+    @Transactional(readOnly = true)
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        try (Stream<Price> prices = jpaRepository.streamAllPrices()) {
+            index = buildIndex(prices);
+        }
+        log.info("Loaded in-memory price index with {} products in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Reloads the timelines of the changed products, dropping those left without prices.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    @Override
+    public synchronized void onPricesChanged(Set<PriceKey> keys) {
+        for (PriceKey key : keys) {
+            PriceTimeline timeline = PriceTimeline.of(
+                    jpaRepository.findAllPrices(key.getProductId(), key.getBrandId()));
+            if (timeline.isEmpty()) {
+                index.remove(key.getBrandId(), key.getProductId());
+            } else {
+                index.put(key.getBrandId(), key.getProductId(), timeline);
+            }
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceTimeline timeline = index.get(brandId, productId);
+        if (Objects.isNull(timeline)) {
+            return List.of();
+        }
+        return timeline.findPricesAt(applicationDate);
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        PriceTimeline timeline = index.get(brandId, productId);
+        if (Objects.isNull(timeline)) {
+            return Optional.empty();
+        }
+        return timeline.findPriceAt(applicationDate);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        PriceTimeline timeline = index.get(brandId, productId);
+        if (Objects.isNull(timeline)) {
+            return List.of();
+        }
+        return timeline.findPricesBetween(from, to);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            prices.addAll(findPricesBetween(key.getProductId(), key.getBrandId(), from, to));
+        }
+        return prices;
+    }
+
+    @Override
+    public void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                    Consumer<Price> consumer) {
+        findPricesBetween(productId, brandId, from, to)
+                .stream()
+                .sorted(Comparator.comparing(Price::getStartDate))
+                .forEach(consumer);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        PriceTimelineIndex snapshot = index;
+        List<Price> prices = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            PriceTimeline timeline = snapshot.get(query.getBrandId(), query.getProductId());
+            if (Objects.nonNull(timeline)) {
+                timeline.findPriceAt(query.getApplicationDate()).ifPresent(prices::add);
+            }
+        }
+        return prices;
+    }
+
+    private static PriceTimelineIndex buildIndex(Stream<Price> pricesOrderedByKey) {
+        PriceTimelineIndex timelines = new PriceTimelineIndex();
+        PriceTimelineGrouping.forEachTimeline(pricesOrderedByKey,
+                (key, timeline) -> timelines.put(key.getBrandId(), key.getProductId(), timeline));
+        return timelines;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceExportRepositoryPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Adapter that scans the applicable prices of a whole brand with a plain JDBC cursor.
+ * Rows are read in product order straight off the lookup index, with no sort step, a fetch-size
+ * page at a time, and mapped straight into the domain model, so an export of any size runs
+ * in constant memory; the caller picks the winner of each product. Reads PRICES whatever
+ * {@code prices.repository.type} is.
+ */
+@Component
+public class JdbcPriceExportAdapter implements PriceExportRepositoryPort {
+
+    private static final int FETCH_SIZE = 1_000;
+
+    private static final String FIND_APPLICABLE_PRICES = "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, " +
+            "PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES " +
+            "WHERE BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ? " +
+            "ORDER BY PRODUCT_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPriceExportAdapter(JdbcTemplate jdbcTemplate) {
+        Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(jdbcTemplate.getDataSource()));
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachApplicablePrice(Long brandId, LocalDateTime applicationDate, Consumer<Price> consumer) {
+        Timestamp date = Timestamp.valueOf(applicationDate);
+        jdbcTemplate.query(FIND_APPLICABLE_PRICES, row -> {
+            consumer.accept(new Price(
+                    row.getLong("ID"),
+                    row.getLong("BRAND_ID"),
+                    row.getTimestamp("START_DATE").toLocalDateTime(),
+                    row.getTimestamp("END_DATE").toLocalDateTime(),
+                    row.getLong("PRICE_LIST"),
+                    row.getLong("PRODUCT_ID"),
+                    row.getInt("PRIORITY"),
+                    row.getBigDecimal("PRICE"),
+                    row.getString("CURR")));
+        }, brandId, date, date);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Adapter that ranks the products of PRICES for the cache warm-up.
+ * The service keeps no access log, so products are ranked by the number of prices applicable within
+ * the warm-up window: those with overlapping promotions are the ones whose lookups read and resolve
+ * the most candidates. Reads PRICES whatever {@code prices.repository.type} is.
+ */
+@Component
+public class JdbcTopPriceKeysAdapter {
+
+    private static final String FIND_TOP_KEYS = "SELECT BRAND_ID, PRODUCT_ID FROM PRICES " +
+            "WHERE START_DATE <= ? AND END_DATE >= ? " +
+            "GROUP BY BRAND_ID, PRODUCT_ID " +
+            "ORDER BY COUNT(*) DESC, BRAND_ID, PRODUCT_ID FETCH FIRST ? ROWS ONLY";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTopPriceKeysAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+    }
+
+    /**
+     * @param from start of the window, inclusive
+     * @param to end of the window, inclusive
+     * @param limit maximum number of products
+     * @return the products with the most prices applicable within the window, first the one with the most
+     */
+    @Transactional(readOnly = true)
+    public List<PriceKey> findTopKeys(LocalDateTime from, LocalDateTime to, int limit) {
+        Objects.requireNonNull(from, "from cannot be null");
+        Objects.requireNonNull(to, "to cannot be null");
+        if (limit < 1) {
+            return List.of();
+        }
+        return jdbcTemplate.query(FIND_TOP_KEYS,
+                (rs, rowNum) -> new PriceKey(rs.getLong("BRAND_ID"), rs.getLong("PRODUCT_ID")),
+                Timestamp.valueOf(to), Timestamp.valueOf(from), limit);
+    }
+}
\ No newline at end of file
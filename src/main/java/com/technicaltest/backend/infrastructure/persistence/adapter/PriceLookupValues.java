@@ -0,0 +1,83 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Inline table of the distinct lookups of a batch, {@code Q (BRAND_ID, PRODUCT_ID[, APPLICATION_DATE])},
+ * to join with the prices table: every (brand, product) pair is matched through the lookup index with
+ * its own date condition, so the batch reads exactly the rows its lookups would read one by one.
+ */
+final class PriceLookupValues {
+
+    private final String table;
+    private final Object[] parameters;
+
+    private PriceLookupValues(String table, Object[] parameters) {
+        this.table = table;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @param queries lookups of the batch, not empty
+     * @return the table of the distinct lookups, with their brand, product and application date
+     */
+    static PriceLookupValues of(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("queries cannot be empty");
+        }
+        Set<PriceQuery> distinct = new LinkedHashSet<>(queries);
+        StringBuilder table = new StringBuilder("(VALUES ");
+        Object[] parameters = new Object[distinct.size() * 3];
+        int i = 0;
+        for (PriceQuery query : distinct) {
+            table.append(i == 0 ? "" : ", ")
+                    .append("(CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(6)))");
+            parameters[i++] = query.getBrandId();
+            parameters[i++] = query.getProductId();
+            parameters[i++] = Timestamp.valueOf(query.getApplicationDate());
+        }
+        table.append(") AS Q (BRAND_ID, PRODUCT_ID, APPLICATION_DATE)");
+        return new PriceLookupValues(table.toString(), parameters);
+    }
+
+    /**
+     * @param keys products and brands of the batch, not empty
+     * @return the table of the distinct products and brands
+     */
+    static PriceLookupValues ofKeys(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("keys cannot be empty");
+        }
+        Set<PriceKey> distinct = new LinkedHashSet<>(keys);
+        StringBuilder table = new StringBuilder("(VALUES ");
+        Object[] parameters = new Object[distinct.size() * 2];
+        int i = 0;
+        for (PriceKey key : distinct) {
+            table.append(i == 0 ? "" : ", ").append("(CAST(? AS BIGINT), CAST(? AS BIGINT))");
+            parameters[i++] = key.getBrandId();
+            parameters[i++] = key.getProductId();
+        }
+        table.append(") AS Q (BRAND_ID, PRODUCT_ID)");
+        return new PriceLookupValues(table.toString(), parameters);
+    }
+
+    /**
+     * @param extra parameters of the query that follow the table
+     * @return the parameters of the table followed by the extra ones
+     */
+    Object[] parameters(Object... extra) {
+        Object[] all = new Object[parameters.length + extra.length];
+        System.arraycopy(parameters, 0, all, 0, parameters.length);
+        System.arraycopy(extra, 0, all, parameters.length, extra.length);
+        return all;
+    }
+
+    // Getters
+    String getTable() { return table; }
+}
\ No newline at end of file
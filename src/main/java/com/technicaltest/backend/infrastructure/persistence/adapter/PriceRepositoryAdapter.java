@@ -1,36 +1,117 @@
 package com.technicaltest.backend.infrastructure.persistence.adapter;
 
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
 import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
-import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
 import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter that implements the domain port using Spring Data JPA.
  * Bridges infrastructure (JPA) with domain layer.
+ * Every lookup runs in a read-only transaction and reads straight into the domain model, so no managed
+ * entity, dirty-checking snapshot or flush is involved on the read path. The single product lookups, the
+ * hot path of cache misses, are plain JDBC queries mapped row by row: a Spring Data query method allocates
+ * about five times as much per call. Batch lookups join PRICES with the inline table of their
+ * (brand, product) pairs, so each pair is matched through the lookup index with its own dates.
+ * Default implementation, selected with {@code prices.repository.type=jpa}.
  */
 @Component
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "jpa", matchIfMissing = true)
+@Transactional(readOnly = true)
 public class PriceRepositoryAdapter implements PriceRepositoryPort {
 
+    private static final String SELECT_PRICES = "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, " +
+            "PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES WHERE PRODUCT_ID = ? AND BRAND_ID = ? ";
+
+    private static final String SELECT_BATCH_PRICES = "SELECT DISTINCT P.ID, P.BRAND_ID, P.START_DATE, P.END_DATE, " +
+            "P.PRICE_LIST, P.PRODUCT_ID, P.PRIORITY, P.PRICE, P.CURR FROM PRICES P JOIN ";
+
+    private static final String FIND_APPLICABLE_PRICES = SELECT_PRICES +
+            "AND ? BETWEEN START_DATE AND END_DATE";
+
+    private static final String FIND_HIGHEST_PRIORITY_PRICE = FIND_APPLICABLE_PRICES +
+            " ORDER BY PRIORITY DESC, START_DATE DESC FETCH FIRST 1 ROW ONLY";
+
+    private static final String FIND_PRICES_BETWEEN = SELECT_PRICES +
+            "AND START_DATE <= ? AND END_DATE >= ?";
+
+    private static final String JOIN_BATCH_KEYS = " ON P.BRAND_ID = Q.BRAND_ID AND P.PRODUCT_ID = Q.PRODUCT_ID";
+
+    private static final RowMapper<Price> PRICE_ROW_MAPPER = (row, rowNum) -> new Price(
+            row.getLong("ID"),
+            row.getLong("BRAND_ID"),
+            row.getTimestamp("START_DATE").toLocalDateTime(),
+            row.getTimestamp("END_DATE").toLocalDateTime(),
+            row.getLong("PRICE_LIST"),
+            row.getLong("PRODUCT_ID"),
+            row.getInt("PRIORITY"),
+            row.getBigDecimal("PRICE"),
+            row.getString("CURR"));
+
     private final PriceJpaRepository jpaRepository;
-    private final PriceMapper priceMapper;
+    private final JdbcTemplate jdbcTemplate;
 
-    public PriceRepositoryAdapter(PriceJpaRepository jpaRepository, PriceMapper priceMapper) {
+    public PriceRepositoryAdapter(PriceJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository cannot be null");
-        this.priceMapper = Objects.requireNonNull(priceMapper, "priceMapper cannot be null");
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
     }
 
     @Override
     public List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate) {
-        return jpaRepository.findApplicablePrices(productId, brandId, applicationDate)
+        return jdbcTemplate.query(FIND_APPLICABLE_PRICES, PRICE_ROW_MAPPER,
+                productId, brandId, Timestamp.valueOf(applicationDate));
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return jdbcTemplate.query(FIND_HIGHEST_PRIORITY_PRICE, PRICE_ROW_MAPPER,
+                        productId, brandId, Timestamp.valueOf(applicationDate))
                 .stream()
-                .map(priceMapper::toDomain)
-                .collect(Collectors.toList());
+                .findFirst();
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(FIND_PRICES_BETWEEN, PRICE_ROW_MAPPER,
+                productId, brandId, Timestamp.valueOf(to), Timestamp.valueOf(from));
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        PriceLookupValues lookups = PriceLookupValues.ofKeys(keys);
+        return jdbcTemplate.query(SELECT_BATCH_PRICES + lookups.getTable() + JOIN_BATCH_KEYS +
+                        " WHERE P.START_DATE <= ? AND P.END_DATE >= ?", PRICE_ROW_MAPPER,
+                lookups.parameters(Timestamp.valueOf(to), Timestamp.valueOf(from)));
+    }
+
+    @Override
+    public void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                    Consumer<Price> consumer) {
+        try (Stream<Price> prices = jpaRepository.streamPricesBetween(productId, brandId, from, to)) {
+            prices.forEach(consumer);
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        PriceLookupValues lookups = PriceLookupValues.of(queries);
+        return jdbcTemplate.query(SELECT_BATCH_PRICES + lookups.getTable() + JOIN_BATCH_KEYS +
+                        " AND Q.APPLICATION_DATE BETWEEN P.START_DATE AND P.END_DATE", PRICE_ROW_MAPPER,
+                lookups.parameters());
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Turns a stream of prices ordered by brand and product into one timeline per product,
+ * holding only the prices of the current product in memory.
+ */
+final class PriceTimelineGrouping {
+
+    private PriceTimelineGrouping() {
+    }
+
+    /**
+     * Builds the timeline of every product in the stream and hands it to the consumer.
+     *
+     * @param pricesOrderedByKey prices ordered by brand and product
+     * @param consumer receives each product key with its timeline, once per product
+     */
+    static void forEachTimeline(Stream<Price> pricesOrderedByKey, BiConsumer<PriceKey, PriceTimeline> consumer) {
+        Iterator<Price> iterator = pricesOrderedByKey.iterator();
+        List<Price> group = new ArrayList<>();
+        PriceKey groupKey = null;
+
+        while (iterator.hasNext()) {
+            Price price = iterator.next();
+            PriceKey key = PriceKey.of(price);
+            if (!key.equals(groupKey)) {
+                if (Objects.nonNull(groupKey)) {
+                    consumer.accept(groupKey, PriceTimeline.of(group));
+                }
+                group = new ArrayList<>();
+                groupKey = key;
+            }
+            group.add(price);
+        }
+
+        if (Objects.nonNull(groupKey)) {
+            consumer.accept(groupKey, PriceTimeline.of(group));
+        }
+    }
+}
\ No newline at end of file
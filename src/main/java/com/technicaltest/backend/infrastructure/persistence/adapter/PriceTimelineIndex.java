@@ -0,0 +1,150 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.PriceTimeline;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Hash index of price timelines keyed by the primitive brand and product identifiers, so a lookup
+ * boxes nothing and allocates no key. Readers are lock free and never see a partial update: chains
+ * are immutable and every write replaces a chain head, or the whole table when it grows.
+ * Writes are serialized.
+ */
+final class PriceTimelineIndex {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private volatile AtomicReferenceArray<Node> table;
+    private volatile int size;
+
+    PriceTimelineIndex() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize number of products expected, to size the table once
+     */
+    PriceTimelineIndex(int expectedSize) {
+        this.table = new AtomicReferenceArray<>(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @return the timeline of the product, null if it has no prices
+     */
+    PriceTimeline get(long brandId, long productId) {
+        AtomicReferenceArray<Node> current = table;
+        for (Node node = current.get(bucket(brandId, productId, current.length()));
+             Objects.nonNull(node); node = node.next) {
+            if (node.brandId == brandId && node.productId == productId) {
+                return node.timeline;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds or replaces the timeline of a product.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @param timeline timeline of the product
+     */
+    synchronized void put(long brandId, long productId, PriceTimeline timeline) {
+        Objects.requireNonNull(timeline, "timeline cannot be null");
+        AtomicReferenceArray<Node> current = table;
+        int bucket = bucket(brandId, productId, current.length());
+        Node head = current.get(bucket);
+        Node rest = without(head, brandId, productId);
+        boolean added = rest == head;
+        current.set(bucket, new Node(brandId, productId, timeline, rest));
+        if (added) {
+            size = size + 1;
+            if (size > current.length() / 4 * 3) {
+                resize(current);
+            }
+        }
+    }
+
+    /**
+     * Removes the timeline of a product, if any.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     */
+    synchronized void remove(long brandId, long productId) {
+        AtomicReferenceArray<Node> current = table;
+        int bucket = bucket(brandId, productId, current.length());
+        Node head = current.get(bucket);
+        Node rest = without(head, brandId, productId);
+        if (rest != head) {
+            current.set(bucket, rest);
+            size = size - 1;
+        }
+    }
+
+    /**
+     * @return number of products in the index
+     */
+    int size() {
+        return size;
+    }
+
+    private void resize(AtomicReferenceArray<Node> current) {
+        AtomicReferenceArray<Node> grown = new AtomicReferenceArray<>(current.length() * 2);
+        for (int i = 0; i < current.length(); i++) {
+            for (Node node = current.get(i); Objects.nonNull(node); node = node.next) {
+                int bucket = bucket(node.brandId, node.productId, grown.length());
+                grown.set(bucket, new Node(node.brandId, node.productId, node.timeline, grown.get(bucket)));
+            }
+        }
+        table = grown;
+    }
+
+    /**
+     * @return the chain without the given product, the same chain if it is not there
+     */
+    private static Node without(Node head, long brandId, long productId) {
+        if (Objects.isNull(head)) {
+            return null;
+        }
+        if (head.brandId == brandId && head.productId == productId) {
+            return head.next;
+        }
+        Node rest = without(head.next, brandId, productId);
+        return rest == head.next ? head : new Node(head.brandId, head.productId, head.timeline, rest);
+    }
+
+    private static int bucket(long brandId, long productId, int length) {
+        long hash = brandId * 0x9E3779B97F4A7C15L + productId;
+        hash ^= hash >>> 32;
+        hash *= 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 29;
+        return (int) hash & (length - 1);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity / 4 * 3 < expectedSize && capacity < 1 << 30) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static final class Node {
+
+        private final long brandId;
+        private final long productId;
+        private final PriceTimeline timeline;
+        private final Node next;
+
+        private Node(long brandId, long productId, PriceTimeline timeline, Node next) {
+            this.brandId = brandId;
+            this.productId = productId;
+            this.timeline = timeline;
+            this.next = next;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeListener;
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceTimelineEntity;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceTimelineMapper;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceTimelineJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that serves price lookups from the precomputed PRICE_TIMELINE table.
+ * Priority is resolved when the timeline is written, so a lookup reads exactly one row
+ * with no sort or comparison. Batch lookups join the timeline with the inline table of their
+ * (brand, product) pairs, each matched through the lookup index with its own dates.
+ * Changed products are rebuilt by the price change feed.
+ * Enabled with {@code prices.repository.type=timeline}.
+ */
+@Component
+@Order(PriceChangeListener.INDEX_ORDER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "timeline")
+public class PriceTimelineRepositoryAdapter implements PriceRepositoryPort, PriceChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceTimelineRepositoryAdapter.class);
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private static final String SELECT_BATCH_SEGMENTS = "SELECT T.* FROM PRICE_TIMELINE T JOIN ";
+
+    private static final String JOIN_BATCH_KEYS = " ON T.BRAND_ID = Q.BRAND_ID AND T.PRODUCT_ID = Q.PRODUCT_ID";
+
+    private final PriceJpaRepository priceRepository;
+    private final PriceTimelineJpaRepository timelineRepository;
+    private final PriceTimelineMapper timelineMapper;
+    private final EntityManager entityManager;
+
+    public PriceTimelineRepositoryAdapter(PriceJpaRepository priceRepository,
+                                          PriceTimelineJpaRepository timelineRepository,
+                                          PriceTimelineMapper timelineMapper,
+                                          EntityManager entityManager) {
+        this.priceRepository = Objects.requireNonNull(priceRepository, "priceRepository cannot be null");
+        this.timelineRepository = Objects.requireNonNull(timelineRepository, "timelineRepository cannot be null");
+        this.timelineMapper = Objects.requireNonNull(timelineMapper, "timelineMapper cannot be null");
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager cannot be null");
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return timelineRepository.findSegmentAt(productId, brandId, applicationDate)
+                .map(timelineMapper::toDomain)
+                .map(List::of)
+                .orElse(List.of());
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return timelineRepository.findSegmentAt(productId, brandId, applicationDate)
+                .map(timelineMapper::toDomain);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        Set<Long> priceIds = new HashSet<>();
+        return timelineRepository.findSegmentsBetween(productId, brandId, from, to)
+                .stream()
+                .filter(segment -> priceIds.add(segment.getPriceId()))
+                .map(timelineMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        PriceLookupValues lookups = PriceLookupValues.ofKeys(keys);
+        Set<Long> priceIds = new HashSet<>();
+        return findSegments(SELECT_BATCH_SEGMENTS + lookups.getTable() + JOIN_BATCH_KEYS +
+                        " WHERE T.SEGMENT_START <= ? AND T.SEGMENT_END >= ?",
+                lookups.parameters(to, from))
+                .stream()
+                .filter(segment -> priceIds.add(segment.getPriceId()))
+                .map(timelineMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                    Consumer<Price> consumer) {
+        findPricesBetween(productId, brandId, from, to)
+                .stream()
+                .sorted(Comparator.comparing(Price::getStartDate))
+                .forEach(consumer);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        PriceLookupValues lookups = PriceLookupValues.of(queries);
+        Set<Long> priceIds = new HashSet<>();
+        return findSegments(SELECT_BATCH_SEGMENTS + lookups.getTable() + JOIN_BATCH_KEYS +
+                        " AND Q.APPLICATION_DATE BETWEEN T.SEGMENT_START AND T.SEGMENT_END",
+                lookups.parameters())
+                .stream()
+                .filter(segment -> priceIds.add(segment.getPriceId()))
+                .map(timelineMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rebuilds the timeline of a single product after any of its prices changed.
+     *
+     * @param key brand and product whose prices changed
+     */
+    @Transactional
+    public void rebuild(PriceKey key) {
+        timelineRepository.deleteTimeline(key.getProductId(), key.getBrandId());
+        PriceTimeline timeline = PriceTimeline.of(
+                priceRepository.findAllPrices(key.getProductId(), key.getBrandId()));
+        timelineRepository.saveAll(toEntities(timeline));
+    }
+
+    /**
+     * Rebuilds the timelines of the changed products in one transaction.
+     *
+     * @param keys brands and products whose prices changed
+     */
+    @Override
+    @Transactional
+    public synchronized void onPricesChanged(Set<PriceKey> keys) {
+        keys.forEach(this::rebuild);
+    }
+
+    /**
+     * Rebuilds the timeline of every product from scratch.
+     * Runs when the root context is refreshed only: a child context must not rewrite the whole PRICE_TIMELINE table.
+     */
+    @EventListener(value = ContextRefreshedEvent.class, condition = "#root.event.applicationContext.parent == null")
+    @Transactional
+    public synchronized void rebuildAll() {
+        long start = System.nanoTime();
+        timelineRepository.deleteAllInBatch();
+
+        int[] products = {0};
+        try (Stream<Price> prices = priceRepository.streamAllPrices()) {
+            PriceTimelineGrouping.forEachTimeline(prices, (key, timeline) -> {
+                timelineRepository.saveAll(toEntities(timeline));
+                if (++products[0] % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            });
+        }
+        log.info("Rebuilt price timeline for {} products in {} ms",
+                products[0], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PriceTimelineEntity> findSegments(String sql, Object[] parameters) {
+        Query query = entityManager.createNativeQuery(sql, PriceTimelineEntity.class);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        return query.getResultList();
+    }
+
+    private List<PriceTimelineEntity> toEntities(PriceTimeline timeline) {
+        return timeline.getSegments().stream()
+                .map(timelineMapper::toEntity)
+                .collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.changes.PriceChangeOutbox;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Adapter that writes prices to the PRICES table through JPA.
+ * Identifiers come from the PRICES_SEQ sequence, so Hibernate batches the inserts
+ * ({@code hibernate.jdbc.batch_size}); bulk writes flush and clear the persistence context
+ * every few batches to keep memory flat. Used whatever {@code prices.repository.type} is,
+ * since every read model is derived from PRICES. Every write also records the changed products
+ * in the PRICE_CHANGES outbox, in the same transaction.
+ */
+@Component
+public class PriceWriteRepositoryAdapter implements PriceWriteRepositoryPort {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PriceJpaRepository jpaRepository;
+    private final PriceMapper mapper;
+    private final EntityManager entityManager;
+    private final PriceChangeOutbox changeOutbox;
+
+    public PriceWriteRepositoryAdapter(PriceJpaRepository jpaRepository, PriceMapper mapper,
+                                       EntityManager entityManager, PriceChangeOutbox changeOutbox) {
+        this.jpaRepository = Objects.requireNonNull(jpaRepository, "jpaRepository cannot be null");
+        this.mapper = Objects.requireNonNull(mapper, "mapper cannot be null");
+        this.entityManager = Objects.requireNonNull(entityManager, "entityManager cannot be null");
+        this.changeOutbox = Objects.requireNonNull(changeOutbox, "changeOutbox cannot be null");
+    }
+
+    @Override
+    @Transactional
+    public Price save(Price price) {
+        Price saved = mapper.toDomain(jpaRepository.save(mapper.toEntity(price)));
+        changeOutbox.record(List.of(PriceKey.of(saved)));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public Optional<Price> update(Long id, Price price) {
+        return jpaRepository.findById(id)
+                .map(entity -> {
+                    // a price moved to another product changes both products
+                    Set<PriceKey> changed = new LinkedHashSet<>();
+                    changed.add(new PriceKey(entity.getBrandId(), entity.getProductId()));
+                    mapper.updateEntity(price, entity);
+                    Price updated = mapper.toDomain(entity);
+                    changed.add(PriceKey.of(updated));
+                    changeOutbox.record(changed);
+                    return updated;
+                });
+    }
+
+    @Override
+    @Transactional
+    public long saveAll(Stream<Price> prices) {
+        long saved = 0;
+        Set<PriceKey> changed = new LinkedHashSet<>();
+        Iterator<Price> iterator = prices.iterator();
+        while (iterator.hasNext()) {
+            Price price = iterator.next();
+            entityManager.persist(mapper.toEntity(price));
+            changed.add(PriceKey.of(price));
+            if (++saved % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                changeOutbox.record(changed);
+                changed.clear();
+            }
+        }
+        changeOutbox.record(changed);
+        return saved;
+    }
+}
\ No newline at end of file
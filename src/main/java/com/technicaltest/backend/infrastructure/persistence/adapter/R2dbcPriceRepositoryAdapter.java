@@ -0,0 +1,55 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.ReactivePriceRepositoryPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Adapter that implements the reactive domain port with R2DBC.
+ * Reads only the winning row, resolved by the database with the same top-1 query as the JPA adapter,
+ * without holding a thread while the query runs.
+ */
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepositoryPort {
+
+    private static final String FIND_HIGHEST_PRIORITY_PRICE = "SELECT ID, BRAND_ID, START_DATE, END_DATE, " +
+            "PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES " +
+            "WHERE PRODUCT_ID = :productId AND BRAND_ID = :brandId " +
+            "AND START_DATE <= :applicationDate AND END_DATE >= :applicationDate " +
+            "ORDER BY PRIORITY DESC, START_DATE DESC LIMIT 1";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceRepositoryAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = Objects.requireNonNull(databaseClient, "databaseClient cannot be null");
+    }
+
+    @Override
+    public Mono<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return databaseClient.sql(FIND_HIGHEST_PRIORITY_PRICE)
+                .bind("productId", productId)
+                .bind("brandId", brandId)
+                .bind("applicationDate", applicationDate)
+                .map(R2dbcPriceRepositoryAdapter::toDomain)
+                .one();
+    }
+
+    private static Price toDomain(Readable row) {
+        return new Price(
+                row.get("ID", Long.class),
+                row.get("BRAND_ID", Long.class),
+                row.get("START_DATE", LocalDateTime.class),
+                row.get("END_DATE", LocalDateTime.class),
+                row.get("PRICE_LIST", Long.class),
+                row.get("PRODUCT_ID", Long.class),
+                row.get("PRIORITY", Integer.class),
+                row.get("PRICE", BigDecimal.class),
+                row.get("CURR", String.class)
+        );
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entry of the PRICE_CHANGES outbox: the prices of a brand and product changed at some point.
+ */
+final class PriceChange {
+
+    private final long id;
+    private final PriceKey key;
+    private final LocalDateTime changedAt;
+
+    PriceChange(long id, PriceKey key, LocalDateTime changedAt) {
+        this.id = id;
+        this.key = Objects.requireNonNull(key, "key cannot be null");
+        this.changedAt = Objects.requireNonNull(changedAt, "changedAt cannot be null");
+    }
+
+    // Getters
+    long getId() { return id; }
+    PriceKey getKey() { return key; }
+    LocalDateTime getChangedAt() { return changedAt; }
+
+    @Override
+    public String toString() {
+        return "PriceChange{" +
+                "id=" + id +
+                ", key=" + key +
+                ", changedAt=" + changedAt +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.infrastructure.config.PriceChangeFeedProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the PRICE_CHANGES outbox and hands the changed products to every {@link PriceChangeListener},
+ * so in-process indexes and caches refresh only what changed instead of reloading everything.
+ *
+ * <p>Every instance reads the whole outbox from the position it started at; entries are never consumed,
+ * only purged once older than the retention. Identifiers are allocated before commit, so a later
+ * identifier can become visible first: the position does not move past such a gap until the gap is
+ * filled or older than the gap timeout, and the changes after it are remembered so they are not applied again.
+ */
+public class PriceChangeFeed implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceChangeFeed.class);
+
+    private static final String LAST_CHANGE = "SELECT COALESCE(MAX(ID), 0) FROM PRICE_CHANGES";
+    private static final String FIND_CHANGES = "SELECT ID, BRAND_ID, PRODUCT_ID, CHANGED_AT FROM PRICE_CHANGES " +
+            "WHERE ID > ? ORDER BY ID LIMIT ?";
+    private static final String PURGE_CHANGES = "DELETE FROM PRICE_CHANGES WHERE CHANGED_AT < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PriceChangeListener> listeners;
+    private final PriceChangeFeedProperties properties;
+
+    private ScheduledExecutorService executor;
+    private volatile long position;
+    private final NavigableSet<Long> appliedAfterPosition = new TreeSet<>();
+    private LocalDateTime lastPurge = LocalDateTime.MIN;
+
+    public PriceChangeFeed(JdbcTemplate jdbcTemplate, List<PriceChangeListener> listeners,
+                           PriceChangeFeedProperties properties) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.listeners = List.copyOf(Objects.requireNonNull(listeners, "listeners cannot be null"));
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+    }
+
+    /**
+     * Starts following the outbox from its current end. Runs right after the synthetic catalog is
+     * loaded and before the in-process indexes are built, so any change made while they load is replayed.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public synchronized void start() {
+        if (Objects.nonNull(executor)) {
+            return;
+        }
+        position = jdbcTemplate.queryForObject(LAST_CHANGE, Long.class);
+        long interval = properties.getPollInterval().toMillis();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "price-change-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::pollQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("Following price changes from position {} every {} ms", position, interval);
+    }
+
+    /**
+     * Applies the changes of the next batch not applied yet to every listener and moves the position forward.
+     * If a listener fails the position stays put and the batch is applied again on the next poll.
+     *
+     * @return number of changes the position moved over
+     */
+    public synchronized int poll() {
+        List<PriceChange> changes = jdbcTemplate.query(FIND_CHANGES,
+                (row, index) -> new PriceChange(row.getLong("ID"),
+                        new PriceKey(row.getLong("BRAND_ID"), row.getLong("PRODUCT_ID")),
+                        row.getTimestamp("CHANGED_AT").toLocalDateTime()),
+                position, properties.getBatchSize());
+        int passed = 0;
+        if (!changes.isEmpty()) {
+            Set<PriceKey> keys = new LinkedHashSet<>();
+            changes.stream()
+                    .filter(change -> !appliedAfterPosition.contains(change.getId()))
+                    .forEach(change -> keys.add(change.getKey()));
+            if (!keys.isEmpty()) {
+                listeners.forEach(listener -> listener.onPricesChanged(keys));
+            }
+            changes.forEach(change -> appliedAfterPosition.add(change.getId()));
+            long previous = position;
+            position = advance(previous, changes, LocalDateTime.now().minus(properties.getGapTimeout()));
+            appliedAfterPosition.headSet(position, true).clear();
+            passed = (int) changes.stream().filter(change -> change.getId() <= position).count();
+            log.debug("Applied {} price changes of {} products, moved from position {} to {}",
+                    changes.size(), keys.size(), previous, position);
+        }
+        purgeIfDue();
+        return passed;
+    }
+
+    /**
+     * @param readAt when some data was read from the database
+     * @return whether every change made since then is still in the outbox, not purged yet
+     */
+    public boolean canReplaySince(Instant readAt) {
+        return !readAt.isBefore(Instant.now().minus(properties.getRetention()));
+    }
+
+    /**
+     * Moves the position back to a change some data was read at, if behind, and applies every change after
+     * it before returning, so that data is brought up to date. Changes already applied are applied again.
+     *
+     * @param from identifier of the last change the data includes
+     */
+    public synchronized void replayFrom(long from) {
+        if (from < position) {
+            log.info("Replaying price changes from position {} to {}", from, position);
+            position = from;
+            appliedAfterPosition.clear();
+        }
+        while (poll() == properties.getBatchSize()) {
+            // drain the whole replay before the caller serves the data
+        }
+    }
+
+    /**
+     * @return identifier of the last change applied, every change up to it included
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (Objects.nonNull(executor)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Moves the position over the changes that directly follow it, and over gaps older than the cutoff.
+     *
+     * @param position current position
+     * @param changes changes after the position, ordered by identifier
+     * @param gapCutoff gaps before changes older than this are no longer waited for
+     * @return the new position
+     */
+    static long advance(long position, List<PriceChange> changes, LocalDateTime gapCutoff) {
+        long next = position;
+        for (PriceChange change : changes) {
+            if (change.getId() != next + 1 && change.getChangedAt().isAfter(gapCutoff)) {
+                break;
+            }
+            next = change.getId();
+        }
+        return next;
+    }
+
+    private void pollQuietly() {
+        try {
+            while (poll() == properties.getBatchSize()) {
+                // keep draining a backlog while the position moves by full batches
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cannot apply price changes after position {}", position, e);
+        }
+    }
+
+    private void purgeIfDue() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastPurge.plus(properties.getRetention().dividedBy(10)).isAfter(now)) {
+            return;
+        }
+        lastPurge = now;
+        int purged = jdbcTemplate.update(PURGE_CHANGES, Timestamp.valueOf(now.minus(properties.getRetention())));
+        if (purged > 0) {
+            log.info("Purged {} price changes older than {}", purged, properties.getRetention());
+        }
+    }
+}
\ No newline at end of file
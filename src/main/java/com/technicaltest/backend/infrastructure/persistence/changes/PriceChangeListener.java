@@ -0,0 +1,31 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+
+import java.util.Set;
+
+/**
+ * In-process structure kept fresh by the {@link PriceChangeFeed}.
+ * Implementations reload the prices of the changed products from the database and swap them in,
+ * so inserts, updates and deletes are all handled the same way and replaying a change is harmless.
+ * Indexes run before caches, so a cache entry reloaded after an eviction already sees the fresh index.
+ */
+public interface PriceChangeListener {
+
+    /**
+     * Order of listeners holding an index the caches read from.
+     */
+    int INDEX_ORDER = 0;
+
+    /**
+     * Order of listeners caching what the indexes return.
+     */
+    int CACHE_ORDER = 100;
+
+    /**
+     * Refreshes the given products.
+     *
+     * @param keys brands and products whose prices changed, not empty
+     */
+    void onPricesChanged(Set<PriceKey> keys);
+}
\ No newline at end of file
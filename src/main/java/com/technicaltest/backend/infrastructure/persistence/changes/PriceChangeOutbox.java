@@ -0,0 +1,47 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Records the brands and products whose prices changed in the PRICE_CHANGES outbox.
+ * Joins the caller's transaction, so a change is visible to {@link PriceChangeFeed} exactly when the prices are.
+ */
+@Component
+public class PriceChangeOutbox {
+
+    private static final String INSERT_CHANGE = "INSERT INTO PRICE_CHANGES (BRAND_ID, PRODUCT_ID) VALUES (?, ?)";
+    private static final String LAST_CHANGE = "SELECT COALESCE(MAX(ID), 0) FROM PRICE_CHANGES";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PriceChangeOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+    }
+
+    /**
+     * @return identifier of the last change recorded, zero if none
+     */
+    public long lastChange() {
+        return jdbcTemplate.queryForObject(LAST_CHANGE, Long.class);
+    }
+
+    /**
+     * @param keys brands and products whose prices changed
+     */
+    public void record(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<PriceKey> changes = List.copyOf(keys);
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, changes, changes.size(), (statement, key) -> {
+            statement.setLong(1, key.getBrandId());
+            statement.setLong(2, key.getProductId());
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.technicaltest.backend.infrastructure.persistence.columnar;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Binary snapshot file of a {@link ColumnarPriceStore}.
+ * The file is a small header followed by the raw columns, each aligned to 8 bytes, so loading
+ * it is one memory mapping per column with no parsing: lookups page the data in on demand and
+ * every JVM mapping the same file on a host shares the same page cache. The header records the
+ * PRICE_CHANGES position the catalog was read at, so the changes made since can be replayed.
+ *
+ * <pre>
+ * int magic "PRCS", int version, long change position, long export epoch millis, int keys, int rows, int currencies,
+ * per currency: short length + UTF-8 code,
+ * padding to 8 bytes, then the {@value ColumnarPriceStore#COLUMNS} columns, each padded to 8 bytes
+ * </pre>
+ * All values are little-endian.
+ */
+public final class ColumnarPriceSnapshot {
+
+    static final int MAGIC = 0x50524353;
+    static final int VERSION = 3;
+
+    private static final int HEADER_BYTES = 36;
+
+    private final ColumnarPriceStore store;
+    private final long changePosition;
+    private final Instant exportedAt;
+
+    private ColumnarPriceSnapshot(ColumnarPriceStore store, long changePosition, Instant exportedAt) {
+        this.store = store;
+        this.changePosition = changePosition;
+        this.exportedAt = exportedAt;
+    }
+
+    /**
+     * Writes the store to a snapshot file. The file is written next to the target and moved
+     * into place atomically, so a reader never maps a partial snapshot.
+     *
+     * @param store store to write
+     * @param changePosition last PRICE_CHANGES identifier read before the store was loaded
+     * @param exportedAt when the store was loaded
+     * @param file snapshot file to create or replace
+     */
+    public static void write(ColumnarPriceStore store, long changePosition, Instant exportedAt, Path file) {
+        Objects.requireNonNull(store, "store cannot be null");
+        Objects.requireNonNull(exportedAt, "exportedAt cannot be null");
+        Objects.requireNonNull(file, "file cannot be null");
+        Path target = file.toAbsolutePath();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                writeFully(channel, header(store, changePosition, exportedAt));
+                for (ByteBuffer column : store.columns()) {
+                    writeFully(channel, column);
+                    writeFully(channel, ByteBuffer.allocate(padding(column.capacity())));
+                }
+                channel.force(true);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write price snapshot " + target, e);
+        }
+    }
+
+    /**
+     * Maps a snapshot file read-only. The mapping stays valid if the file is later replaced.
+     *
+     * @param file snapshot file
+     * @return snapshot whose store is backed by the mapped file
+     */
+    public static ColumnarPriceSnapshot map(Path file) {
+        Objects.requireNonNull(file, "file cannot be null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), 1 << 20))
+                    .order(ColumnarPriceStore.BYTE_ORDER);
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IllegalStateException("Not a price snapshot: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported price snapshot version " + version + ": " + file);
+            }
+            long changePosition = header.getLong();
+            Instant exportedAt = Instant.ofEpochMilli(header.getLong());
+            int keys = header.getInt();
+            int rows = header.getInt();
+            String[] currencies = new String[header.getInt()];
+            for (int i = 0; i < currencies.length; i++) {
+                byte[] code = new byte[header.getShort()];
+                header.get(code);
+                currencies[i] = new String(code, StandardCharsets.UTF_8);
+            }
+
+            long offset = header.position() + padding(header.position());
+            long[] sizes = columnSizes(keys, rows);
+            ByteBuffer[] columns = new ByteBuffer[sizes.length];
+            for (int i = 0; i < sizes.length; i++) {
+                if (offset + sizes[i] > channel.size()) {
+                    throw new IllegalStateException("Truncated price snapshot: " + file);
+                }
+                columns[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, sizes[i]);
+                offset += sizes[i] + padding(sizes[i]);
+            }
+            return new ColumnarPriceSnapshot(new ColumnarPriceStore(keys, rows, columns, currencies),
+                    changePosition, exportedAt);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map price snapshot " + file, e);
+        }
+    }
+
+    // Getters
+    public ColumnarPriceStore getStore() { return store; }
+    public long getChangePosition() { return changePosition; }
+    public Instant getExportedAt() { return exportedAt; }
+
+    private static ByteBuffer header(ColumnarPriceStore store, long changePosition, Instant exportedAt) {
+        String[] currencies = store.currencies();
+        int size = HEADER_BYTES;
+        for (String currency : currencies) {
+            size += 2 + currency.getBytes(StandardCharsets.UTF_8).length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(size + padding(size)).order(ColumnarPriceStore.BYTE_ORDER);
+        header.putInt(MAGIC).putInt(VERSION).putLong(changePosition).putLong(exportedAt.toEpochMilli())
+                .putInt(store.keyCount()).putInt(store.size()).putInt(currencies.length);
+        for (String currency : currencies) {
+            byte[] code = currency.getBytes(StandardCharsets.UTF_8);
+            header.putShort((short) code.length).put(code);
+        }
+        return header.position(0);
+    }
+
+    private static long[] columnSizes(int keys, int rows) {
+        return new long[]{keys * 8L, keys * 8L, (keys + 1) * 4L,
+                rows * 8L, rows * 8L, rows * 4L, rows * 8L, rows * 4L, rows * 8L, rows * 8L, rows * 4L, rows * 2L};
+    }
+
+    private static int padding(long size) {
+        return (int) (-size & 7);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
\ No newline at end of file
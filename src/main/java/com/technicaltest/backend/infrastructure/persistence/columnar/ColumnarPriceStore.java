@@ -0,0 +1,479 @@
+package com.technicaltest.backend.infrastructure.persistence.columnar;
+
+import com.technicaltest.backend.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable, off-heap columnar store of price rows.
+ * Every field is a primitive column in direct memory: dates as epoch seconds plus nanoseconds, the amount
+ * as cents and the currency as a dictionary code, so the catalog costs {@value #ROW_BYTES} bytes per price
+ * outside the heap instead of about ten heap objects. Rows are grouped by brand and product and
+ * sorted by start date; a lookup binary searches the product, scans its rows and materializes a
+ * {@link Price} only for the rows it returns.
+ * Columns are either built in direct memory or mapped from a snapshot file, see {@link ColumnarPriceSnapshot}.
+ */
+public final class ColumnarPriceStore {
+
+    /**
+     * Bytes per price: id, start second, end second, cents, price list (8 each), start nano, end nano,
+     * priority (4 each), currency (2).
+     */
+    public static final int ROW_BYTES = 54;
+
+    /** Most rows a column can address, limited by the int index of a direct buffer. */
+    public static final int MAX_ROWS = Integer.MAX_VALUE / 8;
+
+    /** Byte order of every column, fixed so snapshot files are portable between hosts. */
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** Number of columns, in the order returned by {@link #columns()}. */
+    static final int COLUMNS = 12;
+
+    private static final int KEY_BYTES = 20;
+    private static final int CENTS_SCALE = 2;
+
+    private static final ColumnarPriceStore EMPTY = new Builder(0).build();
+
+    private final int keys;
+    private final int rows;
+    private final ByteBuffer keyBrandIds;
+    private final ByteBuffer keyProductIds;
+    private final ByteBuffer keyFirstRows;
+    private final ByteBuffer ids;
+    private final ByteBuffer startDates;
+    private final ByteBuffer startNanos;
+    private final ByteBuffer endDates;
+    private final ByteBuffer endNanos;
+    private final ByteBuffer cents;
+    private final ByteBuffer priceLists;
+    private final ByteBuffer priorities;
+    private final ByteBuffer currencyCodes;
+    private final String[] currencies;
+
+    ColumnarPriceStore(int keys, int rows, ByteBuffer[] columns, String[] currencies) {
+        if (columns.length != COLUMNS) {
+            throw new IllegalArgumentException("expected " + COLUMNS + " columns");
+        }
+        this.keys = keys;
+        this.rows = rows;
+        this.keyBrandIds = readOnly(columns[0], keys * 8L);
+        this.keyProductIds = readOnly(columns[1], keys * 8L);
+        this.keyFirstRows = readOnly(columns[2], (keys + 1) * 4L);
+        this.ids = readOnly(columns[3], rows * 8L);
+        this.startDates = readOnly(columns[4], rows * 8L);
+        this.startNanos = readOnly(columns[5], rows * 4L);
+        this.endDates = readOnly(columns[6], rows * 8L);
+        this.endNanos = readOnly(columns[7], rows * 4L);
+        this.cents = readOnly(columns[8], rows * 8L);
+        this.priceLists = readOnly(columns[9], rows * 8L);
+        this.priorities = readOnly(columns[10], rows * 4L);
+        this.currencyCodes = readOnly(columns[11], rows * 2L);
+        this.currencies = currencies.clone();
+    }
+
+    public static ColumnarPriceStore empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @param expectedRows initial row capacity; the builder grows past it if needed
+     * @return builder fed with prices ordered by brand and product
+     */
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    /**
+     * Finds the winning price of a product at the given date: highest priority, ties going to
+     * the latest started price, as {@link Price#PRIORITY_ORDER}.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @param applicationDate date to check
+     * @return the winning price, empty if none applies
+     */
+    public Optional<Price> findPriceAt(long brandId, long productId, LocalDateTime applicationDate) {
+        int key = indexOf(brandId, productId);
+        if (key < 0) {
+            return Optional.empty();
+        }
+
+        long second = epochSecond(applicationDate);
+        int nano = applicationDate.getNano();
+        int winner = -1;
+        int winnerPriority = Integer.MIN_VALUE;
+        for (int row = firstRow(key), end = firstRow(key + 1); row < end; row++) {
+            if (!startsAtOrBefore(row, second, nano)) {
+                break;
+            }
+            if (endsAtOrAfter(row, second, nano) && priority(row) >= winnerPriority) {
+                winner = row;
+                winnerPriority = priority(row);
+            }
+        }
+        return winner < 0 ? Optional.empty() : Optional.of(toPrice(key, winner));
+    }
+
+    /**
+     * Finds every price of a product applicable at the given date.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @param applicationDate date to check
+     * @return applicable prices, empty if none
+     */
+    public List<Price> findPricesAt(long brandId, long productId, LocalDateTime applicationDate) {
+        int key = indexOf(brandId, productId);
+        if (key < 0) {
+            return List.of();
+        }
+
+        long second = epochSecond(applicationDate);
+        int nano = applicationDate.getNano();
+        List<Price> prices = new ArrayList<>();
+        for (int row = firstRow(key), end = firstRow(key + 1); row < end && startsAtOrBefore(row, second, nano); row++) {
+            if (endsAtOrAfter(row, second, nano)) {
+                prices.add(toPrice(key, row));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Finds every price of a product whose date range overlaps an interval.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @return overlapping prices ordered by start date, empty if none
+     */
+    public List<Price> findPricesBetween(long brandId, long productId, LocalDateTime from, LocalDateTime to) {
+        int key = indexOf(brandId, productId);
+        if (key < 0) {
+            return List.of();
+        }
+
+        long fromSecond = epochSecond(from);
+        long toSecond = epochSecond(to);
+        List<Price> prices = new ArrayList<>();
+        for (int row = firstRow(key), end = firstRow(key + 1);
+             row < end && startsAtOrBefore(row, toSecond, to.getNano()); row++) {
+            if (endsAtOrAfter(row, fromSecond, from.getNano())) {
+                prices.add(toPrice(key, row));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * @return number of prices held
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * @return number of distinct brand and product pairs held
+     */
+    public int keyCount() {
+        return keys;
+    }
+
+    /**
+     * @return direct memory used by the columns, in bytes
+     */
+    public long offHeapBytes() {
+        return (long) keys * KEY_BYTES + 4L + (long) rows * ROW_BYTES;
+    }
+
+    /**
+     * @return the columns, positioned at zero: key brand ids, key product ids, key first rows, ids,
+     *         start dates, start nanos, end dates, end nanos, cents, price lists, priorities and currency codes
+     */
+    ByteBuffer[] columns() {
+        return new ByteBuffer[]{keyBrandIds.duplicate().order(BYTE_ORDER), keyProductIds.duplicate().order(BYTE_ORDER),
+                keyFirstRows.duplicate().order(BYTE_ORDER), ids.duplicate().order(BYTE_ORDER),
+                startDates.duplicate().order(BYTE_ORDER), startNanos.duplicate().order(BYTE_ORDER),
+                endDates.duplicate().order(BYTE_ORDER), endNanos.duplicate().order(BYTE_ORDER),
+                cents.duplicate().order(BYTE_ORDER), priceLists.duplicate().order(BYTE_ORDER),
+                priorities.duplicate().order(BYTE_ORDER), currencyCodes.duplicate().order(BYTE_ORDER)};
+    }
+
+    String[] currencies() {
+        return currencies.clone();
+    }
+
+    private int indexOf(long brandId, long productId) {
+        int low = 0;
+        int high = keys - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareKeys(keyBrandIds.getLong(mid * 8), keyProductIds.getLong(mid * 8), brandId, productId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private boolean startsAtOrBefore(int row, long second, int nano) {
+        long startDate = startDate(row);
+        return startDate < second || (startDate == second && startNanos.getInt(row * 4) <= nano);
+    }
+
+    // the end date is inclusive
+    private boolean endsAtOrAfter(int row, long second, int nano) {
+        long endDate = endDate(row);
+        return endDate > second || (endDate == second && endNanos.getInt(row * 4) >= nano);
+    }
+
+    private Price toPrice(int key, int row) {
+        return new Price(
+                ids.getLong(row * 8),
+                keyBrandIds.getLong(key * 8),
+                toDate(startDate(row), startNanos.getInt(row * 4)),
+                toDate(endDate(row), endNanos.getInt(row * 4)),
+                priceLists.getLong(row * 8),
+                keyProductIds.getLong(key * 8),
+                priority(row),
+                BigDecimal.valueOf(cents.getLong(row * 8), CENTS_SCALE),
+                currencies[currencyCodes.getShort(row * 2)]
+        );
+    }
+
+    private int firstRow(int key) {
+        return keyFirstRows.getInt(key * 4);
+    }
+
+    private long startDate(int row) {
+        return startDates.getLong(row * 8);
+    }
+
+    private long endDate(int row) {
+        return endDates.getLong(row * 8);
+    }
+
+    private int priority(int row) {
+        return priorities.getInt(row * 4);
+    }
+
+    private static ByteBuffer readOnly(ByteBuffer column, long bytes) {
+        if (column.capacity() != bytes) {
+            throw new IllegalArgumentException("column holds " + column.capacity() + " bytes, expected " + bytes);
+        }
+        return column.asReadOnlyBuffer().order(BYTE_ORDER);
+    }
+
+    private static int compareKeys(long brandId, long productId, long otherBrandId, long otherProductId) {
+        int comparison = Long.compare(brandId, otherBrandId);
+        return comparison != 0 ? comparison : Long.compare(productId, otherProductId);
+    }
+
+    private static long epochSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDate(long epochSecond, int nano) {
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    /**
+     * Appends prices ordered by brand and product into growable direct buffers.
+     * Prices of the same product may come in any order; they are sorted by start date when
+     * the product is complete. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final List<Price> group = new ArrayList<>();
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Short> currencyIndex = new HashMap<>();
+
+        private int keys;
+        private int rows;
+        private ByteBuffer keyBrandIds;
+        private ByteBuffer keyProductIds;
+        private ByteBuffer keyFirstRows;
+        private ByteBuffer ids;
+        private ByteBuffer startDates;
+        private ByteBuffer startNanos;
+        private ByteBuffer endDates;
+        private ByteBuffer endNanos;
+        private ByteBuffer cents;
+        private ByteBuffer priceLists;
+        private ByteBuffer priorities;
+        private ByteBuffer currencyCodes;
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(16, Math.min(expectedRows, MAX_ROWS));
+            keyBrandIds = allocate(capacity / 4 * 8);
+            keyProductIds = allocate(capacity / 4 * 8);
+            keyFirstRows = allocate(capacity / 4 * 4);
+            ids = allocate(capacity * 8);
+            startDates = allocate(capacity * 8);
+            startNanos = allocate(capacity * 4);
+            endDates = allocate(capacity * 8);
+            endNanos = allocate(capacity * 4);
+            cents = allocate(capacity * 8);
+            priceLists = allocate(capacity * 8);
+            priorities = allocate(capacity * 4);
+            currencyCodes = allocate(capacity * 2);
+        }
+
+        /**
+         * Adds a price; must not belong to a product before the last one added.
+         *
+         * @param price price to add, with at most two decimals
+         * @return this builder
+         */
+        public Builder add(Price price) {
+            Objects.requireNonNull(price, "price cannot be null");
+            if (!group.isEmpty()) {
+                Price last = group.get(0);
+                int comparison = compareKeys(price.getBrandId(), price.getProductId(), last.getBrandId(), last.getProductId());
+                if (comparison < 0) {
+                    throw new IllegalArgumentException("prices must be ordered by brand and product");
+                }
+                if (comparison > 0) {
+                    flushGroup();
+                }
+            }
+            group.add(price);
+            return this;
+        }
+
+        /**
+         * @return the store holding every price added
+         */
+        public ColumnarPriceStore build() {
+            flushGroup();
+            ensureKeyCapacity(keys + 1);
+            keyFirstRows.putInt(keys * 4, rows);
+            trimToSize();
+            return new ColumnarPriceStore(keys, rows, new ByteBuffer[]{keyBrandIds, keyProductIds, keyFirstRows,
+                    ids, startDates, startNanos, endDates, endNanos, cents, priceLists, priorities, currencyCodes},
+                    currencies.toArray(new String[0]));
+        }
+
+        private void flushGroup() {
+            if (group.isEmpty()) {
+                return;
+            }
+            group.sort((first, second) -> first.getStartDate().compareTo(second.getStartDate()));
+
+            ensureKeyCapacity(keys + 2);
+            keyBrandIds.putLong(keys * 8, group.get(0).getBrandId());
+            keyProductIds.putLong(keys * 8, group.get(0).getProductId());
+            keyFirstRows.putInt(keys * 4, rows);
+            keys++;
+
+            ensureRowCapacity(rows + group.size());
+            for (Price price : group) {
+                ids.putLong(rows * 8, Objects.isNull(price.getId()) ? 0L : price.getId());
+                startDates.putLong(rows * 8, epochSecond(price.getStartDate()));
+                startNanos.putInt(rows * 4, price.getStartDate().getNano());
+                endDates.putLong(rows * 8, epochSecond(price.getEndDate()));
+                endNanos.putInt(rows * 4, price.getEndDate().getNano());
+                cents.putLong(rows * 8, toCents(price.getPrice()));
+                priceLists.putLong(rows * 8, price.getPriceList());
+                priorities.putInt(rows * 4, price.getPriority());
+                currencyCodes.putShort(rows * 2, currencyCode(price.getCurrency()));
+                rows++;
+            }
+            group.clear();
+        }
+
+        private short currencyCode(String currency) {
+            return currencyIndex.computeIfAbsent(currency, code -> {
+                if (currencies.size() == Short.MAX_VALUE) {
+                    throw new IllegalStateException("too many currencies");
+                }
+                currencies.add(code);
+                return (short) (currencies.size() - 1);
+            });
+        }
+
+        private void trimToSize() {
+            keyBrandIds = resize(keyBrandIds, keys * 8);
+            keyProductIds = resize(keyProductIds, keys * 8);
+            keyFirstRows = resize(keyFirstRows, (keys + 1) * 4);
+            ids = resize(ids, rows * 8);
+            startDates = resize(startDates, rows * 8);
+            startNanos = resize(startNanos, rows * 4);
+            endDates = resize(endDates, rows * 8);
+            endNanos = resize(endNanos, rows * 4);
+            cents = resize(cents, rows * 8);
+            priceLists = resize(priceLists, rows * 8);
+            priorities = resize(priorities, rows * 4);
+            currencyCodes = resize(currencyCodes, rows * 2);
+        }
+
+        private void ensureKeyCapacity(int capacity) {
+            if (keyFirstRows.capacity() / 4 >= capacity) {
+                return;
+            }
+            if (capacity > MAX_ROWS) {
+                throw new IllegalStateException("columnar store holds at most " + MAX_ROWS + " products");
+            }
+            int grown = (int) Math.min(MAX_ROWS, Math.max(capacity, keyFirstRows.capacity() / 4 * 3L / 2));
+            keyBrandIds = resize(keyBrandIds, grown * 8);
+            keyProductIds = resize(keyProductIds, grown * 8);
+            keyFirstRows = resize(keyFirstRows, grown * 4);
+        }
+
+        private void ensureRowCapacity(int capacity) {
+            if (ids.capacity() / 8 >= capacity) {
+                return;
+            }
+            if (capacity > MAX_ROWS) {
+                throw new IllegalStateException("columnar store holds at most " + MAX_ROWS + " prices");
+            }
+            int grown = (int) Math.min(MAX_ROWS, Math.max(capacity, ids.capacity() / 8 * 3L / 2));
+            ids = resize(ids, grown * 8);
+            startDates = resize(startDates, grown * 8);
+            startNanos = resize(startNanos, grown * 4);
+            endDates = resize(endDates, grown * 8);
+            endNanos = resize(endNanos, grown * 4);
+            cents = resize(cents, grown * 8);
+            priceLists = resize(priceLists, grown * 8);
+            priorities = resize(priorities, grown * 4);
+            currencyCodes = resize(currencyCodes, grown * 2);
+        }
+
+        private static long toCents(BigDecimal price) {
+            try {
+                return price.setScale(CENTS_SCALE).unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("columnar store keeps amounts with at most two decimals: " + price, e);
+            }
+        }
+
+        private static ByteBuffer resize(ByteBuffer buffer, int bytes) {
+            if (buffer.capacity() == bytes) {
+                return buffer;
+            }
+            ByteBuffer resized = allocate(bytes);
+            resized.put(0, buffer, 0, Math.min(bytes, buffer.capacity()));
+            return resized;
+        }
+
+        private static ByteBuffer allocate(int bytes) {
+            return ByteBuffer.allocateDirect(bytes).order(BYTE_ORDER);
+        }
+    }
+}
\ No newline at end of file
@@ -8,13 +8,18 @@ import java.util.Objects;
 /**
  * JPA Entity for PRICES table.
  * Infrastructure layer - contains framework annotations.
+ * The schema is owned by the Flyway migrations under {@code db/migration}.
  */
 @Entity
-@Table(name = "PRICES")
+@Table(name = "PRICES", indexes = {
+        @Index(name = "IDX_PRICES_LOOKUP",
+                columnList = "BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRIORITY, PRICE")
+})
 public class PriceEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prices_seq")
+    @SequenceGenerator(name = "prices_seq", sequenceName = "PRICES_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "BRAND_ID", nullable = false)
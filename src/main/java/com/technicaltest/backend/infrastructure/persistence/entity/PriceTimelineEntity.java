@@ -0,0 +1,126 @@
+package com.technicaltest.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * JPA Entity for PRICE_TIMELINE table.
+ * Each row is a segment of the effective price timeline of a brand and product, with the
+ * winning price denormalized so a lookup reads exactly one row.
+ */
+@Entity
+@Table(name = "PRICE_TIMELINE", indexes = {
+        @Index(name = "IDX_PRICE_TIMELINE_LOOKUP", columnList = "BRAND_ID, PRODUCT_ID, SEGMENT_START")
+})
+public class PriceTimelineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "price_timeline_seq")
+    @SequenceGenerator(name = "price_timeline_seq", sequenceName = "PRICE_TIMELINE_SEQ", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "BRAND_ID", nullable = false)
+    private Long brandId;
+
+    @Column(name = "PRODUCT_ID", nullable = false)
+    private Long productId;
+
+    @Column(name = "SEGMENT_START", nullable = false)
+    private LocalDateTime segmentStart;
+
+    @Column(name = "SEGMENT_END", nullable = false)
+    private LocalDateTime segmentEnd;
+
+    @Column(name = "PRICE_ID", nullable = false)
+    private Long priceId;
+
+    @Column(name = "PRICE_LIST", nullable = false)
+    private Long priceList;
+
+    @Column(name = "PRIORITY", nullable = false)
+    private Integer priority;
+
+    @Column(name = "PRICE", nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(name = "CURR", nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "PRICE_START_DATE", nullable = false)
+    private LocalDateTime priceStartDate;
+
+    @Column(name = "PRICE_END_DATE", nullable = false)
+    private LocalDateTime priceEndDate;
+
+    // Default constructor for JPA
+    public PriceTimelineEntity() {
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getBrandId() { return brandId; }
+    public void setBrandId(Long brandId) { this.brandId = brandId; }
+
+    public Long getProductId() { return productId; }
+    public void setProductId(Long productId) { this.productId = productId; }
+
+    public LocalDateTime getSegmentStart() { return segmentStart; }
+    public void setSegmentStart(LocalDateTime segmentStart) { this.segmentStart = segmentStart; }
+
+    public LocalDateTime getSegmentEnd() { return segmentEnd; }
+    public void setSegmentEnd(LocalDateTime segmentEnd) { this.segmentEnd = segmentEnd; }
+
+    public Long getPriceId() { return priceId; }
+    public void setPriceId(Long priceId) { this.priceId = priceId; }
+
+    public Long getPriceList() { return priceList; }
+    public void setPriceList(Long priceList) { this.priceList = priceList; }
+
+    public Integer getPriority() { return priority; }
+    public void setPriority(Integer priority) { this.priority = priority; }
+
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public String getCurrency() { return currency; }
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public LocalDateTime getPriceStartDate() { return priceStartDate; }
+    public void setPriceStartDate(LocalDateTime priceStartDate) { this.priceStartDate = priceStartDate; }
+
+    public LocalDateTime getPriceEndDate() { return priceEndDate; }
+    public void setPriceEndDate(LocalDateTime priceEndDate) { this.priceEndDate = priceEndDate; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (Objects.isNull(o) || getClass() != o.getClass()) return false;
+        PriceTimelineEntity that = (PriceTimelineEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "PriceTimelineEntity{" +
+                "id=" + id +
+                ", brandId=" + brandId +
+                ", productId=" + productId +
+                ", segmentStart=" + segmentStart +
+                ", segmentEnd=" + segmentEnd +
+                ", priceId=" + priceId +
+                ", priceList=" + priceList +
+                ", priority=" + priority +
+                ", price=" + price +
+                ", currency='" + currency + '\'' +
+                '}';
+    }
+}
\ No newline at end of file
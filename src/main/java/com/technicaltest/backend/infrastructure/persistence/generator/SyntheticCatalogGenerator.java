@@ -0,0 +1,92 @@
+package com.technicaltest.backend.infrastructure.persistence.generator;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.infrastructure.config.SyntheticCatalogProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates a deterministic synthetic price catalog of any size.
+ * Every product of every brand gets a base price (priority 0, price list 1) covering the whole
+ * range plus {@code pricesPerProduct - 1} promotions of random start, length, priority and
+ * price list, so every lookup within the range finds a price and overlaps are common.
+ * Prices are produced lazily, one product at a time, so millions of rows never sit in memory.
+ */
+public class SyntheticCatalogGenerator {
+
+    private final SyntheticCatalogProperties properties;
+    private final long rangeSeconds;
+    private final long maxPromotionSeconds;
+
+    public SyntheticCatalogGenerator(SyntheticCatalogProperties properties) {
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+        if (properties.getBrands() < 1 || properties.getProducts() < 1 || properties.getPricesPerProduct() < 1) {
+            throw new IllegalArgumentException("brands, products and pricesPerProduct must be positive");
+        }
+        if (properties.getPriceLists() < 1 || properties.getMaxPriority() < 1) {
+            throw new IllegalArgumentException("priceLists and maxPriority must be positive");
+        }
+        if (!properties.getFrom().isBefore(properties.getTo())) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        this.rangeSeconds = Duration.between(properties.getFrom(), properties.getTo()).getSeconds();
+        this.maxPromotionSeconds = Math.max(1, properties.getMaxPromotionLength().getSeconds());
+    }
+
+    /**
+     * @return number of prices the catalog holds
+     */
+    public long size() {
+        return (long) properties.getBrands() * properties.getProducts() * properties.getPricesPerProduct();
+    }
+
+    /**
+     * @return every price of the catalog, ordered by brand and product
+     */
+    public Stream<Price> prices() {
+        return LongStream.rangeClosed(1, properties.getBrands())
+                .boxed()
+                .flatMap(brandId -> LongStream.range(0, properties.getProducts())
+                        .mapToObj(offset -> pricesOf(brandId, properties.getFirstProductId() + offset))
+                        .flatMap(List::stream));
+    }
+
+    /**
+     * Generates the prices of a single product; the same product always gets the same prices.
+     *
+     * @param brandId brand identifier
+     * @param productId product identifier
+     * @return the prices of the product
+     */
+    public List<Price> pricesOf(long brandId, long productId) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed() ^ (brandId * 0x9E3779B97F4A7C15L + productId));
+        List<Price> prices = new ArrayList<>(properties.getPricesPerProduct());
+        prices.add(new Price(null, brandId, properties.getFrom(), properties.getTo(), 1L, productId, 0,
+                randomAmount(random, 1_000, 10_000), "EUR"));
+
+        for (int promotion = 1; promotion < properties.getPricesPerProduct(); promotion++) {
+            LocalDateTime startDate = properties.getFrom().plusSeconds(random.nextLong(rangeSeconds));
+            LocalDateTime endDate = startDate.plusSeconds(1 + random.nextLong(maxPromotionSeconds));
+            if (endDate.isAfter(properties.getTo())) {
+                endDate = properties.getTo();
+            }
+            prices.add(new Price(null, brandId, startDate, endDate,
+                    1L + random.nextInt(properties.getPriceLists()), productId,
+                    1 + random.nextInt(properties.getMaxPriority()),
+                    randomAmount(random, 500, 5_000), "EUR"));
+        }
+        return prices;
+    }
+
+    private static BigDecimal randomAmount(SplittableRandom random, int minCents, int maxCents) {
+        return BigDecimal.valueOf(minCents + random.nextInt(maxCents - minCents), 2);
+    }
+}
\ No newline at end of file
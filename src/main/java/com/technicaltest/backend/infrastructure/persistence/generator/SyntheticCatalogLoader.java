@@ -0,0 +1,101 @@
+package com.technicaltest.backend.infrastructure.persistence.generator;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.infrastructure.config.SyntheticCatalogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Bulk loads the synthetic catalog into PRICES with batched JDBC inserts, bypassing JPA.
+ * Runs before any other startup listener, so the in-memory index and the precomputed timeline
+ * are built from the loaded catalog. Does nothing if the catalog is already there.
+ */
+public class SyntheticCatalogLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticCatalogLoader.class);
+
+    private static final String INSERT_PRICE = "INSERT INTO PRICES " +
+            "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticCatalogProperties properties;
+    private final SyntheticCatalogGenerator generator;
+    private final AtomicBoolean loaded = new AtomicBoolean();
+
+    public SyntheticCatalogLoader(JdbcTemplate jdbcTemplate, SyntheticCatalogProperties properties) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate cannot be null");
+        this.properties = Objects.requireNonNull(properties, "properties cannot be null");
+        this.generator = new SyntheticCatalogGenerator(properties);
+    }
+
+    /**
+     * Loads the catalog once the schema is migrated and before the price indexes are built.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void load() {
+        if (!loaded.compareAndSet(false, true)) {
+            return;
+        }
+        if (isAlreadyLoaded()) {
+            log.info("Synthetic catalog already loaded, skipping");
+            return;
+        }
+
+        long start = System.nanoTime();
+        long rows = 0;
+        List<Price> batch = new ArrayList<>(properties.getBatchSize());
+        try (Stream<Price> prices = generator.prices()) {
+            Iterator<Price> iterator = prices.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == properties.getBatchSize()) {
+                    rows += insert(batch);
+                    batch.clear();
+                }
+            }
+        }
+        rows += insert(batch);
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Loaded synthetic catalog of {} prices in {} ms ({} rows/s)", rows, millis, rows * 1000 / millis);
+    }
+
+    private boolean isAlreadyLoaded() {
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID BETWEEN ? AND ?", Long.class,
+                properties.getFirstProductId(), properties.getFirstProductId() + properties.getProducts() - 1);
+        return Objects.nonNull(existing) && existing > 0;
+    }
+
+    private int insert(List<Price> prices) {
+        if (prices.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRICE, prices, prices.size(), (statement, price) -> {
+            statement.setLong(1, price.getBrandId());
+            statement.setTimestamp(2, Timestamp.valueOf(price.getStartDate()));
+            statement.setTimestamp(3, Timestamp.valueOf(price.getEndDate()));
+            statement.setLong(4, price.getPriceList());
+            statement.setLong(5, price.getProductId());
+            statement.setInt(6, price.getPriority());
+            statement.setBigDecimal(7, price.getPrice());
+            statement.setString(8, price.getCurrency());
+        });
+        return prices.size();
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.technicaltest.backend.domain.model.Price;
 import com.technicaltest.backend.infrastructure.persistence.entity.PriceEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 
 /**
  * MapStruct mapper for converting between PriceEntity and Price domain model.
@@ -28,4 +29,13 @@ public interface PriceMapper {
      */
     @Mapping(target = "id", ignore = true)
     PriceEntity toEntity(Price domain);
+
+    /**
+     * Copies every field of a Price (Domain) onto an existing PriceEntity (JPA), keeping its id.
+     *
+     * @param domain domain model holding the new values
+     * @param entity JPA entity to update
+     */
+    @Mapping(target = "id", ignore = true)
+    void updateEntity(Price domain, @MappingTarget PriceEntity entity);
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.technicaltest.backend.infrastructure.persistence.mapper;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceSegment;
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceTimelineEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * MapStruct mapper for converting between PriceTimelineEntity and the Price and PriceSegment domain models.
+ * Generated at compile time by MapStruct annotation processor.
+ */
+@Mapper(componentModel = "spring")
+public interface PriceTimelineMapper {
+
+    /**
+     * Converts the winning price stored in a PriceTimelineEntity (JPA) to Price (Domain).
+     *
+     * @param entity JPA entity
+     * @return domain model of the winning price
+     */
+    @Mapping(target = "id", source = "priceId")
+    @Mapping(target = "startDate", source = "priceStartDate")
+    @Mapping(target = "endDate", source = "priceEndDate")
+    Price toDomain(PriceTimelineEntity entity);
+
+    /**
+     * Converts PriceSegment (Domain) to PriceTimelineEntity (JPA).
+     *
+     * @param segment domain segment
+     * @return JPA entity
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "segmentStart", source = "startDate")
+    @Mapping(target = "segmentEnd", source = "endDate")
+    @Mapping(target = "priceId", source = "price.id")
+    @Mapping(target = "brandId", source = "price.brandId")
+    @Mapping(target = "productId", source = "price.productId")
+    @Mapping(target = "priceList", source = "price.priceList")
+    @Mapping(target = "priority", source = "price.priority")
+    @Mapping(target = "price", source = "price.price")
+    @Mapping(target = "currency", source = "price.currency")
+    @Mapping(target = "priceStartDate", source = "price.startDate")
+    @Mapping(target = "priceEndDate", source = "price.endDate")
+    PriceTimelineEntity toEntity(PriceSegment segment);
+}
\ No newline at end of file
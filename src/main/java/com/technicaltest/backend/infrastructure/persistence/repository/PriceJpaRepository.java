@@ -1,13 +1,18 @@
 package com.technicaltest.backend.infrastructure.persistence.repository;
 
+import com.technicaltest.backend.domain.model.Price;
 import com.technicaltest.backend.infrastructure.persistence.entity.PriceEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for PriceEntity.
@@ -17,8 +22,10 @@ import java.util.List;
 public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
 
     /**
-     * Finds all prices applicable for a product and brand at a specific date.
+     * Finds all prices applicable for a product and brand at a specific date, as managed entities.
      * A price is applicable if the application date is within its date range.
+     * Not on the read path, which the adapters answer without managed entities: kept as the baseline of
+     * {@code PriceJpaQueryBenchmark} and as the reference the {@code jpa} adapter is tested against.
      *
      * @param productId product identifier
      * @param brandId brand identifier
@@ -33,4 +40,52 @@ public interface PriceJpaRepository extends JpaRepository<PriceEntity, Long> {
             @Param("brandId") Long brandId,
             @Param("applicationDate") LocalDateTime applicationDate
     );
+
+    /**
+     * Finds every price of a product and brand, whatever its date range.
+     * Used to rebuild the effective price timeline of a single product.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @return all prices of the product and brand
+     */
+    @Query("SELECT new com.technicaltest.backend.domain.model.Price(" +
+            "p.id, p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency) " +
+            "FROM PriceEntity p WHERE p.productId = :productId AND p.brandId = :brandId")
+    List<Price> findAllPrices(@Param("productId") Long productId, @Param("brandId") Long brandId);
+
+    /**
+     * Streams every price straight into the domain model, without managed entities,
+     * ordered by brand and product so that the prices of a product arrive together.
+     * Used to build in-memory indexes; must be consumed inside a read-only transaction.
+     *
+     * @return stream of all prices
+     */
+    @Query("SELECT new com.technicaltest.backend.domain.model.Price(" +
+            "p.id, p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency) " +
+            "FROM PriceEntity p ORDER BY p.brandId, p.productId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Price> streamAllPrices();
+
+    /**
+     * Streams, straight into the domain model, the prices of a product and brand whose date range
+     * overlaps an interval, ordered by start date. Must be consumed inside a read-only transaction.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @param from interval start
+     * @param to interval end
+     * @return stream of overlapping prices
+     */
+    @Query("SELECT new com.technicaltest.backend.domain.model.Price(" +
+            "p.id, p.brandId, p.startDate, p.endDate, p.priceList, p.productId, p.priority, p.price, p.currency) " +
+            "FROM PriceEntity p WHERE p.productId = :productId AND p.brandId = :brandId " +
+            "AND p.startDate <= :to AND p.endDate >= :from ORDER BY p.startDate")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<Price> streamPricesBetween(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.technicaltest.backend.infrastructure.persistence.repository;
+
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceTimelineEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for PriceTimelineEntity.
+ * Infrastructure layer component.
+ */
+@Repository
+public interface PriceTimelineJpaRepository extends JpaRepository<PriceTimelineEntity, Long> {
+
+    /**
+     * Finds the timeline segment covering a specific date for a product and brand.
+     * Segments are disjoint, so at most one row matches.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @param applicationDate date to check
+     * @return the covering segment, empty if none
+     */
+    @Query("SELECT t FROM PriceTimelineEntity t WHERE t.productId = :productId " +
+            "AND t.brandId = :brandId " +
+            "AND :applicationDate BETWEEN t.segmentStart AND t.segmentEnd")
+    Optional<PriceTimelineEntity> findSegmentAt(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("applicationDate") LocalDateTime applicationDate
+    );
+
+    /**
+     * Finds the timeline segments of a product and brand overlapping an interval, in time order.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @param from start of the interval, inclusive
+     * @param to end of the interval, inclusive
+     * @return overlapping segments ordered by start
+     */
+    @Query("SELECT t FROM PriceTimelineEntity t WHERE t.productId = :productId " +
+            "AND t.brandId = :brandId " +
+            "AND t.segmentStart <= :to AND t.segmentEnd >= :from " +
+            "ORDER BY t.segmentStart")
+    List<PriceTimelineEntity> findSegmentsBetween(
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    /**
+     * Deletes every segment of a product and brand.
+     *
+     * @param productId product identifier
+     * @param brandId brand identifier
+     * @return number of deleted segments
+     */
+    @Modifying
+    @Query("DELETE FROM PriceTimelineEntity t WHERE t.productId = :productId AND t.brandId = :brandId")
+    int deleteTimeline(@Param("productId") Long productId, @Param("brandId") Long brandId);
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+-- PRICES: source of truth for the price lists of every brand and product
+CREATE TABLE PRICES (
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    BRAND_ID    BIGINT         NOT NULL,
+    START_DATE  TIMESTAMP(6)   NOT NULL,
+    END_DATE    TIMESTAMP(6)   NOT NULL,
+    PRICE_LIST  BIGINT         NOT NULL,
+    PRODUCT_ID  BIGINT         NOT NULL,
+    PRIORITY    INTEGER        NOT NULL,
+    PRICE       NUMERIC(10, 2) NOT NULL,
+    CURR        VARCHAR(3)     NOT NULL
+);
+
+-- Lookup index for "productId = ? AND brandId = ? AND ? BETWEEN startDate AND endDate".
+-- PRIORITY and PRICE trail the key so the winner can be chosen from the index alone;
+-- on databases supporting it they can be moved to an INCLUDE clause instead.
+CREATE INDEX IDX_PRICES_LOOKUP ON PRICES (BRAND_ID, PRODUCT_ID, START_DATE, END_DATE, PRIORITY, PRICE);
+
+-- PRICE_TIMELINE: precomputed effective price timeline, one row per segment
+CREATE SEQUENCE PRICE_TIMELINE_SEQ START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE PRICE_TIMELINE (
+    ID                BIGINT         NOT NULL PRIMARY KEY,
+    BRAND_ID          BIGINT         NOT NULL,
+    PRODUCT_ID        BIGINT         NOT NULL,
+    SEGMENT_START     TIMESTAMP(6)   NOT NULL,
+    SEGMENT_END       TIMESTAMP(6)   NOT NULL,
+    PRICE_ID          BIGINT         NOT NULL,
+    PRICE_LIST        BIGINT         NOT NULL,
+    PRIORITY          INTEGER        NOT NULL,
+    PRICE             NUMERIC(10, 2) NOT NULL,
+    CURR              VARCHAR(3)     NOT NULL,
+    PRICE_START_DATE  TIMESTAMP(6)   NOT NULL,
+    PRICE_END_DATE    TIMESTAMP(6)   NOT NULL
+);
+
+CREATE INDEX IDX_PRICE_TIMELINE_LOOKUP ON PRICE_TIMELINE (BRAND_ID, PRODUCT_ID, SEGMENT_START);
\ No newline at end of file
@@ -0,0 +1,11 @@
+-- PRICE_CHANGES: outbox of the brand and product keys whose prices changed, written in the same
+-- transaction as PRICES (see PriceChangeOutbox) and consumed by every instance to refresh its
+-- in-process indexes and caches (see PriceChangeFeed)
+CREATE TABLE PRICE_CHANGES (
+    ID          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    BRAND_ID    BIGINT       NOT NULL,
+    PRODUCT_ID  BIGINT       NOT NULL,
+    CHANGED_AT  TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IDX_PRICE_CHANGES_CHANGED_AT ON PRICE_CHANGES (CHANGED_AT);
\ No newline at end of file
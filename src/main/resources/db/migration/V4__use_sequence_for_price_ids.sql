@@ -0,0 +1,10 @@
+-- PRICES_SEQ: allocates price ids in blocks of 50, which lets Hibernate batch inserts
+-- (identity columns force one round trip per row). Starts after the existing prices.
+CREATE SEQUENCE PRICES_SEQ START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE PRICES_SEQ RESTART WITH (SELECT COALESCE(MAX(ID), 0) + 1 FROM PRICES);
+
+-- Plain SQL inserts keep working without an id
+ALTER TABLE PRICES ALTER COLUMN ID DROP IDENTITY;
+
+ALTER TABLE PRICES ALTER COLUMN ID SET DEFAULT NEXT VALUE FOR PRICES_SEQ;
\ No newline at end of file
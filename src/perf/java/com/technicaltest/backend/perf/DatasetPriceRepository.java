@@ -0,0 +1,84 @@
+package com.technicaltest.backend.perf;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Repository port over an in-memory dataset with the same semantics as the database query:
+ * a scan of the prices of the product, without any index. Keeps the use case benchmarks free
+ * of I/O so they measure the application layer only.
+ */
+public class DatasetPriceRepository implements PriceRepositoryPort {
+
+    private final Map<PriceKey, List<Price>> pricesByKey;
+
+    public DatasetPriceRepository(List<Price> prices) {
+        this.pricesByKey = prices.stream().collect(Collectors.groupingBy(PriceKey::of));
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return pricesOf(productId, brandId).stream()
+                .filter(price -> price.isApplicableAt(applicationDate))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Price> findHighestPriorityPrice(Long productId, Long brandId, LocalDateTime applicationDate) {
+        return pricesOf(productId, brandId).stream()
+                .filter(price -> price.isApplicableAt(applicationDate))
+                .max(Price.PRIORITY_ORDER);
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        return pricesOf(productId, brandId).stream()
+                .filter(price -> !price.getStartDate().isAfter(to) && !price.getEndDate().isBefore(from))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Price> findPricesBetween(Collection<PriceKey> keys, LocalDateTime from, LocalDateTime to) {
+        List<Price> prices = new ArrayList<>();
+        for (PriceKey key : keys) {
+            prices.addAll(findPricesBetween(key.getProductId(), key.getBrandId(), from, to));
+        }
+        return prices;
+    }
+
+    @Override
+    public void forEachPriceBetween(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                    Consumer<Price> consumer) {
+        findPricesBetween(productId, brandId, from, to)
+                .stream()
+                .sorted(Comparator.comparing(Price::getStartDate))
+                .forEach(consumer);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(Collection<PriceQuery> queries) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        queries.forEach(query -> keys.add(query.getKey()));
+        return keys.stream()
+                .flatMap(key -> pricesByKey.getOrDefault(key, List.of()).stream())
+                .collect(Collectors.toList());
+    }
+
+    private List<Price> pricesOf(Long productId, Long brandId) {
+        return pricesByKey.getOrDefault(new PriceKey(brandId, productId), List.of());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.technicaltest.backend.perf;
+
+import com.technicaltest.backend.application.service.GetApplicablePriceUseCase;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the application layer of the price lookup: single and batch resolution by
+ * {@link GetApplicablePriceUseCase} over an in-memory dataset.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GetApplicablePriceUseCaseBenchmark {
+
+    private static final int QUERIES = 1024;
+
+    @Param("10000")
+    private int products;
+
+    @Param({"1", "4", "16"})
+    private int pricesPerProduct;
+
+    @Param("100")
+    private int batchSize;
+
+    private GetApplicablePriceUseCase useCase;
+    private PriceQuery[] queries;
+    private List<PriceQuery> batch;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        useCase = new GetApplicablePriceUseCase(
+                new DatasetPriceRepository(PriceDataset.generate(products, pricesPerProduct, 42)));
+        queries = PriceDataset.queries(products, QUERIES, 7);
+        batch = Arrays.asList(Arrays.copyOf(queries, batchSize));
+    }
+
+    @Benchmark
+    public Optional<Price> execute() {
+        PriceQuery query = queries[cursor++ & (QUERIES - 1)];
+        return useCase.execute(query.getProductId(), query.getBrandId(), query.getApplicationDate());
+    }
+
+    @Benchmark
+    public List<Optional<Price>> executeAll() {
+        return useCase.executeAll(batch);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+package com.technicaltest.backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technicaltest.backend.application.dto.PriceCompactDto;
+import com.technicaltest.backend.application.dto.PriceResponseDto;
+import com.technicaltest.backend.application.service.GetApplicablePriceUseCase;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.infrastructure.api.PriceController;
+import com.technicaltest.backend.infrastructure.api.PriceHttpCachePolicy;
+import com.technicaltest.backend.infrastructure.cache.CachingGetApplicablePricePort;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the controller lookup and the JSON serialization of its response, with an
+ * ObjectMapper configured like the one Spring Boot provides to Spring MVC.
+ * The cached variants compare, on price cache hits, the former response path (ISO formatter,
+ * response DTO and Jackson per request) with the controller writing the pre-serialized JSON of the
+ * price; run them with {@code -prof gc} to compare the bytes allocated per lookup.
+ * The CBOR variants do the same for the compact binary form of the response, epoch second dates and
+ * unscaled integer prices; the serialize benchmarks return the bytes written, so their size can be compared.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceControllerSerializationBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final int PRODUCTS = 10_000;
+
+    private PriceController controller;
+    private PriceController cachedController;
+    private GetApplicablePricePort cachedPort;
+    private ObjectMapper objectMapper;
+    private PriceQuery[] queries;
+    private String[] applicationDates;
+    private PriceResponseDto response;
+    private PriceCompactDto compactResponse;
+    private ObjectWriter cborWriter;
+    private MockHttpServletRequest servletRequest;
+    private MockHttpServletRequest cborServletRequest;
+    private CountingResponse servletResponse;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        DatasetPriceRepository repository = new DatasetPriceRepository(PriceDataset.generate(PRODUCTS, 4, 42));
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        PriceHttpCachePolicy httpCachePolicy = PriceHttpCachePolicy.of(Duration.ofMinutes(1));
+        controller = new PriceController(new GetApplicablePriceUseCase(repository), objectMapper, httpCachePolicy);
+        cachedPort = new CachingGetApplicablePricePort(repository,
+                new CaffeineCache("prices", Caffeine.newBuilder().build()), Duration.ofHours(1));
+        cachedController = new PriceController(cachedPort, objectMapper, httpCachePolicy);
+        servletRequest = new MockHttpServletRequest("GET", "/api/prices");
+        cborServletRequest = new MockHttpServletRequest("GET", "/api/prices");
+        cborServletRequest.addHeader("Accept", "application/cbor");
+        cborWriter = new CBORMapper().writerFor(PriceCompactDto.class);
+        servletResponse = new CountingResponse();
+
+        queries = PriceDataset.queries(PRODUCTS, QUERIES, 7);
+        applicationDates = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            applicationDates[i] = queries[i].getApplicationDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            cachedPort.execute(queries[i].getProductId(), queries[i].getBrandId(), queries[i].getApplicationDate());
+        }
+        Price first = cachedPort.execute(
+                queries[0].getProductId(), queries[0].getBrandId(), queries[0].getApplicationDate()).orElseThrow();
+        response = toDto(first);
+        compactResponse = toCompactDto(first);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeCbor() throws Exception {
+        return cborWriter.writeValueAsBytes(compactResponse);
+    }
+
+    @Benchmark
+    public long lookupAndSerialize() throws Exception {
+        return lookup(controller, cursor++ & (QUERIES - 1));
+    }
+
+    @Benchmark
+    public byte[] cachedLookupWithJackson() throws Exception {
+        int i = cursor++ & (QUERIES - 1);
+        LocalDateTime applicationDate = LocalDateTime.parse(applicationDates[i], DateTimeFormatter.ISO_DATE_TIME);
+        Price price = cachedPort.execute(queries[i].getProductId(), queries[i].getBrandId(), applicationDate)
+                .orElseThrow();
+        return objectMapper.writeValueAsBytes(toDto(price));
+    }
+
+    @Benchmark
+    public long cachedLookupPreSerialized() throws Exception {
+        return lookup(cachedController, cursor++ & (QUERIES - 1));
+    }
+
+    @Benchmark
+    public long cachedLookupPreSerializedCbor() throws Exception {
+        return lookup(cachedController, cborServletRequest, cursor++ & (QUERIES - 1));
+    }
+
+    private long lookup(PriceController target, int i) throws Exception {
+        return lookup(target, servletRequest, i);
+    }
+
+    private long lookup(PriceController target, MockHttpServletRequest request, int i) throws Exception {
+        target.getApplicablePrice(applicationDates[i], queries[i].getProductId(), queries[i].getBrandId(),
+                request, servletResponse);
+        return servletResponse.written;
+    }
+
+    private static PriceResponseDto toDto(Price price) {
+        return new PriceResponseDto(price.getProductId(), price.getBrandId(), price.getPriceList(),
+                price.getStartDate(), price.getEndDate(), price.getPrice(), price.getCurrency());
+    }
+
+    private static PriceCompactDto toCompactDto(Price price) {
+        return new PriceCompactDto(price.getProductId(), price.getBrandId(), price.getPriceList(),
+                price.getStartDate().toEpochSecond(ZoneOffset.UTC), price.getEndDate().toEpochSecond(ZoneOffset.UTC),
+                price.getPrice().unscaledValue().longValueExact(), price.getPrice().scale(), price.getCurrency());
+    }
+
+    /**
+     * Response that only counts the bytes written, so the benchmark measures the controller and not
+     * the servlet container.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long written;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                written++;
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                written += len;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        private CountingResponse() {
+            super(new MockHttpServletResponse());
+        }
+
+        @Override
+        public void setStatus(int sc) {
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+        }
+
+        @Override
+        public void setContentType(String type) {
+        }
+
+        @Override
+        public void setContentLength(int len) {
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}
\ No newline at end of file
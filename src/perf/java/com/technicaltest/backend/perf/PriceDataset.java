@@ -0,0 +1,72 @@
+package com.technicaltest.backend.perf;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic synthetic catalog for the benchmarks.
+ * Every product gets a base price covering the whole year plus {@code pricesPerProduct - 1}
+ * promotions of up to a month, so the overlap density grows with {@code pricesPerProduct}.
+ */
+public final class PriceDataset {
+
+    public static final int BRANDS = 4;
+    public static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    public static final LocalDateTime YEAR_END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    private static final int HOURS_PER_YEAR = 24 * 365;
+
+    private PriceDataset() {
+    }
+
+    /**
+     * @param products number of products
+     * @param pricesPerProduct prices per product, base price included
+     * @param seed random seed
+     * @return the generated prices, grouped by product
+     */
+    public static List<Price> generate(int products, int pricesPerProduct, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Price> prices = new ArrayList<>(products * pricesPerProduct);
+        long id = 1;
+        for (long productId = 0; productId < products; productId++) {
+            long brandId = brandOf(productId);
+            prices.add(new Price(id++, brandId, YEAR_START, YEAR_END, 1L, productId, 0,
+                    BigDecimal.valueOf(1000 + random.nextInt(9000), 2), "EUR"));
+            for (int promo = 1; promo < pricesPerProduct; promo++) {
+                LocalDateTime startDate = YEAR_START.plusHours(random.nextInt(HOURS_PER_YEAR));
+                LocalDateTime endDate = startDate.plusHours(1 + random.nextInt(30 * 24));
+                prices.add(new Price(id++, brandId, startDate, endDate, promo + 1L, productId,
+                        1 + random.nextInt(3), BigDecimal.valueOf(500 + random.nextInt(5000), 2), "EUR"));
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * @param products number of products of the dataset
+     * @param count number of lookups
+     * @param seed random seed
+     * @return random lookups over the products of the dataset and the year it covers
+     */
+    public static PriceQuery[] queries(int products, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        PriceQuery[] queries = new PriceQuery[count];
+        for (int i = 0; i < count; i++) {
+            long productId = random.nextInt(products);
+            queries[i] = new PriceQuery(productId, brandOf(productId),
+                    YEAR_START.plusMinutes(random.nextInt(HOURS_PER_YEAR * 60)));
+        }
+        return queries;
+    }
+
+    public static long brandOf(long productId) {
+        return 1 + productId % BRANDS;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.technicaltest.backend.perf;
+
+import com.technicaltest.backend.BackendApplication;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the JPA lookup queries against an H2 database loaded with a generated dataset,
+ * through the real Spring Data repository and Flyway schema.
+ * The applicable prices lookup is measured two ways: through the {@code jpa} adapter, a JDBC query mapped
+ * straight into the domain model in a read-only transaction, and through the former read path, the Spring Data
+ * query loading managed entities copied into the domain model by the mapper. Run with {@code -prof gc} to
+ * compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceJpaQueryBenchmark {
+
+    private static final int QUERIES = 1024;
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param("100000")
+    private int products;
+
+    @Param({"1", "4", "16"})
+    private int pricesPerProduct;
+
+    private ConfigurableApplicationContext context;
+    private PriceJpaRepository repository;
+    private PriceRepositoryPort adapter;
+    private PriceMapper mapper;
+    private PriceQuery[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:perf;DB_CLOSE_DELAY=-1",
+                        "prices.cache.enabled=false",
+                        "prices.metrics.enabled=false",
+                        "prices.single-flight.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(PriceJpaRepository.class);
+        adapter = context.getBean(PriceRepositoryPort.class);
+        mapper = context.getBean(PriceMapper.class);
+        load(context.getBean(JdbcTemplate.class), PriceDataset.generate(products, pricesPerProduct, 42));
+        queries = PriceDataset.queries(products, QUERIES, 7);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.getBean(JdbcTemplate.class).execute("DROP ALL OBJECTS");
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Price> findHighestPriorityPrice() {
+        PriceQuery query = queries[cursor++ & (QUERIES - 1)];
+        return adapter.findHighestPriorityPrice(
+                query.getProductId(), query.getBrandId(), query.getApplicationDate());
+    }
+
+    @Benchmark
+    public List<Price> findApplicablePrices() {
+        PriceQuery query = queries[cursor++ & (QUERIES - 1)];
+        return adapter.findApplicablePrices(
+                query.getProductId(), query.getBrandId(), query.getApplicationDate());
+    }
+
+    @Benchmark
+    public List<Price> findApplicablePricesManagedEntities() {
+        PriceQuery query = queries[cursor++ & (QUERIES - 1)];
+        return repository.findApplicablePrices(
+                        query.getProductId(), query.getBrandId(), query.getApplicationDate())
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private static void load(JdbcTemplate jdbcTemplate, List<Price> prices) {
+        String insert = "INSERT INTO PRICES " +
+                "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        for (int from = 0; from < prices.size(); from += INSERT_BATCH) {
+            jdbcTemplate.batchUpdate(insert, prices.subList(from, Math.min(prices.size(), from + INSERT_BATCH)),
+                    INSERT_BATCH, (statement, price) -> {
+                        statement.setLong(1, price.getBrandId());
+                        statement.setTimestamp(2, Timestamp.valueOf(price.getStartDate()));
+                        statement.setTimestamp(3, Timestamp.valueOf(price.getEndDate()));
+                        statement.setLong(4, price.getPriceList());
+                        statement.setLong(5, price.getProductId());
+                        statement.setInt(6, price.getPriority());
+                        statement.setBigDecimal(7, price.getPrice());
+                        statement.setString(8, price.getCurrency());
+                    });
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.technicaltest.backend.perf;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load test driver for {@code GET /api/prices}.
+ * Each client repeatedly looks up a random product of the synthetic catalog at a random date and
+ * waits for the answer before sending the next request. After the warm-up, every latency is
+ * recorded and the run reports throughput and p50/p99/p999 latency.
+ *
+ * <p>Start the application with the synthetic catalog ({@code prices.generator.enabled=true}) and run:
+ * {@code mvn -Pperf test-compile exec:exec@load-test -Dload.args="--clients=64 --duration=PT60S"}
+ *
+ * <p>{@code --clients} takes a comma-separated list to sweep several concurrency levels in one run.
+ * {@code --client-threads=virtual} runs each client on a virtual thread (Java 21), which is needed to
+ * drive thousands of concurrent clients from a single machine.
+ */
+public final class PriceLoadTest {
+
+    private final URI baseUri;
+    private final int[] concurrencyLevels;
+    private final boolean virtualClients;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int brands;
+    private final int products;
+    private final long firstProductId;
+    private final LocalDateTime from;
+    private final long rangeSeconds;
+
+    private PriceLoadTest(Map<String, String> options) {
+        this.baseUri = URI.create(options.getOrDefault("url", "http://localhost:8080") + "/api/prices");
+        this.concurrencyLevels = Arrays.stream(options.getOrDefault("clients", "16").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        this.virtualClients = "virtual".equals(options.getOrDefault("client-threads", "platform"));
+        this.warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        this.duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        this.brands = Integer.parseInt(options.getOrDefault("brands", "1"));
+        this.products = Integer.parseInt(options.getOrDefault("products", "100000"));
+        this.firstProductId = Long.parseLong(options.getOrDefault("first-product-id", "1000000"));
+        this.from = LocalDateTime.parse(options.getOrDefault("from", "2020-01-01T00:00:00"));
+        this.rangeSeconds = Duration.between(from,
+                LocalDateTime.parse(options.getOrDefault("to", "2020-12-31T23:59:59"))).getSeconds();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+        new PriceLoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (int clients : concurrencyLevels) {
+            run(httpClient, clients);
+        }
+    }
+
+    private void run(HttpClient httpClient, int clients) throws Exception {
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+
+        System.out.printf("Load test: %d %s clients, %s warm-up, %s measured, %s%n",
+                clients, virtualClients ? "virtual" : "platform", warmup, duration, baseUri);
+        ExecutorService executor = newClientExecutor(clients);
+        List<Future<ClientResult>> futures = new ArrayList<>(clients);
+        for (int client = 0; client < clients; client++) {
+            long seed = client;
+            futures.add(executor.submit(() -> runClient(httpClient, seed, measureFrom, deadline)));
+        }
+
+        ClientResult total = new ClientResult();
+        for (Future<ClientResult> future : futures) {
+            total.merge(future.get());
+        }
+        executor.shutdown();
+        report(total);
+    }
+
+    private ExecutorService newClientExecutor(int clients) throws ReflectiveOperationException {
+        if (!virtualClients) {
+            return Executors.newFixedThreadPool(clients);
+        }
+        // looked up reflectively so the perf sources keep compiling for Java 17
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+
+    private ClientResult runClient(HttpClient httpClient, long seed, long measureFrom, long deadline) {
+        SplittableRandom random = new SplittableRandom(seed);
+        ClientResult result = new ClientResult();
+        long now = System.nanoTime();
+        while (now < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(nextLookup(random))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            boolean ok;
+            try {
+                ok = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long end = System.nanoTime();
+            if (now >= measureFrom) {
+                result.record(end - now, ok);
+            }
+            now = end;
+        }
+        return result;
+    }
+
+    private URI nextLookup(SplittableRandom random) {
+        long brandId = 1 + random.nextInt(brands);
+        long productId = firstProductId + random.nextInt(products);
+        LocalDateTime applicationDate = from.plusSeconds(random.nextLong(rangeSeconds));
+        return URI.create(baseUri + "?applicationDate=" + applicationDate
+                + "&productId=" + productId + "&brandId=" + brandId);
+    }
+
+    private void report(ClientResult total) {
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+        System.out.printf("requests=%,d errors=%,d throughput=%,.0f ok req/s%n",
+                total.count, total.errors, (total.count - total.errors) / (duration.toNanos() / 1e9));
+        if (latencies.length > 0) {
+            System.out.printf("latency p50=%.3f ms p99=%.3f ms p999=%.3f ms max=%.3f ms%n",
+                    percentile(latencies, 50.0), percentile(latencies, 99.0),
+                    percentile(latencies, 99.9), latencies[latencies.length - 1] / 1e6);
+        }
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class ClientResult {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private void record(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        private void merge(ClientResult other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
\ No newline at end of file
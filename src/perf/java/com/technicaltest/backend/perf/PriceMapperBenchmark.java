@@ -0,0 +1,48 @@
+package com.technicaltest.backend.perf;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceEntity;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the MapStruct conversion from the JPA entity to the domain model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceMapperBenchmark {
+
+    private static final int ENTITIES = 1024;
+
+    private final PriceMapper mapper = new PriceMapperImpl();
+    private PriceEntity[] entities;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        List<Price> prices = PriceDataset.generate(ENTITIES / 4, 4, 42);
+        entities = prices.stream().map(mapper::toEntity).toArray(PriceEntity[]::new);
+    }
+
+    @Benchmark
+    public Price toDomain() {
+        return mapper.toDomain(entities[cursor++ & (ENTITIES - 1)]);
+    }
+}
\ No newline at end of file
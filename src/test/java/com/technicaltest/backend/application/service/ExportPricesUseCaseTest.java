@@ -0,0 +1,96 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceExportRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportPricesUseCase Tests")
+class ExportPricesUseCaseTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceExportRepositoryPort priceExportRepositoryPort;
+
+    private ExportPricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportPricesUseCase(priceExportRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                new ExportPricesUseCase(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should emit the highest priority price of each product, in scan order")
+    void shouldEmitWinnerPerProduct() {
+        // Given
+        Price firstLow = price(1L, 100L, 0, LocalDateTime.of(2020, 6, 14, 0, 0));
+        Price firstHigh = price(2L, 100L, 1, LocalDateTime.of(2020, 6, 14, 15, 0));
+        Price second = price(3L, 200L, 0, LocalDateTime.of(2020, 6, 14, 0, 0));
+        Price thirdOlder = price(4L, 300L, 1, LocalDateTime.of(2020, 6, 1, 0, 0));
+        Price thirdNewer = price(5L, 300L, 1, LocalDateTime.of(2020, 6, 10, 0, 0));
+        givenPrices(firstLow, firstHigh, second, thirdOlder, thirdNewer);
+
+        // When
+        List<Price> exported = new ArrayList<>();
+        long products = useCase.execute(1L, DATE, exported::add);
+
+        // Then
+        assertEquals(3, products);
+        assertEquals(List.of(2L, 3L, 5L), exported.stream().map(Price::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should export nothing when no price applies")
+    void shouldExportNothingWithoutPrices() {
+        // Given
+        givenPrices();
+
+        // When
+        List<Price> exported = new ArrayList<>();
+        long products = useCase.execute(1L, DATE, exported::add);
+
+        // Then
+        assertEquals(0, products);
+        assertTrue(exported.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPrices(Price... prices) {
+        doAnswer(invocation -> {
+            Consumer<Price> consumer = invocation.getArgument(2);
+            List.of(prices).forEach(consumer);
+            return null;
+        }).when(priceExportRepositoryPort).forEachApplicablePrice(eq(1L), eq(DATE), any(Consumer.class));
+    }
+
+    private static Price price(Long id, Long productId, int priority, LocalDateTime start) {
+        return new Price(id, 1L, start, LocalDateTime.of(2020, 12, 31, 23, 59, 59), id, productId, priority,
+                new BigDecimal("10.00"), "EUR");
+    }
+}
\ No newline at end of file
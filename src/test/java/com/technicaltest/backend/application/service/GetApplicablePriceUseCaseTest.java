@@ -1,6 +1,7 @@
 package com.technicaltest.backend.application.service;
 
 import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceQuery;
 import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,12 +12,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,8 +89,8 @@ class GetApplicablePriceUseCaseTest {
         Long brandId = 1L;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
 
-        when(priceRepositoryPort.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(Collections.emptyList());
+        when(priceRepositoryPort.findHighestPriorityPrice(productId, brandId, applicationDate))
+                .thenReturn(Optional.empty());
 
         // When
         Optional<Price> result = useCase.execute(productId, brandId, applicationDate);
@@ -98,7 +98,7 @@ class GetApplicablePriceUseCaseTest {
         // Then
         assertFalse(result.isPresent());
         verify(priceRepositoryPort, times(1))
-                .findApplicablePrices(productId, brandId, applicationDate);
+                .findHighestPriorityPrice(productId, brandId, applicationDate);
     }
 
     @Test
@@ -116,8 +116,8 @@ class GetApplicablePriceUseCaseTest {
                 1L, productId, 0, new BigDecimal("35.50"), "EUR"
         );
 
-        when(priceRepositoryPort.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(List.of(expectedPrice));
+        when(priceRepositoryPort.findHighestPriorityPrice(productId, brandId, applicationDate))
+                .thenReturn(Optional.of(expectedPrice));
 
         // When
         Optional<Price> result = useCase.execute(productId, brandId, applicationDate);
@@ -126,24 +126,17 @@ class GetApplicablePriceUseCaseTest {
         assertTrue(result.isPresent());
         assertEquals(expectedPrice, result.get());
         verify(priceRepositoryPort, times(1))
-                .findApplicablePrices(productId, brandId, applicationDate);
+                .findHighestPriorityPrice(productId, brandId, applicationDate);
     }
 
     @Test
-    @DisplayName("Should return highest priority price when multiple prices found")
-    void shouldReturnHighestPriorityPriceWhenMultiplePricesFound() {
+    @DisplayName("Should ask the repository for the winner only instead of every matching price")
+    void shouldAskRepositoryForWinnerOnly() {
         // Given
         Long productId = 35455L;
         Long brandId = 1L;
         LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
 
-        Price lowPriorityPrice = new Price(
-                1L, brandId,
-                LocalDateTime.of(2020, 6, 14, 0, 0),
-                LocalDateTime.of(2020, 12, 31, 23, 59),
-                1L, productId, 0, new BigDecimal("35.50"), "EUR"
-        );
-
         Price highPriorityPrice = new Price(
                 2L, brandId,
                 LocalDateTime.of(2020, 6, 14, 15, 0),
@@ -151,52 +144,67 @@ class GetApplicablePriceUseCaseTest {
                 2L, productId, 1, new BigDecimal("25.45"), "EUR"
         );
 
-        when(priceRepositoryPort.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(Arrays.asList(lowPriorityPrice, highPriorityPrice));
+        when(priceRepositoryPort.findHighestPriorityPrice(productId, brandId, applicationDate))
+                .thenReturn(Optional.of(highPriorityPrice));
 
         // When
         Optional<Price> result = useCase.execute(productId, brandId, applicationDate);
 
         // Then
-        assertTrue(result.isPresent());
-        assertEquals(highPriorityPrice, result.get());
-        assertEquals(1, result.get().getPriority());
-        assertEquals(new BigDecimal("25.45"), result.get().getPrice());
-        verify(priceRepositoryPort, times(1))
-                .findApplicablePrices(productId, brandId, applicationDate);
+        assertEquals(Optional.of(highPriorityPrice), result);
+        verify(priceRepositoryPort, never()).findApplicablePrices(any(), any(), any());
     }
 
     @Test
-    @DisplayName("Should select price with priority 1 over priority 0")
-    void shouldSelectPriorityOneOverPriorityZero() {
+    @DisplayName("Should resolve a batch in request order with a single repository call")
+    void shouldResolveBatchInRequestOrderWithSingleRepositoryCall() {
         // Given
-        Long productId = 35455L;
         Long brandId = 1L;
-        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 15, 10, 0);
-
-        Price priority0 = new Price(
+        Price basePrice = new Price(
                 1L, brandId,
                 LocalDateTime.of(2020, 6, 14, 0, 0),
                 LocalDateTime.of(2020, 12, 31, 23, 59),
-                1L, productId, 0, new BigDecimal("35.50"), "EUR"
+                1L, 35455L, 0, new BigDecimal("35.50"), "EUR"
         );
-
-        Price priority1 = new Price(
+        Price promoPrice = new Price(
                 2L, brandId,
-                LocalDateTime.of(2020, 6, 15, 0, 0),
-                LocalDateTime.of(2020, 6, 15, 11, 0),
-                3L, productId, 1, new BigDecimal("30.50"), "EUR"
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30),
+                2L, 35455L, 1, new BigDecimal("25.45"), "EUR"
+        );
+        Price otherProductPrice = new Price(
+                3L, brandId,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 23, 59),
+                1L, 12345L, 0, new BigDecimal("10.00"), "EUR"
+        );
+        List<PriceQuery> queries = List.of(
+                new PriceQuery(35455L, brandId, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(99999L, brandId, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(12345L, brandId, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                new PriceQuery(35455L, brandId, LocalDateTime.of(2020, 6, 14, 10, 0))
         );
 
-        when(priceRepositoryPort.findApplicablePrices(productId, brandId, applicationDate))
-                .thenReturn(Arrays.asList(priority0, priority1));
+        when(priceRepositoryPort.findApplicablePrices(queries))
+                .thenReturn(List.of(basePrice, promoPrice, otherProductPrice));
 
         // When
-        Optional<Price> result = useCase.execute(productId, brandId, applicationDate);
+        List<Optional<Price>> results = useCase.executeAll(queries);
 
         // Then
-        assertTrue(result.isPresent());
-        assertEquals(1, result.get().getPriority());
-        assertEquals(new BigDecimal("30.50"), result.get().getPrice());
+        assertEquals(List.of(Optional.of(promoPrice), Optional.empty(),
+                Optional.of(otherProductPrice), Optional.of(basePrice)), results);
+        verify(priceRepositoryPort, times(1)).findApplicablePrices(queries);
+    }
+
+    @Test
+    @DisplayName("Should not query the repository for an empty batch")
+    void shouldNotQueryRepositoryForEmptyBatch() {
+        // When
+        List<Optional<Price>> results = useCase.executeAll(List.of());
+
+        // Then
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(priceRepositoryPort);
     }
 }
\ No newline at end of file
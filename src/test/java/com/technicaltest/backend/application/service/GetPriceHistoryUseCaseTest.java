@@ -0,0 +1,106 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceSegment;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetPriceHistoryUseCase Tests")
+class GetPriceHistoryUseCaseTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 12, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 14, 20, 0);
+
+    @Mock
+    private PriceRepositoryPort priceRepositoryPort;
+
+    private GetPriceHistoryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetPriceHistoryUseCase(priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                new GetPriceHistoryUseCase(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an interval ending before it starts")
+    void shouldRejectReversedInterval() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+                useCase.execute(35455L, 1L, TO, FROM, segment -> { })
+        );
+        verifyNoInteractions(priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should resolve the segments of the interval, clipped to its bounds")
+    void shouldResolveClippedSegments() {
+        // Given
+        Price base = price(1L, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0);
+        Price promotion = price(2L, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1);
+        givenPrices(base, promotion);
+
+        // When
+        List<PriceSegment> segments = new ArrayList<>();
+        useCase.execute(35455L, 1L, FROM, TO, segments::add);
+
+        // Then
+        assertEquals(List.of(
+                new PriceSegment(FROM, promotion.getStartDate().minusNanos(1), base),
+                new PriceSegment(promotion.getStartDate(), promotion.getEndDate(), promotion),
+                new PriceSegment(promotion.getEndDate().plusNanos(1), TO, base)
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Should resolve nothing when no price overlaps the interval")
+    void shouldResolveNothingWithoutPrices() {
+        // Given
+        givenPrices();
+
+        // When
+        List<PriceSegment> segments = new ArrayList<>();
+        useCase.execute(35455L, 1L, FROM, TO, segments::add);
+
+        // Then
+        assertTrue(segments.isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPrices(Price... prices) {
+        doAnswer(invocation -> {
+            Consumer<Price> consumer = invocation.getArgument(4);
+            List.of(prices).forEach(consumer);
+            return null;
+        }).when(priceRepositoryPort).forEachPriceBetween(eq(35455L), eq(1L), eq(FROM), eq(TO), any(Consumer.class));
+    }
+
+    private static Price price(Long id, LocalDateTime start, LocalDateTime end, int priority) {
+        return new Price(id, 1L, start, end, id, 35455L, priority, new BigDecimal("35.50"), "EUR");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.ReactivePriceRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveGetApplicablePriceUseCase Tests")
+class ReactiveGetApplicablePriceUseCaseTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private ReactivePriceRepositoryPort priceRepositoryPort;
+
+    private ReactiveGetApplicablePriceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveGetApplicablePriceUseCase(priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                new ReactiveGetApplicablePriceUseCase(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw exception when any parameter is null")
+    void shouldThrowExceptionWhenParameterIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> useCase.execute(null, 1L, APPLICATION_DATE));
+        assertThrows(NullPointerException.class, () -> useCase.execute(35455L, null, APPLICATION_DATE));
+        assertThrows(NullPointerException.class, () -> useCase.execute(35455L, 1L, null));
+        verifyNoInteractions(priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should emit the price selected by the repository")
+    void shouldEmitHighestPriorityPrice() {
+        // Given
+        Price promoPrice = new Price(2L, 1L,
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30),
+                2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+        when(priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, APPLICATION_DATE))
+                .thenReturn(Mono.just(promoPrice));
+
+        // When & Then
+        StepVerifier.create(useCase.execute(35455L, 1L, APPLICATION_DATE))
+                .expectNext(promoPrice)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no price applies")
+    void shouldCompleteEmptyWhenNoPriceApplies() {
+        // Given
+        when(priceRepositoryPort.findHighestPriorityPrice(99999L, 1L, APPLICATION_DATE))
+                .thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(useCase.execute(99999L, 1L, APPLICATION_DATE))
+                .verifyComplete();
+    }
+}
\ No newline at end of file
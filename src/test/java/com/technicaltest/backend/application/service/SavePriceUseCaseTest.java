@@ -0,0 +1,105 @@
+package com.technicaltest.backend.application.service;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SavePriceUseCase Tests")
+class SavePriceUseCaseTest {
+
+    @Mock
+    private PriceWriteRepositoryPort priceWriteRepositoryPort;
+
+    private SavePriceUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SavePriceUseCase(priceWriteRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                new SavePriceUseCase(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should create a price through the repository")
+    void shouldCreatePrice() {
+        // Given
+        Price saved = price(10L);
+        when(priceWriteRepositoryPort.save(any())).thenReturn(saved);
+
+        // When
+        Price result = useCase.create(price(null));
+
+        // Then
+        assertEquals(saved, result);
+        verify(priceWriteRepositoryPort).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject a price created with an id")
+    void shouldRejectCreationWithId() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> useCase.create(price(10L)));
+        verifyNoInteractions(priceWriteRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should return empty when the updated price does not exist")
+    void shouldReturnEmptyWhenUpdatedPriceDoesNotExist() {
+        // Given
+        when(priceWriteRepositoryPort.update(eq(99L), any())).thenReturn(Optional.empty());
+
+        // When
+        Optional<Price> result = useCase.update(99L, price(null));
+
+        // Then
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the updated id is null")
+    void shouldThrowExceptionWhenUpdatedIdIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> useCase.update(null, price(null)));
+    }
+
+    @Test
+    @DisplayName("Should import every price through the repository")
+    void shouldImportPrices() {
+        // Given
+        Stream<Price> prices = Stream.of(price(null), price(null));
+        when(priceWriteRepositoryPort.saveAll(prices)).thenReturn(2L);
+
+        // When
+        long result = useCase.importPrices(prices);
+
+        // Then
+        assertEquals(2L, result);
+    }
+
+    private static Price price(Long id) {
+        return new Price(id, 1L, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.technicaltest.backend.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceSweep Domain Tests")
+class PriceSweepTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @DisplayName("Should emit a segment as soon as a later price starts after it ends")
+    void shouldEmitSegmentsBeforeFinish() {
+        // Given
+        List<PriceSegment> segments = new ArrayList<>();
+        PriceSweep sweep = new PriceSweep(segments::add);
+
+        // When
+        sweep.accept(price(1L, DAY, DAY.plusHours(1), 0));
+        sweep.accept(price(2L, DAY.plusHours(2), DAY.plusHours(3), 0));
+
+        // Then
+        assertEquals(1, segments.size());
+        assertEquals(1L, segments.get(0).getPrice().getId());
+
+        // When
+        sweep.finish();
+
+        // Then
+        assertEquals(2, segments.size());
+        assertEquals(DAY.plusHours(2), segments.get(1).getStartDate());
+        assertEquals(DAY.plusHours(3), segments.get(1).getEndDate());
+    }
+
+    @Test
+    @DisplayName("Should let the highest priority among prices starting together win from the start")
+    void shouldResolvePricesStartingTogether() {
+        // Given
+        List<PriceSegment> segments = new ArrayList<>();
+        PriceSweep sweep = new PriceSweep(segments::add);
+
+        // When
+        sweep.accept(price(1L, DAY, DAY.plusHours(4), 0));
+        sweep.accept(price(2L, DAY, DAY.plusHours(2), 1));
+        sweep.finish();
+
+        // Then
+        assertEquals(2, segments.size());
+        assertEquals(new PriceSegment(DAY, DAY.plusHours(2), segments.get(0).getPrice()), segments.get(0));
+        assertEquals(2L, segments.get(0).getPrice().getId());
+        assertEquals(DAY.plusHours(2).plusNanos(1), segments.get(1).getStartDate());
+        assertEquals(1L, segments.get(1).getPrice().getId());
+    }
+
+    @Test
+    @DisplayName("Should reject prices out of start date order")
+    void shouldRejectUnorderedPrices() {
+        // Given
+        PriceSweep sweep = new PriceSweep(segment -> { });
+        sweep.accept(price(1L, DAY.plusHours(1), DAY.plusHours(2), 0));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> sweep.accept(price(2L, DAY, DAY.plusHours(2), 0)));
+    }
+
+    @Test
+    @DisplayName("Should resolve every instant like a scan of all prices")
+    void shouldMatchScanOfAllPrices() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            // Given
+            List<Price> prices = new ArrayList<>();
+            for (long id = 1; id <= 1 + random.nextInt(12); id++) {
+                LocalDateTime start = DAY.plusHours(random.nextInt(48));
+                LocalDateTime end = random.nextInt(10) == 0 ? LocalDateTime.MAX : start.plusHours(random.nextInt(24));
+                prices.add(price(id, start, end, random.nextInt(3)));
+            }
+            prices.sort(Comparator.comparing(Price::getStartDate));
+
+            // When
+            List<PriceSegment> segments = new ArrayList<>();
+            PriceSweep sweep = new PriceSweep(segments::add);
+            prices.forEach(sweep);
+            sweep.finish();
+
+            // Then
+            for (int hour = -1; hour < 80; hour++) {
+                for (LocalDateTime instant : List.of(DAY.plusHours(hour), DAY.plusHours(hour).minusNanos(1))) {
+                    Optional<Price> expected = prices.stream()
+                            .filter(price -> price.isApplicableAt(instant))
+                            .max(Price.PRIORITY_ORDER);
+                    Optional<Price> actual = segments.stream()
+                            .filter(segment -> segment.contains(instant))
+                            .map(PriceSegment::getPrice)
+                            .findFirst();
+                    assertEquals(expected.map(Price::getId), actual.map(Price::getId), "Round " + round + " at " + instant);
+                }
+            }
+            for (int i = 1; i < segments.size(); i++) {
+                assertTrue(segments.get(i).getStartDate().isAfter(segments.get(i - 1).getEndDate()));
+            }
+        }
+    }
+
+    private static Price price(Long id, LocalDateTime start, LocalDateTime end, int priority) {
+        return new Price(id, 1L, start, end, id, 35455L, priority, new BigDecimal("10.00"), "EUR");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.technicaltest.backend.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceTimeline Domain Tests")
+class PriceTimelineTest {
+
+    private static final Price BASE_PRICE = new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price AFTERNOON_PROMO = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final Price MORNING_PROMO = new Price(3L, 1L,
+            LocalDateTime.of(2020, 6, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 15, 11, 0),
+            3L, 35455L, 1, new BigDecimal("30.50"), "EUR");
+
+    private static final Price LONG_PROMO = new Price(4L, 1L,
+            LocalDateTime.of(2020, 6, 15, 16, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            4L, 35455L, 1, new BigDecimal("38.95"), "EUR");
+
+    private final PriceTimeline timeline = PriceTimeline.of(
+            List.of(LONG_PROMO, BASE_PRICE, MORNING_PROMO, AFTERNOON_PROMO));
+
+    @Test
+    @DisplayName("Should resolve the 5 required test cases")
+    void shouldResolveRequiredTestCases() {
+        // When & Then
+        assertEquals(Optional.of(BASE_PRICE), timeline.findPriceAt(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertEquals(Optional.of(AFTERNOON_PROMO), timeline.findPriceAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(Optional.of(BASE_PRICE), timeline.findPriceAt(LocalDateTime.of(2020, 6, 14, 21, 0)));
+        assertEquals(Optional.of(MORNING_PROMO), timeline.findPriceAt(LocalDateTime.of(2020, 6, 15, 10, 0)));
+        assertEquals(Optional.of(LONG_PROMO), timeline.findPriceAt(LocalDateTime.of(2020, 6, 16, 21, 0)));
+    }
+
+    @Test
+    @DisplayName("Should flatten overlapping prices into disjoint segments")
+    void shouldFlattenOverlappingPricesIntoDisjointSegments() {
+        // When
+        List<PriceSegment> segments = timeline.getSegments();
+
+        // Then
+        assertEquals(6, segments.size());
+        assertEquals(BASE_PRICE, segments.get(0).getPrice());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 14, 59, 59, 999_999_999), segments.get(0).getEndDate());
+        assertEquals(AFTERNOON_PROMO, segments.get(1).getPrice());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), segments.get(1).getEndDate());
+        assertEquals(BASE_PRICE, segments.get(2).getPrice());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), segments.get(2).getStartDate());
+        assertEquals(LONG_PROMO, segments.get(5).getPrice());
+        assertEquals(LONG_PROMO.getEndDate(), segments.get(5).getEndDate());
+        for (int i = 1; i < segments.size(); i++) {
+            assertTrue(segments.get(i - 1).getEndDate().isBefore(segments.get(i).getStartDate()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should include both bounds of a price")
+    void shouldIncludeBothBoundsOfPrice() {
+        // When & Then
+        assertEquals(Optional.of(AFTERNOON_PROMO), timeline.findPriceAt(AFTERNOON_PROMO.getStartDate()));
+        assertEquals(Optional.of(AFTERNOON_PROMO), timeline.findPriceAt(AFTERNOON_PROMO.getEndDate()));
+        assertEquals(Optional.of(BASE_PRICE), timeline.findPriceAt(AFTERNOON_PROMO.getEndDate().plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Should return empty outside all price ranges and in gaps")
+    void shouldReturnEmptyOutsideRangesAndInGaps() {
+        // Given
+        PriceTimeline gapped = PriceTimeline.of(List.of(AFTERNOON_PROMO, MORNING_PROMO));
+
+        // When & Then
+        assertTrue(gapped.findPriceAt(LocalDateTime.of(2019, 1, 1, 0, 0)).isEmpty());
+        assertTrue(gapped.findPriceAt(LocalDateTime.of(2020, 6, 14, 20, 0)).isEmpty());
+        assertTrue(gapped.findPriceAt(LocalDateTime.of(2021, 1, 1, 0, 0)).isEmpty());
+        assertEquals(2, gapped.size());
+    }
+
+    @Test
+    @DisplayName("Should break priority ties in favour of the latest started price")
+    void shouldBreakPriorityTiesInFavourOfLatestStartedPrice() {
+        // Given
+        Price sameStartLowerPriority = new Price(5L, 1L,
+                LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 17, 0),
+                5L, 35455L, 1, new BigDecimal("20.00"), "EUR");
+        Price laterStartSamePriority = new Price(6L, 1L,
+                LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 30),
+                6L, 35455L, 1, new BigDecimal("19.00"), "EUR");
+
+        // When
+        PriceTimeline tied = PriceTimeline.of(List.of(sameStartLowerPriority, laterStartSamePriority));
+
+        // Then
+        assertEquals(Optional.of(sameStartLowerPriority), tied.findPriceAt(LocalDateTime.of(2020, 6, 14, 15, 30)));
+        assertEquals(Optional.of(laterStartSamePriority), tied.findPriceAt(LocalDateTime.of(2020, 6, 14, 16, 15)));
+        assertEquals(Optional.of(sameStartLowerPriority), tied.findPriceAt(LocalDateTime.of(2020, 6, 14, 16, 45)));
+    }
+
+    @Test
+    @DisplayName("Should return the distinct winners overlapping an interval")
+    void shouldReturnDistinctWinnersOverlappingInterval() {
+        // When
+        List<Price> day14 = timeline.findPricesBetween(
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 23, 59, 59));
+        List<Price> afterPromos = timeline.findPricesBetween(
+                LocalDateTime.of(2020, 7, 1, 0, 0), LocalDateTime.of(2020, 7, 31, 23, 59, 59));
+
+        // Then
+        assertEquals(List.of(BASE_PRICE, AFTERNOON_PROMO), day14);
+        assertEquals(List.of(LONG_PROMO), afterPromos);
+        assertEquals(timeline.findPriceAt(LocalDateTime.of(2020, 6, 14, 16, 0)),
+                PriceTimeline.of(day14).findPriceAt(LocalDateTime.of(2020, 6, 14, 16, 0)));
+    }
+
+    @Test
+    @DisplayName("Should return empty timeline when there are no prices")
+    void shouldReturnEmptyTimelineWhenNoPrices() {
+        // When
+        PriceTimeline empty = PriceTimeline.of(List.of());
+
+        // Then
+        assertTrue(empty.isEmpty());
+        assertTrue(empty.findPriceAt(LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should share the result of a segment between lookups")
+    void shouldShareSegmentResultBetweenLookups() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(List.of(BASE_PRICE, AFTERNOON_PROMO));
+        LocalDateTime promoDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        // When & Then
+        assertSame(timeline.findPriceAt(promoDate), timeline.findPriceAt(promoDate.plusMinutes(30)));
+        assertSame(timeline.findPricesAt(promoDate), timeline.findPricesAt(promoDate.plusMinutes(30)));
+        assertEquals(List.of(AFTERNOON_PROMO), timeline.findPricesAt(promoDate));
+        assertEquals(List.of(BASE_PRICE), timeline.findPricesAt(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertTrue(timeline.findPricesAt(LocalDateTime.of(2019, 1, 1, 0, 0)).isEmpty());
+    }
+}
\ No newline at end of file
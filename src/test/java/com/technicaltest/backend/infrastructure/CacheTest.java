@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -18,4 +19,11 @@ class CacheTest {
         assertNotNull(cacheManager);
         assertNotNull(cacheManager.getCache("items"));
     }
+
+    @Test
+    void pricesCacheShouldBeBoundedCaffeineCacheWithStatistics() {
+        CaffeineCache pricesCache = assertInstanceOf(CaffeineCache.class, cacheManager.getCache("prices"));
+        assertTrue(pricesCache.getNativeCache().policy().eviction().isPresent());
+        assertTrue(pricesCache.getNativeCache().policy().isRecordingStats());
+    }
 }
\ No newline at end of file
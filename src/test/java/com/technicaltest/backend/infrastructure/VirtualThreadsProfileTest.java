@@ -0,0 +1,60 @@
+package com.technicaltest.backend.infrastructure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatVirtualThreadsWebServerFactoryCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("virtual-threads")
+@DisplayName("Virtual Threads Profile Tests")
+class VirtualThreadsProfileTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Should size the connection pool for virtual threads")
+    void shouldSizeConnectionPool() {
+        HikariDataSource hikariDataSource = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals(32, hikariDataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("Should serve price lookups")
+    void shouldServePriceLookups() {
+        // When
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("25.45"));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Should run Tomcat on virtual threads on Java 21")
+    void shouldRunTomcatOnVirtualThreads() {
+        assertEquals(1, applicationContext.getBeanNamesForType(TomcatVirtualThreadsWebServerFactoryCustomizer.class).length);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IsoDateTimeParser Unit Tests")
+class IsoDateTimeParserTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-06-14T10:00:00", "2020-12-31T23:59:59", "0001-01-01T00:00:00", "2024-02-29T12:34:56"})
+    @DisplayName("Should read second precision dates like the ISO formatter")
+    void shouldParseSecondPrecisionDates(String text) {
+        assertEquals(LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME), IsoDateTimeParser.parse(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2020-06-14T10:00", "2020-06-14T10:00:00.5", "2020-06-14T10:00:00Z",
+            "2020-06-14T10:00:00+02:00"})
+    @DisplayName("Should fall back to the ISO formatter for the other ISO forms")
+    void shouldParseOtherIsoForms(String text) {
+        assertEquals(LocalDateTime.parse(text, DateTimeFormatter.ISO_DATE_TIME), IsoDateTimeParser.parse(text));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invalid-date", "2020-13-14T10:00:00", "2021-02-29T10:00:00", "2020-06-14T24:00:00",
+            "2020-06-1xT10:00:00", "2020-06-14 10:00:00", ""})
+    @DisplayName("Should reject invalid dates")
+    void shouldRejectInvalidDates(String text) {
+        assertThrows(DateTimeException.class, () -> IsoDateTimeParser.parse(text));
+    }
+
+    @Test
+    @DisplayName("Should reject a null date")
+    void shouldRejectNull() {
+        assertThrows(NullPointerException.class, () -> IsoDateTimeParser.parse(null));
+    }
+}
\ No newline at end of file
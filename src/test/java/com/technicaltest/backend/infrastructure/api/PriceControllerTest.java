@@ -1,13 +1,22 @@
 package com.technicaltest.backend.infrastructure.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
@@ -150,4 +159,221 @@ class PriceControllerTest {
                         .param("brandId", "1"))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("Should write the same JSON, with its length, for repeated lookups of a cached price")
+    void shouldWriteSameJsonForRepeatedLookups() throws Exception {
+        String first = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-15T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-15T10:30:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Length", String.valueOf(first.length())))
+                .andExpect(content().string(first));
+    }
+
+    @Test
+    @DisplayName("Should send a strong ETag and a public max-age with a found price")
+    void shouldSendCachingHeaders() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", matchesPattern("\"[0-9a-f]{32}\"")))
+                .andExpect(header().string("Cache-Control", "max-age=60, public"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without body when If-None-Match holds the current ETag")
+    void shouldAnswerNotModifiedForCurrentEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should answer 200 when If-None-Match holds another ETag")
+    void shouldAnswerOkForStaleEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Should not send caching headers when no price is found")
+    void shouldNotSendCachingHeadersWhenNotFound() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "99999")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().doesNotExist("Cache-Control"));
+    }
+
+    @Test
+    @DisplayName("Should write the compact CBOR form, smaller and with its own ETag, when the client accepts it")
+    void shouldWriteCompactCborWhenAccepted() throws Exception {
+        byte[] json = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getContentAsByteArray();
+        String jsonEtag = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        byte[] cbor = mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept("application/cbor, application/json;q=0.9"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", "Accept"))
+                .andExpect(header().string("ETag", not(jsonEtag)))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertTrue(cbor.length < json.length);
+        // Fields in the order of PriceCompactDto
+        JsonNode price = new CBORMapper().readTree(cbor);
+        assertEquals(35455, price.get(0).asLong());
+        assertEquals(1, price.get(1).asLong());
+        assertEquals(2, price.get(2).asLong());
+        assertEquals(1592146800L, price.get(3).asLong());
+        assertEquals(1592159400L, price.get(4).asLong());
+        assertEquals(2545, price.get(5).asLong());
+        assertEquals(2, price.get(6).asInt());
+        assertEquals("EUR", price.get(7).asText());
+    }
+
+    @Test
+    @DisplayName("Should keep writing JSON when the client prefers it over CBOR")
+    void shouldWriteJsonWhenPreferredOverCbor() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept("application/cbor;q=0.5, application/json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.price").value(25.45));
+    }
+
+    @Test
+    @DisplayName("Should accept the other ISO date-time forms")
+    void shouldAcceptOtherIsoDateTimeForms() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch in request order with not found markers")
+    void shouldResolveBatchInRequestOrderWithNotFoundMarkers() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"queries": [
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1},
+                                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].found").value(true))
+                .andExpect(jsonPath("$[0].applicationDate").value("2020-06-14T16:00:00"))
+                .andExpect(jsonPath("$[0].price.priceList").value(2))
+                .andExpect(jsonPath("$[0].price.price").value(25.45))
+                .andExpect(jsonPath("$[1].found").value(false))
+                .andExpect(jsonPath("$[1].productId").value(99999))
+                .andExpect(jsonPath("$[1].price").doesNotExist())
+                .andExpect(jsonPath("$[2].found").value(true))
+                .andExpect(jsonPath("$[2].price.priceList").value(4))
+                .andExpect(jsonPath("$[2].price.price").value(38.95));
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch in the compact CBOR form when the client accepts it")
+    void shouldResolveBatchInCompactCbor() throws Exception {
+        byte[] cbor = mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content("""
+                                {"queries": [
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1}
+                                ]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Fields in the order of PriceBatchItemCompactDto
+        JsonNode results = new CBORMapper().readTree(cbor);
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).get(3).asBoolean());
+        assertEquals(1592150400L, results.get(0).get(0).asLong());
+        assertEquals(2545, results.get(0).get(4).get(5).asLong());
+        assertFalse(results.get(1).get(3).asBoolean());
+        assertEquals(99999, results.get(1).get(1).asLong());
+        assertTrue(results.get(1).get(4).isNull());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch lookup is incomplete")
+    void shouldReturn400WhenBatchLookupIsIncomplete() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\": [{\"applicationDate\": \"2020-06-14T10:00:00\", \"productId\": 35455}]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"queries\": []}"))
+                .andExpect(status().isBadRequest());
+    }
 }
\ No newline at end of file
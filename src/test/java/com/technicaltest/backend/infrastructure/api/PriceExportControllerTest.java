@@ -0,0 +1,67 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("PriceExportController REST API Tests")
+class PriceExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should export the winning price of each product as NDJSON")
+    void shouldExportNdjson() throws Exception {
+        mockMvc.perform(get("/api/prices/export")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"productId\":35455,\"brandId\":1,\"priceList\":2,"
+                        + "\"startDate\":\"2020-06-14T15:00:00\",\"endDate\":\"2020-06-14T18:30:00\","
+                        + "\"price\":25.45,\"currency\":\"EUR\"}\n"));
+    }
+
+    @Test
+    @DisplayName("Should export the winning price of each product as CSV with a header")
+    void shouldExportCsv() throws Exception {
+        mockMvc.perform(get("/api/prices/export")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-15T10:00:00")
+                        .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string("productId,brandId,priceList,startDate,endDate,price,currency\n"
+                        + "35455,1,3,2020-06-15T00:00,2020-06-15T11:00,30.50,EUR\n"));
+    }
+
+    @Test
+    @DisplayName("Should export nothing for a brand without prices")
+    void shouldExportNothingForUnknownBrand() throws Exception {
+        mockMvc.perform(get("/api/prices/export")
+                        .param("brandId", "99")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the format is unknown")
+    void shouldReturn400WhenFormatIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/prices/export")
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("PriceHistoryController REST API Tests")
+class PriceHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should stream the effective timeline of the required test data as NDJSON")
+    void shouldStreamTimeline() throws Exception {
+        String body = mockMvc.perform(get("/api/prices/history")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T10:00:00")
+                        .param("to", "2020-06-16T21:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals(String.join("\n",
+                segment("2020-06-14T10:00:00", "2020-06-14T14:59:59.999999999", 1, "35.50"),
+                segment("2020-06-14T15:00:00", "2020-06-14T18:30:00", 2, "25.45"),
+                segment("2020-06-14T18:30:00.000000001", "2020-06-14T23:59:59.999999999", 1, "35.50"),
+                segment("2020-06-15T00:00:00", "2020-06-15T11:00:00", 3, "30.50"),
+                segment("2020-06-15T11:00:00.000000001", "2020-06-15T15:59:59.999999999", 1, "35.50"),
+                segment("2020-06-15T16:00:00", "2020-06-16T21:00:00", 4, "38.95")) + "\n", body);
+    }
+
+    @Test
+    @DisplayName("Should return no segment for a product without prices")
+    void shouldReturnNoSegmentWithoutPrices() throws Exception {
+        mockMvc.perform(get("/api/prices/history")
+                        .param("productId", "99999")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the interval ends before it starts")
+    void shouldReturn400WhenIntervalIsReversed() throws Exception {
+        mockMvc.perform(get("/api/prices/history")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when parameters are missing")
+    void shouldReturn400WhenParametersAreMissing() throws Exception {
+        mockMvc.perform(get("/api/prices/history")
+                        .param("productId", "35455"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String segment(String start, String end, int priceList, String price) {
+        return "{\"startDate\":\"" + start + "\",\"endDate\":\"" + end + "\",\"priceList\":" + priceList
+                + ",\"price\":" + price + ",\"currency\":\"EUR\"}";
+    }
+}
\ No newline at end of file
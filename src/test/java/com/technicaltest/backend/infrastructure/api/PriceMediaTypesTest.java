@@ -0,0 +1,37 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceMediaTypes Unit Tests")
+class PriceMediaTypesTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"application/cbor", "APPLICATION/CBOR", "application/cbor, application/json",
+            "application/json;q=0.9, application/cbor", "*/*, application/cbor",
+            "application/*;q=0.2, application/cbor;q=0.5"})
+    @DisplayName("Should choose CBOR when the client names it and ranks it before JSON")
+    void shouldPreferCbor(String accept) {
+        assertTrue(PriceMediaTypes.prefersCbor(accept));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "*/*", "application/json", "text/html, application/xhtml+xml, */*;q=0.8",
+            "application/cbor;q=0.5, application/json", "application/cbor;q=0.5, */*",
+            "application/cbor;q=0", "application/*, application/cbor;q=0.1", "application/cbor;q=invalid",
+            "text/plain, application/json, application/cbor, application/*+json, */*"})
+    @DisplayName("Should keep JSON otherwise")
+    void shouldKeepJson(String accept) {
+        assertFalse(PriceMediaTypes.prefersCbor(accept));
+    }
+
+    @Test
+    @DisplayName("Should keep JSON without Accept header")
+    void shouldKeepJsonWithoutAccept() {
+        assertFalse(PriceMediaTypes.prefersCbor(null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:writes;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@DisplayName("PriceWriteController REST API Tests")
+class PriceWriteControllerTest {
+
+    private static final String PRICE = """
+            {"brandId":1,"startDate":"2020-06-14T00:00:00","endDate":"2020-12-31T23:59:59",
+             "priceList":7,"productId":%d,"priority":0,"price":%s,"currency":"EUR"}""";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should create a price with a new id and serve it")
+    void shouldCreatePrice() throws Exception {
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80001, "19.90")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.productId").value(80001))
+                .andExpect(jsonPath("$.price").value(19.90));
+
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "80001")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(7));
+    }
+
+    @Test
+    @DisplayName("Should replace an existing price")
+    void shouldUpdatePrice() throws Exception {
+        Long id = createPrice(80002);
+
+        mockMvc.perform(put("/api/prices/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80002, "24.99")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.price").value(24.99));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when updating a price that does not exist")
+    void shouldReturn404WhenUpdatingUnknownPrice() throws Exception {
+        mockMvc.perform(put("/api/prices/{id}", 999_999_999)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80003, "24.99")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a price is incomplete or inconsistent")
+    void shouldReturn400WhenPriceIsInvalid() throws Exception {
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"brandId\":1,\"productId\":80004}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80004, "10.00").replace("2020-06-14T00:00:00", "2021-06-14T00:00:00")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should import every line of an NDJSON body")
+    void shouldImportNdjson() throws Exception {
+        String body = PRICE.formatted(81001, "10.00").replace("\n", "") + "\n\n"
+                + PRICE.formatted(81002, "11.00").replace("\n", "") + "\n";
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(2))
+                .andExpect(jsonPath("$.rowsPerSecond").isNumber());
+
+        assertEquals(2, countPrices(81001, 81002));
+    }
+
+    @Test
+    @DisplayName("Should import every row of a CSV body, whatever the column order")
+    void shouldImportCsv() throws Exception {
+        String body = """
+                productId,brandId,priceList,priority,startDate,endDate,price,currency
+                82001,1,1,0,2020-06-14T00:00:00,2020-12-31T23:59:59,10.00,EUR
+                82002,1,1,0,2020-06-14T00:00:00,2020-12-31T23:59:59,11.00,EUR
+                82003,1,1,0,2020-06-14T00:00:00,2020-12-31T23:59:59,12.00,EUR
+                """;
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(PriceWriteController.TEXT_CSV_VALUE)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(3));
+
+        assertEquals(3, countPrices(82001, 82003));
+    }
+
+    @Test
+    @DisplayName("Should import nothing and report the line when a row is invalid")
+    void shouldImportNothingWhenRowIsInvalid() throws Exception {
+        String body = """
+                brandId,startDate,endDate,priceList,productId,priority,price,currency
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,83001,0,10.00,EUR
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,83002,0,-1.00,EUR
+                """;
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(PriceWriteController.TEXT_CSV_VALUE)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(startsWith("Invalid price on line 3: price ")));
+
+        assertEquals(0, countPrices(83001, 83002));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a price has more digits than the PRICE column keeps")
+    void shouldReturn400WhenPriceHasTooManyDigits() throws Exception {
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80005, "10.001")))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(80005, "123456789.00")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should import nothing and report the line when an amount has too many digits")
+    void shouldImportNothingWhenAmountHasTooManyDigits() throws Exception {
+        String csv = """
+                brandId,startDate,endDate,priceList,productId,priority,price,currency
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,84001,0,10.50,EUR
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,84002,0,10.005,EUR
+                """;
+        String ndjson = PRICE.formatted(84003, "10.00").replace("\n", "") + "\n"
+                + PRICE.formatted(84004, "123456789.00").replace("\n", "") + "\n";
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(PriceWriteController.TEXT_CSV_VALUE)
+                        .content(csv))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(startsWith("Invalid price on line 3: price ")));
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(startsWith("Invalid price on line 2: price ")));
+
+        assertEquals(0, countPrices(84001, 84004));
+    }
+
+    @Test
+    @DisplayName("Should import nothing and report the line when a currency breaks the price constraints")
+    void shouldImportNothingWhenCurrencyIsInvalid() throws Exception {
+        String csv = """
+                brandId,startDate,endDate,priceList,productId,priority,price,currency
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,85001,0,10.00,EUR
+                1,2020-06-14T00:00:00,2020-12-31T23:59:59,1,85002,0,10.00,EURO
+                """;
+        String ndjson = PRICE.formatted(85003, "10.00").replace("\n", "") + "\n"
+                + PRICE.formatted(85004, "10.00").replace("\n", "").replace("\"EUR\"", "\" \"") + "\n";
+
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(PriceWriteController.TEXT_CSV_VALUE)
+                        .content(csv))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(startsWith("Invalid price on line 3: currency ")));
+        mockMvc.perform(post("/api/prices/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(startsWith("Invalid price on line 2: currency ")));
+
+        assertEquals(0, countPrices(85001, 85004));
+    }
+
+    private Long createPrice(long productId) throws Exception {
+        String response = mockMvc.perform(post("/api/prices")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PRICE.formatted(productId, "10.00")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return Long.valueOf(response.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+
+    private int countPrices(long fromProductId, long toProductId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID BETWEEN ? AND ?",
+                Integer.class, fromProductId, toProductId);
+    }
+}
\ No newline at end of file
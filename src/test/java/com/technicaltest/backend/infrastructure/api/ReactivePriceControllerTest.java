@@ -0,0 +1,75 @@
+package com.technicaltest.backend.infrastructure.api;
+
+import com.technicaltest.backend.domain.port.out.ReactivePriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.adapter.R2dbcPriceRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("ReactivePriceController WebFlux API Tests - 5 Required Test Cases")
+class ReactivePriceControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should serve lookups from the R2DBC adapter instead of the MVC controller")
+    void shouldUseReactiveStack() {
+        assertInstanceOf(R2dbcPriceRepositoryAdapter.class, applicationContext.getBean(ReactivePriceRepositoryPort.class));
+        assertEquals(0, applicationContext.getBeanNamesForType(PriceController.class).length);
+    }
+
+    @Test
+    @DisplayName("Should resolve the 5 required test cases")
+    void shouldResolveRequiredTestCases() {
+        assertPrice("2020-06-14T10:00:00", 1, 35.50, "2020-06-14T00:00:00", "2020-12-31T23:59:59");
+        assertPrice("2020-06-14T16:00:00", 2, 25.45, "2020-06-14T15:00:00", "2020-06-14T18:30:00");
+        assertPrice("2020-06-14T21:00:00", 1, 35.50, "2020-06-14T00:00:00", "2020-12-31T23:59:59");
+        assertPrice("2020-06-15T10:00:00", 3, 30.50, "2020-06-15T00:00:00", "2020-06-15T11:00:00");
+        assertPrice("2020-06-16T21:00:00", 4, 38.95, "2020-06-15T16:00:00", "2020-12-31T23:59:59");
+    }
+
+    @Test
+    @DisplayName("Should return 404 when no price applies")
+    void shouldReturnNotFoundWhenNoPriceApplies() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=2020-06-14T10:00:00&productId=99999&brandId=1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a parameter is missing")
+    void shouldReturnBadRequestWhenParameterIsMissing() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=2020-06-14T10:00:00&productId=35455")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private void assertPrice(String applicationDate, int priceList, double price, String startDate, String endDate) {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate={date}&productId=35455&brandId=1", applicationDate)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.brandId").isEqualTo(1)
+                .jsonPath("$.priceList").isEqualTo(priceList)
+                .jsonPath("$.price").isEqualTo(price)
+                .jsonPath("$.currency").isEqualTo("EUR")
+                .jsonPath("$.startDate").isEqualTo(startDate)
+                .jsonPath("$.endDate").isEqualTo(endDate);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingGetApplicablePricePort Tests")
+class CachingGetApplicablePricePortTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private static final Price BASE_PRICE = new Price(1L, BRAND_ID,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, PRODUCT_ID, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, BRAND_ID,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, PRODUCT_ID, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final LocalDateTime AT_16 = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceRepositoryPort priceRepositoryPort;
+
+    private ConcurrentMapCache cache;
+
+    private CachingGetApplicablePricePort cachingPort;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentMapCache("prices");
+        cachingPort = new CachingGetApplicablePricePort(priceRepositoryPort, cache, Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when productId is null")
+    void shouldThrowExceptionWhenProductIdIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                cachingPort.execute(null, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0))
+        );
+    }
+
+    @Test
+    @DisplayName("Should load a bucket once and resolve every date within it from the cache")
+    void shouldLoadBucketOnceAndResolveFromCache() {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(PRODUCT_ID, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 23, 59, 59, 999_999_999)))
+                .thenReturn(List.of(BASE_PRICE, PROMO_PRICE));
+
+        // When
+        Optional<Price> at10 = cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+        Optional<Price> at16 = cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+        Optional<Price> at21 = cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 21, 0));
+
+        // Then
+        assertEquals(Optional.of(BASE_PRICE), at10);
+        assertEquals(Optional.of(PROMO_PRICE), at16);
+        assertEquals(Optional.of(BASE_PRICE), at21);
+        verify(priceRepositoryPort, times(1)).findPricesBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should load a new bucket for a date in another bucket")
+    void shouldLoadNewBucketForDateInAnotherBucket() {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(eq(PRODUCT_ID), eq(BRAND_ID), any(), any()))
+                .thenReturn(List.of(BASE_PRICE));
+
+        // When
+        cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+        cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 15, 10, 0));
+
+        // Then
+        verify(priceRepositoryPort, times(2)).findPricesBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should cache not found results")
+    void shouldCacheNotFoundResults() {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of());
+
+        // When
+        Optional<Price> first = cachingPort.execute(99999L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+        Optional<Price> second = cachingPort.execute(99999L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 11, 0));
+
+        // Then
+        assertFalse(first.isPresent());
+        assertFalse(second.isPresent());
+        verify(priceRepositoryPort, times(1)).findPricesBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep products and brands apart in the cache")
+    void shouldKeepProductsAndBrandsApart() {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(eq(PRODUCT_ID), eq(BRAND_ID), any(), any()))
+                .thenReturn(List.of(BASE_PRICE));
+        when(priceRepositoryPort.findPricesBetween(eq(PRODUCT_ID), eq(2L), any(), any()))
+                .thenReturn(List.of());
+
+        // When
+        Optional<Price> brand1 = cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+        Optional<Price> brand2 = cachingPort.execute(PRODUCT_ID, 2L, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Then
+        assertTrue(brand1.isPresent());
+        assertFalse(brand2.isPresent());
+    }
+
+    @Test
+    @DisplayName("Should serve cached lookups of a batch and load only the missing buckets, in order")
+    void shouldServeCachedLookupsAndLoadMissingBuckets() {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(eq(PRODUCT_ID), eq(BRAND_ID), any(), any()))
+                .thenReturn(List.of(BASE_PRICE, PROMO_PRICE));
+        cachingPort.execute(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        PriceQuery miss = new PriceQuery(12345L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+        when(priceRepositoryPort.findPricesBetween(eq(12345L), eq(BRAND_ID), any(), any())).thenReturn(List.of());
+
+        // When
+        List<Optional<Price>> results = cachingPort.executeAll(List.of(
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                miss,
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 21, 0))));
+
+        // Then
+        assertEquals(List.of(Optional.of(PROMO_PRICE), Optional.empty(), Optional.of(BASE_PRICE)), results);
+        verify(priceRepositoryPort, times(1)).findPricesBetween(eq(PRODUCT_ID), eq(BRAND_ID), any(), any());
+        verify(priceRepositoryPort, times(1)).findPricesBetween(eq(12345L), eq(BRAND_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should load the missing buckets of a batch with one query per bucket and cache them")
+    void shouldLoadMissingBucketsOncePerBucketAndCacheThem() {
+        // Given
+        Price otherProductPrice = new Price(3L, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1L, 12345L, 0, new BigDecimal("10.00"), "EUR");
+        when(priceRepositoryPort.findPricesBetween(anyCollection(), any(), any()))
+                .thenReturn(List.of(BASE_PRICE, PROMO_PRICE, otherProductPrice));
+        List<PriceQuery> batch = List.of(
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(12345L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 21, 0)));
+
+        // When
+        List<Optional<Price>> first = cachingPort.executeAll(batch);
+        List<Optional<Price>> second = cachingPort.executeAll(batch);
+        Optional<Price> single = cachingPort.execute(12345L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Then
+        List<Optional<Price>> expected = List.of(
+                Optional.of(PROMO_PRICE), Optional.of(otherProductPrice), Optional.of(BASE_PRICE));
+        assertEquals(expected, first);
+        assertEquals(expected, second);
+        assertEquals(Optional.of(otherProductPrice), single);
+        verify(priceRepositoryPort, times(1)).findPricesBetween(
+                eq(List.of(new PriceKey(BRAND_ID, PRODUCT_ID), new PriceKey(BRAND_ID, 12345L))), any(), any());
+        verifyNoMoreInteractions(priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should not cache a bucket whose product was evicted while it was loading")
+    void shouldNotCacheBucketEvictedWhileLoading() throws Exception {
+        assertEvictionDuringLoadIsNotCached(port -> port.execute(PRODUCT_ID, BRAND_ID, AT_16));
+    }
+
+    @Test
+    @DisplayName("Should not cache a batch bucket whose product was evicted while it was loading")
+    void shouldNotCacheBatchBucketEvictedWhileLoading() throws Exception {
+        assertEvictionDuringLoadIsNotCached(port ->
+                port.executeAll(List.of(new PriceQuery(PRODUCT_ID, BRAND_ID, AT_16))).get(0));
+    }
+
+    private void assertEvictionDuringLoadIsNotCached(Function<CachingGetApplicablePricePort, Optional<Price>> lookup)
+            throws Exception {
+        // Given
+        CaffeineCache local = new CaffeineCache("prices", Caffeine.newBuilder().build());
+        PriceCacheGenerations generations = new PriceCacheGenerations();
+        CachingGetApplicablePricePort port = new CachingGetApplicablePricePort(
+                priceRepositoryPort, local, Duration.ofDays(1), null, generations);
+        PriceCacheInvalidator invalidator = new PriceCacheInvalidator(local, null, generations);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+        when(priceRepositoryPort.findPricesBetween(eq(PRODUCT_ID), eq(BRAND_ID), any(), any()))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    assertTrue(evicted.await(5, TimeUnit.SECONDS));
+                    return List.of(BASE_PRICE, PROMO_PRICE);
+                })
+                .thenReturn(List.of(BASE_PRICE));
+
+        // When
+        CompletableFuture<Optional<Price>> stale = CompletableFuture.supplyAsync(() -> lookup.apply(port));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        invalidator.evict(Set.of(new PriceKey(BRAND_ID, PRODUCT_ID)));
+        evicted.countDown();
+
+        // Then
+        assertEquals(Optional.of(PROMO_PRICE), stale.get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.of(BASE_PRICE), lookup.apply(port));
+        verify(priceRepositoryPort, times(2)).findPricesBetween(any(), any(), any(), any());
+    }
+}
\ No newline at end of file
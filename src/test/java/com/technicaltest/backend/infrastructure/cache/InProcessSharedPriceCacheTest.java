@@ -0,0 +1,173 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Two-level price cache Tests - replicas sharing the in-process tier")
+class InProcessSharedPriceCacheTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime AT_16 = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private static final Price BASE_PRICE = new Price(1L, BRAND_ID,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, PRODUCT_ID, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, BRAND_ID,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, PRODUCT_ID, 1, new BigDecimal("25.45"), "EUR");
+
+    @Mock
+    private PriceRepositoryPort firstRepository;
+
+    @Mock
+    private PriceRepositoryPort secondRepository;
+
+    private InProcessSharedPriceCache sharedCache;
+    private ConcurrentMapCache firstLocal;
+    private ConcurrentMapCache secondLocal;
+    private CachingGetApplicablePricePort firstReplica;
+    private CachingGetApplicablePricePort secondReplica;
+    private PriceCacheInvalidator firstInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        sharedCache = new InProcessSharedPriceCache(Duration.ofMinutes(30));
+        firstLocal = new ConcurrentMapCache("prices");
+        secondLocal = new ConcurrentMapCache("prices");
+        PriceCacheGenerations firstGenerations = new PriceCacheGenerations();
+        PriceCacheGenerations secondGenerations = new PriceCacheGenerations();
+        firstReplica = new CachingGetApplicablePricePort(firstRepository, firstLocal,
+                Duration.ofHours(1), sharedCache, firstGenerations);
+        secondReplica = new CachingGetApplicablePricePort(secondRepository, secondLocal,
+                Duration.ofHours(1), sharedCache, secondGenerations);
+        firstInvalidator = new PriceCacheInvalidator(firstLocal, sharedCache, firstGenerations);
+        PriceCacheInvalidator secondInvalidator = new PriceCacheInvalidator(secondLocal, sharedCache,
+                secondGenerations);
+        sharedCache.subscribe(firstInvalidator::evict);
+        sharedCache.subscribe(secondInvalidator::evict);
+    }
+
+    @Test
+    @DisplayName("Should serve a bucket loaded by one replica to another without querying its repository")
+    void shouldServeBucketLoadedByAnotherReplica() {
+        // Given
+        when(firstRepository.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of(BASE_PRICE, PROMO_PRICE));
+        firstReplica.execute(PRODUCT_ID, BRAND_ID, AT_16);
+
+        // When
+        Optional<Price> result = secondReplica.execute(PRODUCT_ID, BRAND_ID, AT_16);
+
+        // Then
+        assertEquals(Optional.of(PROMO_PRICE), result);
+        verifyNoInteractions(secondRepository);
+    }
+
+    @Test
+    @DisplayName("Should share empty buckets as the negative cache")
+    void shouldShareEmptyBuckets() {
+        // Given
+        when(firstRepository.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of());
+        firstReplica.execute(99999L, BRAND_ID, AT_16);
+
+        // When
+        Optional<Price> result = secondReplica.execute(99999L, BRAND_ID, AT_16);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(secondRepository);
+    }
+
+    @Test
+    @DisplayName("Should evict a changed product from the shared tier and from the local tier of every replica")
+    void shouldBroadcastInvalidation() {
+        // Given
+        when(firstRepository.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of(BASE_PRICE, PROMO_PRICE));
+        when(secondRepository.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of(BASE_PRICE));
+        firstReplica.execute(PRODUCT_ID, BRAND_ID, AT_16);
+        secondReplica.execute(PRODUCT_ID, BRAND_ID, AT_16);
+
+        // When
+        firstInvalidator.onPricesChanged(Set.of(new PriceKey(BRAND_ID, PRODUCT_ID)));
+
+        // Then
+        assertTrue(secondLocal.getNativeCache().isEmpty());
+        assertEquals(Optional.of(BASE_PRICE), secondReplica.execute(PRODUCT_ID, BRAND_ID, AT_16));
+        verify(secondRepository, times(1)).findPricesBetween(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not share prices read before a change that was invalidated while they were loading")
+    void shouldNotShareStaleLoad() {
+        // Given
+        PriceBucketKey key = PriceBucketKey.of(BRAND_ID, PRODUCT_ID, AT_16, Duration.ofHours(1));
+        when(firstRepository.findPricesBetween(any(), any(), any(), any())).thenAnswer(invocation -> {
+            firstInvalidator.onPricesChanged(Set.of(new PriceKey(BRAND_ID, PRODUCT_ID)));
+            return List.of(BASE_PRICE, PROMO_PRICE);
+        });
+        when(secondRepository.findPricesBetween(any(), any(), any(), any())).thenReturn(List.of(BASE_PRICE));
+
+        // When
+        firstReplica.execute(PRODUCT_ID, BRAND_ID, AT_16);
+
+        // Then
+        assertEquals(Optional.empty(), sharedCache.get(key));
+        assertEquals(Optional.of(BASE_PRICE), secondReplica.execute(PRODUCT_ID, BRAND_ID, AT_16));
+        assertEquals(Optional.of(List.of(BASE_PRICE)), sharedCache.get(key));
+    }
+
+    @Test
+    @DisplayName("Should keep the expiry set when the first bucket of a product was cached")
+    void shouldNotExtendExpiryOnLaterWrites() throws InterruptedException {
+        // Given
+        InProcessSharedPriceCache expiring = new InProcessSharedPriceCache(Duration.ofMillis(200));
+        PriceBucketKey first = PriceBucketKey.of(BRAND_ID, PRODUCT_ID, AT_16, Duration.ofHours(1));
+        PriceBucketKey second = PriceBucketKey.of(BRAND_ID, PRODUCT_ID, AT_16.plusHours(1), Duration.ofHours(1));
+        expiring.put(first, 0, List.of(BASE_PRICE));
+        Thread.sleep(150);
+
+        // When
+        expiring.put(second, 0, List.of(BASE_PRICE));
+        Thread.sleep(100);
+
+        // Then
+        assertEquals(Optional.empty(), expiring.get(second));
+    }
+
+    @Test
+    @DisplayName("Should expire the buckets of a product after its time to live")
+    void shouldExpireBuckets() {
+        // Given
+        InProcessSharedPriceCache expiring = new InProcessSharedPriceCache(Duration.ZERO);
+        PriceBucketKey key = PriceBucketKey.of(BRAND_ID, PRODUCT_ID, AT_16, Duration.ofHours(1));
+
+        // When
+        expiring.put(key, 0, List.of(BASE_PRICE));
+
+        // Then
+        assertEquals(Optional.empty(), expiring.get(key));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceCacheCodec Tests")
+class PriceCacheCodecTest {
+
+    private static final PriceBucketKey KEY =
+            PriceBucketKey.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0), Duration.ofHours(1));
+
+    @Test
+    @DisplayName("Should encode the key of a bucket as the hash of its product and a field of its bucket")
+    void shouldEncodeKeys() {
+        assertEquals("prices:{1:35455}", PriceCacheCodec.productKey(1L, 35455L));
+        assertEquals("3600:1592150400", PriceCacheCodec.bucketField(KEY));
+    }
+
+    @Test
+    @DisplayName("Should decode the prices it encoded, brand and product coming from the key")
+    void shouldRoundTripPrices() {
+        // Given
+        List<Price> prices = List.of(
+                new Price(2L, 1L, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                        2L, 35455L, 1, new BigDecimal("25.45"), "EUR"),
+                new Price(null, 1L, LocalDateTime.of(2020, 6, 14, 0, 0),
+                        LocalDateTime.of(2020, 12, 31, 23, 59, 59, 999_999_999),
+                        1L, 35455L, 0, new BigDecimal("123456789012345678901234567890.123456"), "USD"));
+
+        // When
+        List<Price> decoded = PriceCacheCodec.decodePrices(KEY, PriceCacheCodec.encodePrices(prices));
+
+        // Then
+        assertEquals(prices, decoded);
+        assertNull(decoded.get(1).getId());
+        assertEquals(prices.get(1).getPrice(), decoded.get(1).getPrice());
+        assertEquals(prices.get(1).getEndDate(), decoded.get(1).getEndDate());
+    }
+
+    @Test
+    @DisplayName("Should encode an empty bucket, the shared negative cache")
+    void shouldRoundTripEmptyBucket() {
+        assertEquals(List.of(), PriceCacheCodec.decodePrices(KEY, PriceCacheCodec.encodePrices(List.of())));
+    }
+
+    @Test
+    @DisplayName("Should reject a value of another format version")
+    void shouldRejectOtherFormat() {
+        byte[] encoded = PriceCacheCodec.encodePrices(List.of());
+        encoded[0] = 99;
+
+        assertThrows(IllegalArgumentException.class, () -> PriceCacheCodec.decodePrices(KEY, encoded));
+    }
+
+    @Test
+    @DisplayName("Should decode the invalidations it encoded")
+    void shouldRoundTripInvalidations() {
+        // Given
+        Set<PriceKey> keys = new LinkedHashSet<>(List.of(new PriceKey(1L, 35455L), new PriceKey(2L, 7L)));
+
+        // When
+        byte[] message = PriceCacheCodec.encodeInvalidation(keys);
+
+        // Then
+        assertEquals("1:35455,2:7", new String(message));
+        assertEquals(keys, PriceCacheCodec.decodeInvalidation(message));
+        assertThrows(IllegalArgumentException.class, () -> PriceCacheCodec.decodeInvalidation("1-2".getBytes()));
+    }
+}
\ No newline at end of file
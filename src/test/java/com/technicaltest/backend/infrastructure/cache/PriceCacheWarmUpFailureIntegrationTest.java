@@ -0,0 +1,60 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.infrastructure.config.PriceCacheConfiguration;
+import com.technicaltest.backend.infrastructure.persistence.adapter.JdbcTopPriceKeysAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:warm-up-failure;DB_CLOSE_DELAY=-1",
+        "prices.cache.warm-up.enabled=true",
+        "prices.cache.warm-up.keys=1:35455",
+        "prices.cache.warm-up.horizon=2h"
+})
+@DisplayName("Price cache warm-up Integration Tests - failing top products query")
+class PriceCacheWarmUpFailureIntegrationTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Should start and warm the configured products when the top products query fails")
+    void shouldWarmConfiguredProductsWhenTopKeysQueryFails() {
+        // Given
+        com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine = (com.github.benmanes.caffeine.cache.Cache<?, ?>)
+                cacheManager.getCache(PriceCacheConfiguration.PRICES_CACHE).getNativeCache();
+
+        // When & Then
+        assertTrue(caffeine.asMap().keySet().stream()
+                .anyMatch(key -> key instanceof PriceBucketKey bucketKey && bucketKey.getProductId() == 35455L));
+    }
+
+    @TestConfiguration
+    static class FailingTopPriceKeysConfiguration {
+
+        @Bean
+        @Primary
+        JdbcTopPriceKeysAdapter failingTopPriceKeysAdapter(JdbcTemplate jdbcTemplate) {
+            return new JdbcTopPriceKeysAdapter(jdbcTemplate) {
+                @Override
+                public List<PriceKey> findTopKeys(LocalDateTime from, LocalDateTime to, int limit) {
+                    throw new DataAccessResourceFailureException("PRICES cannot be read");
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
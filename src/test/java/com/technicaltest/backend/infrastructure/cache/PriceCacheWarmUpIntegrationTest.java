@@ -0,0 +1,97 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.infrastructure.config.PriceCacheConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "prices.cache.warm-up.enabled=true",
+        "prices.cache.warm-up.keys=1:35455",
+        "prices.cache.warm-up.horizon=2h"
+})
+@AutoConfigureMockMvc
+@DisplayName("Price cache warm-up Integration Tests")
+class PriceCacheWarmUpIntegrationTest {
+
+    private static final Path SNAPSHOT;
+
+    static {
+        try {
+            SNAPSHOT = Files.createTempFile("price-hot-keys", ".txt");
+            Files.writeString(SNAPSHOT, "1:35456\n");
+            SNAPSHOT.toFile().deleteOnExit();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("prices.cache.warm-up.snapshot-path", SNAPSHOT::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PriceHotKeySnapshot priceHotKeySnapshot;
+
+    @Test
+    @DisplayName("Should load the configured and snapshot products before the instance reports ready")
+    void shouldWarmProductsBeforeReady() throws Exception {
+        // Given
+        com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine = (com.github.benmanes.caffeine.cache.Cache<?, ?>)
+                cacheManager.getCache(PriceCacheConfiguration.PRICES_CACHE).getNativeCache();
+
+        // When
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"));
+
+        // Then
+        Set<Long> warmedProducts = caffeine.asMap().keySet().stream()
+                .filter(PriceBucketKey.class::isInstance)
+                .map(key -> ((PriceBucketKey) key).getProductId())
+                .collect(Collectors.toSet());
+        assertTrue(warmedProducts.containsAll(Set.of(35455L, 35456L)));
+    }
+
+    @Test
+    @DisplayName("Should write the cached products to the snapshot")
+    void shouldWriteCachedProductsToSnapshot() throws Exception {
+        // Given
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk());
+
+        // When
+        priceHotKeySnapshot.write();
+
+        // Then
+        String snapshot = Files.readString(SNAPSHOT);
+        assertTrue(snapshot.lines().toList().containsAll(Set.of("1:35455", "1:35456")));
+    }
+}
\ No newline at end of file
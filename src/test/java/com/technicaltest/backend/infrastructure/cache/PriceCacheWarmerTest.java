@@ -0,0 +1,122 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceCacheWarmer Tests")
+class PriceCacheWarmerTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 15, 30);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Mock
+    private GetApplicablePricePort pricePort;
+
+    private PriceCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        warmer = new PriceCacheWarmer(pricePort, Duration.ofHours(1), 4);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when parallelism is not positive")
+    void shouldThrowExceptionWhenParallelismIsNotPositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PriceCacheWarmer(pricePort, Duration.ofHours(1), 0));
+    }
+
+    @Test
+    @DisplayName("Should look up every bucket of every product within the horizon")
+    void shouldLookUpEveryBucketWithinHorizon() {
+        // Given
+        List<PriceKey> keys = List.of(new PriceKey(1L, 35455L), new PriceKey(1L, 35456L));
+        when(pricePort.execute(any(), any(), any())).thenReturn(Optional.empty());
+
+        // When
+        int loaded = warmer.warm(keys, FROM, Duration.ofHours(2), TIMEOUT);
+
+        // Then
+        assertEquals(6, loaded);
+        for (Long productId : List.of(35455L, 35456L)) {
+            verify(pricePort).execute(productId, 1L, FROM);
+            verify(pricePort).execute(productId, 1L, LocalDateTime.of(2020, 6, 14, 16, 0));
+            verify(pricePort).execute(productId, 1L, LocalDateTime.of(2020, 6, 14, 17, 0));
+        }
+        verifyNoMoreInteractions(pricePort);
+    }
+
+    @Test
+    @DisplayName("Should warm the current bucket only when the horizon is zero")
+    void shouldWarmCurrentBucketWhenHorizonIsZero() {
+        // Given
+        when(pricePort.execute(any(), any(), any())).thenReturn(Optional.empty());
+
+        // When
+        int loaded = warmer.warm(List.of(new PriceKey(1L, 35455L)), FROM, Duration.ZERO, TIMEOUT);
+
+        // Then
+        assertEquals(1, loaded);
+        verify(pricePort).execute(35455L, 1L, FROM);
+    }
+
+    @Test
+    @DisplayName("Should skip the buckets that fail to load")
+    void shouldSkipFailedBuckets() {
+        // Given
+        when(pricePort.execute(eq(35455L), any(), any())).thenThrow(new IllegalStateException("boom"));
+        when(pricePort.execute(eq(35456L), any(), any())).thenReturn(Optional.empty());
+
+        // When
+        int loaded = warmer.warm(List.of(new PriceKey(1L, 35455L), new PriceKey(1L, 35456L)),
+                FROM, Duration.ZERO, TIMEOUT);
+
+        // Then
+        assertEquals(1, loaded);
+    }
+
+    @Test
+    @DisplayName("Should give up when the warm-up exceeds its timeout")
+    void shouldGiveUpOnTimeout() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(pricePort.execute(any(), any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return Optional.empty();
+        });
+
+        // When
+        long start = System.nanoTime();
+        int loaded = warmer.warm(List.of(new PriceKey(1L, 35455L)), FROM, Duration.ZERO, Duration.ofMillis(100));
+
+        // Then
+        assertEquals(0, loaded);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should do nothing without products")
+    void shouldDoNothingWithoutProducts() {
+        assertEquals(0, warmer.warm(List.of(), FROM, Duration.ofHours(1), TIMEOUT));
+        verifyNoInteractions(pricePort);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceHotKeySnapshot Tests")
+class PriceHotKeySnapshotTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final Duration BUCKET = Duration.ofHours(1);
+
+    @TempDir
+    Path directory;
+
+    private CaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineCache("prices", Caffeine.newBuilder()
+                .maximumSize(100)
+                .executor(Runnable::run)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should write the distinct products of the cached buckets and read them back")
+    void shouldWriteAndReadCachedProducts() {
+        // Given
+        cache.put(PriceBucketKey.of(1L, 35455L, DATE, BUCKET), PriceTimeline.empty());
+        cache.put(PriceBucketKey.of(1L, 35455L, DATE.plusHours(1), BUCKET), PriceTimeline.empty());
+        cache.put(PriceBucketKey.of(2L, 35456L, DATE, BUCKET), PriceTimeline.empty());
+        PriceHotKeySnapshot snapshot = new PriceHotKeySnapshot(directory.resolve("hot-keys.txt"), cache, 10);
+
+        // When
+        snapshot.write();
+        List<PriceKey> keys = snapshot.read();
+
+        // Then
+        assertEquals(2, keys.size());
+        assertEquals(Set.of(new PriceKey(1L, 35455L), new PriceKey(2L, 35456L)), Set.copyOf(keys));
+    }
+
+    @Test
+    @DisplayName("Should write no more products than the snapshot size")
+    void shouldLimitSnapshotSize() {
+        // Given
+        for (long productId = 1; productId <= 5; productId++) {
+            cache.put(PriceBucketKey.of(1L, productId, DATE, BUCKET), PriceTimeline.empty());
+        }
+        PriceHotKeySnapshot snapshot = new PriceHotKeySnapshot(directory.resolve("hot-keys.txt"), cache, 3);
+
+        // When
+        snapshot.write();
+
+        // Then
+        assertEquals(3, snapshot.read().size());
+    }
+
+    @Test
+    @DisplayName("Should read no products when there is no snapshot yet")
+    void shouldReadNothingWithoutSnapshot() {
+        PriceHotKeySnapshot snapshot = new PriceHotKeySnapshot(directory.resolve("missing.txt"), cache, 10);
+
+        assertTrue(snapshot.read().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not write a snapshot from a cache that is not Caffeine")
+    void shouldNotWriteFromOtherCaches() {
+        // Given
+        ConcurrentMapCache other = new ConcurrentMapCache("prices");
+        other.put(PriceBucketKey.of(1L, 35455L, DATE, BUCKET), PriceTimeline.empty());
+        Path path = directory.resolve("hot-keys.txt");
+
+        // When
+        new PriceHotKeySnapshot(path, other, 10).write();
+
+        // Then
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    @DisplayName("Should parse a brandId:productId key and reject a malformed one")
+    void shouldParseKeys() {
+        assertEquals(new PriceKey(1L, 35455L), PriceHotKeySnapshot.parse("1:35455"));
+        assertEquals(new PriceKey(1L, 35455L), PriceHotKeySnapshot.parse(" 1 : 35455 "));
+        assertThrows(IllegalArgumentException.class, () -> PriceHotKeySnapshot.parse("35455"));
+        assertThrows(IllegalArgumentException.class, () -> PriceHotKeySnapshot.parse("a:b"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.infrastructure.config.PriceMetricsConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "prices.cache.shared.type=local")
+@AutoConfigureMockMvc
+@DisplayName("Shared price cache Integration Tests")
+class PriceSharedCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SharedPriceCache sharedPriceCache;
+
+    @Autowired
+    private PriceCacheInvalidator priceCacheInvalidator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should share the bucket of a lookup and drop it when the product changes")
+    void shouldShareBucketUntilProductChanges() throws Exception {
+        // Given
+        PriceBucketKey key = PriceBucketKey.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0), Duration.ofHours(1));
+
+        // When
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+
+        // Then
+        assertEquals(2, sharedPriceCache.get(key).orElseThrow().size());
+        assertTrue(meterRegistry.get(PriceMetricsConfiguration.SHARED_CACHE)
+                .tag("method", "get")
+                .tag("outcome", "not_found")
+                .timer().count() > 0);
+
+        // When
+        priceCacheInvalidator.onPricesChanged(Set.of(new PriceKey(1L, 35455L)));
+
+        // Then
+        assertTrue(sharedPriceCache.get(key).isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the shared tier, and its {@code PUT_IF_CURRENT} script, against a real Redis server.
+ * Skipped when no Docker environment is available.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:redis-shared-cache;DB_CLOSE_DELAY=-1",
+        "prices.cache.shared.type=redis",
+        "prices.cache.shared.expire-after-write=30m"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("RedisSharedPriceCache Integration Tests")
+class RedisSharedPriceCacheIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static final LocalDateTime AT_16 = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Autowired
+    private SharedPriceCache sharedPriceCache;
+
+    @Autowired
+    private StringRedisTemplate redis;
+
+    @Test
+    @DisplayName("Should cache a bucket at generation 0 and set the expiry of the product only once")
+    void shouldCacheBucketAndSetExpiryOnce() {
+        // Given
+        PriceBucketKey first = PriceBucketKey.of(1L, 991001L, AT_16, Duration.ofHours(1));
+        PriceBucketKey second = PriceBucketKey.of(1L, 991001L, AT_16.plusHours(1), Duration.ofHours(1));
+        String productKey = PriceCacheCodec.productKey(1L, 991001L);
+
+        // When
+        OptionalLong generation = sharedPriceCache.generation(new PriceKey(1L, 991001L));
+        sharedPriceCache.put(first, generation.orElseThrow(), prices(991001L));
+
+        // Then
+        assertEquals(OptionalLong.of(0L), generation);
+        assertEquals(Optional.of(prices(991001L)), sharedPriceCache.get(first));
+        long ttl = redis.getExpire(productKey, TimeUnit.MILLISECONDS);
+        assertTrue(ttl > 0 && ttl <= Duration.ofMinutes(30).toMillis(), "unexpected PTTL " + ttl);
+
+        // When
+        redis.expire(productKey, Duration.ofMinutes(1));
+        sharedPriceCache.put(second, 0L, prices(991001L));
+
+        // Then
+        assertEquals(Optional.of(prices(991001L)), sharedPriceCache.get(second));
+        assertTrue(redis.getExpire(productKey, TimeUnit.MILLISECONDS) <= Duration.ofMinutes(1).toMillis(),
+                "a later bucket must not extend the expiry of the product");
+    }
+
+    @Test
+    @DisplayName("Should drop the buckets of an invalidated product and move its generation forward")
+    void shouldDropBucketsOnInvalidation() {
+        // Given
+        PriceKey product = new PriceKey(1L, 991002L);
+        PriceBucketKey key = PriceBucketKey.of(1L, 991002L, AT_16, Duration.ofHours(1));
+        sharedPriceCache.put(key, 0L, prices(991002L));
+
+        // When
+        sharedPriceCache.invalidate(Set.of(product));
+
+        // Then
+        assertEquals(Optional.empty(), sharedPriceCache.get(key));
+        assertEquals(OptionalLong.of(1L), sharedPriceCache.generation(product));
+        assertEquals("1", redis.opsForValue().get(PriceCacheCodec.generationKey(1L, 991002L)));
+        assertFalse(redis.hasKey(PriceCacheCodec.productKey(1L, 991002L)));
+    }
+
+    @Test
+    @DisplayName("Should refuse a bucket read at a generation the product has moved past")
+    void shouldRefuseBucketOfStaleGeneration() {
+        // Given
+        PriceKey product = new PriceKey(1L, 991003L);
+        PriceBucketKey key = PriceBucketKey.of(1L, 991003L, AT_16, Duration.ofHours(1));
+        long readBeforeChange = sharedPriceCache.generation(product).orElseThrow();
+        sharedPriceCache.invalidate(Set.of(product));
+
+        // When
+        sharedPriceCache.put(key, readBeforeChange, prices(991003L));
+
+        // Then
+        assertEquals(Optional.empty(), sharedPriceCache.get(key));
+
+        // When
+        sharedPriceCache.put(key, sharedPriceCache.generation(product).orElseThrow(), prices(991003L));
+
+        // Then
+        assertEquals(Optional.of(prices(991003L)), sharedPriceCache.get(key));
+    }
+
+    private static List<Price> prices(long productId) {
+        return List.of(new Price(2L, 1L,
+                LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+                2L, productId, 1, new BigDecimal("25.45"), "EUR"));
+    }
+}
\ No newline at end of file
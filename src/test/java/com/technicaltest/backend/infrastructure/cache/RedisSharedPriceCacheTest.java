@@ -0,0 +1,159 @@
+package com.technicaltest.backend.infrastructure.cache;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisSharedPriceCache Tests")
+class RedisSharedPriceCacheTest {
+
+    private static final String CHANNEL = "prices:invalidations";
+    private static final Duration TTL = Duration.ofMinutes(30);
+    private static final PriceBucketKey KEY =
+            PriceBucketKey.of(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0), Duration.ofHours(1));
+    private static final List<Price> PRICES = List.of(new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR"));
+
+    @Mock
+    private RedisOperations<String, byte[]> redis;
+
+    @Mock
+    private HashOperations<String, String, byte[]> buckets;
+
+    @Mock
+    private ValueOperations<String, byte[]> counters;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RedisSharedPriceCache sharedCache;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(buckets).when(redis).opsForHash();
+        doReturn(counters).when(redis).opsForValue();
+        sharedCache = new RedisSharedPriceCache(redis, listenerContainer, CHANNEL, TTL);
+    }
+
+    @Test
+    @DisplayName("Should read a bucket with one HGET on the hash of its product")
+    void shouldReadBucket() {
+        // Given
+        when(buckets.get("prices:{1:35455}", "3600:1592150400")).thenReturn(PriceCacheCodec.encodePrices(PRICES));
+
+        // When & Then
+        assertEquals(Optional.of(PRICES), sharedCache.get(KEY));
+    }
+
+    @Test
+    @DisplayName("Should miss a bucket that is not cached")
+    void shouldMissBucket() {
+        assertEquals(Optional.empty(), sharedCache.get(KEY));
+    }
+
+    @Test
+    @DisplayName("Should read the generation of a product, zero until it is first invalidated")
+    void shouldReadGeneration() {
+        // Given
+        when(counters.get("prices:{1:35455}:generation")).thenReturn(null);
+        when(counters.get("prices:{1:35456}:generation")).thenReturn("3".getBytes());
+
+        // When & Then
+        assertEquals(OptionalLong.of(0), sharedCache.generation(new PriceKey(1L, 35455L)));
+        assertEquals(OptionalLong.of(3), sharedCache.generation(new PriceKey(1L, 35456L)));
+    }
+
+    @Test
+    @DisplayName("Should cache a bucket with one script conditional on the generation of its product")
+    void shouldWriteBucket() {
+        // When
+        sharedCache.put(KEY, 3, PRICES);
+
+        // Then
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(redis).execute(any(RedisScript.class),
+                eq(List.of("prices:{1:35455}", "prices:{1:35455}:generation")),
+                aryEq("3".getBytes()), aryEq("3600:1592150400".getBytes()), value.capture(),
+                aryEq(Long.toString(TTL.toMillis()).getBytes()));
+        assertEquals(PRICES, PriceCacheCodec.decodePrices(KEY, value.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should fall back to a miss when the server cannot be reached")
+    void shouldMissWhenServerIsDown() {
+        // Given
+        when(buckets.get(any(), any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(counters.get(any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        when(redis.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // When & Then
+        assertEquals(Optional.empty(), sharedCache.get(KEY));
+        assertEquals(OptionalLong.empty(), sharedCache.generation(new PriceKey(1L, 35455L)));
+        assertDoesNotThrow(() -> sharedCache.put(KEY, 0, PRICES));
+    }
+
+    @Test
+    @DisplayName("Should move the generations of changed products, delete their hashes and publish them")
+    void shouldInvalidateAndBroadcast() {
+        // When
+        sharedCache.invalidate(Set.of(new PriceKey(1L, 35455L)));
+
+        // Then
+        InOrder order = inOrder(counters, redis);
+        order.verify(counters).increment("prices:{1:35455}:generation");
+        order.verify(redis).delete(List.of("prices:{1:35455}"));
+        verify(redis).convertAndSend(eq(CHANNEL), aryEq("1:35455".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Should hand the invalidations published by any replica to the subscriber")
+    void shouldDeliverBroadcastInvalidations() {
+        // Given
+        List<Set<PriceKey>> received = new ArrayList<>();
+        sharedCache.subscribe(received::add);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listener.capture(), eq(new ChannelTopic(CHANNEL)));
+
+        // When
+        listener.getValue().onMessage(new DefaultMessage(CHANNEL.getBytes(), "1:35455,1:35456".getBytes()), null);
+        listener.getValue().onMessage(new DefaultMessage(CHANNEL.getBytes(), "garbage".getBytes()), null);
+
+        // Then
+        assertEquals(List.of(Set.of(new PriceKey(1L, 35455L), new PriceKey(1L, 35456L))), received);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MicroBatcher Tests")
+class MicroBatcherTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent requests in one batch as soon as it is full")
+    void shouldResolveFullBatchAtOnce() throws Exception {
+        // Given
+        MicroBatcher<String, Integer, String> batcher = new MicroBatcher<>(Duration.ofMinutes(1), 4, this::resolve);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int request = i;
+            results.add(executor.submit(() -> batcher.submit("group", request)));
+        }
+
+        // Then
+        for (int i = 0; i < 4; i++) {
+            assertEquals("group:" + i, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, batches.size());
+        assertEquals(List.of(0, 1, 2, 3), batches.get(0).stream().sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should resolve a lone request once the window elapses")
+    void shouldResolveLoneRequestAfterWindow() {
+        // Given
+        MicroBatcher<String, Integer, String> batcher = new MicroBatcher<>(Duration.ofMillis(10), 4, this::resolve);
+
+        // When
+        long start = System.nanoTime();
+        String result = batcher.submit("group", 7);
+
+        // Then
+        assertEquals("group:7", result);
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+        assertEquals(List.of(List.of(7)), batches);
+    }
+
+    @Test
+    @DisplayName("Should only batch requests of the same group")
+    void shouldBatchByGroup() throws Exception {
+        // Given
+        MicroBatcher<String, Integer, String> batcher = new MicroBatcher<>(Duration.ofMinutes(1), 2, this::resolve);
+
+        // When
+        Future<String> a1 = executor.submit(() -> batcher.submit("a", 1));
+        Future<String> b1 = executor.submit(() -> batcher.submit("b", 1));
+        Future<String> a2 = executor.submit(() -> batcher.submit("a", 2));
+        Future<String> b2 = executor.submit(() -> batcher.submit("b", 2));
+
+        // Then
+        assertEquals("a:1", a1.get(5, TimeUnit.SECONDS));
+        assertEquals("a:2", a2.get(5, TimeUnit.SECONDS));
+        assertEquals("b:1", b1.get(5, TimeUnit.SECONDS));
+        assertEquals("b:2", b2.get(5, TimeUnit.SECONDS));
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    @DisplayName("Should pass the exception of the batch to every request")
+    void shouldShareException() throws Exception {
+        // Given
+        MicroBatcher<String, Integer, String> batcher = new MicroBatcher<>(Duration.ofMinutes(1), 2,
+                (group, requests) -> {
+                    throw new IllegalStateException("database down");
+                });
+
+        // When
+        Future<String> first = executor.submit(() -> batcher.submit("group", 1));
+        Future<String> second = executor.submit(() -> batcher.submit("group", 2));
+
+        // Then
+        for (Future<String> result : List.of(first, second)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size below one")
+    void shouldRejectInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MicroBatcher<>(Duration.ofMillis(1), 0, this::resolve));
+    }
+
+    private List<String> resolve(String group, List<Integer> requests) {
+        batches.add(List.copyOf(requests));
+        return requests.stream().map(request -> group + ":" + request).collect(Collectors.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.config.PriceBatchingConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "prices.batching.enabled=true",
+        "prices.batching.window=200ms",
+        "prices.batching.max-size=3"
+})
+@AutoConfigureMockMvc
+@DisplayName("Price lookup batching Integration Tests")
+class PriceLookupBatchingIntegrationTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 15, 0, 0);
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should answer concurrent interval lookups of different products from one batch")
+    void shouldBatchConcurrentIntervalLookups() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        List<Future<List<Price>>> lookups = new ArrayList<>();
+
+        // When
+        try {
+            for (long productId : new long[]{35455L, 99998L, 99999L}) {
+                lookups.add(executor.submit(() -> priceRepositoryPort.findPricesBetween(productId, 1L, FROM, TO)));
+            }
+
+            // Then
+            List<Price> prices = lookups.get(0).get(5, TimeUnit.SECONDS);
+            assertEquals(3, prices.size());
+            assertTrue(prices.stream().allMatch(price -> price.getProductId().equals(35455L)));
+            assertTrue(lookups.get(1).get(5, TimeUnit.SECONDS).isEmpty());
+            assertTrue(lookups.get(2).get(5, TimeUnit.SECONDS).isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(3.0, meterRegistry.get(PriceBatchingConfiguration.BATCH_SIZE)
+                .tag("method", "findPricesBetween")
+                .summary().max());
+    }
+
+    @Test
+    @DisplayName("Should still answer a lone price lookup once the window elapses")
+    void shouldAnswerLoneLookup() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceLookupBatchingInterceptor Tests")
+class PriceLookupBatchingInterceptorTest {
+
+    private static final String BATCH_SIZE = "test.batch.size";
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 6, 15, 0, 0);
+
+    private static final Price BASE_PRICE = new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final Price OTHER_PRODUCT_PRICE = new Price(5L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35456L, 0, new BigDecimal("12.00"), "EUR");
+
+    @Mock
+    private PriceRepositoryPort priceRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceRepositoryPort batchingPort;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(priceRepositoryPort);
+        proxyFactory.addAdvice(new PriceLookupBatchingInterceptor(Duration.ofMinutes(1), 3, BATCH_SIZE,
+                () -> priceRepositoryPort, () -> meterRegistry));
+        batchingPort = (PriceRepositoryPort) proxyFactory.getProxy();
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent highest priority lookups with one multi-key query")
+    void shouldBatchHighestPriorityLookups() throws Exception {
+        // Given
+        when(priceRepositoryPort.findApplicablePrices(anyCollection()))
+                .thenReturn(List.of(BASE_PRICE, PROMO_PRICE, OTHER_PRODUCT_PRICE));
+
+        // When
+        Future<Optional<Price>> promo = executor.submit(
+                () -> batchingPort.findHighestPriorityPrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        Future<Optional<Price>> base = executor.submit(
+                () -> batchingPort.findHighestPriorityPrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+        Future<Optional<Price>> missing = executor.submit(
+                () -> batchingPort.findHighestPriorityPrice(99999L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+
+        // Then
+        assertEquals(PROMO_PRICE, promo.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertEquals(BASE_PRICE, base.get(5, TimeUnit.SECONDS).orElseThrow());
+        assertTrue(missing.get(5, TimeUnit.SECONDS).isEmpty());
+        verify(priceRepositoryPort, times(1)).findApplicablePrices(argThat(queries -> queries.size() == 3
+                && queries.contains(new PriceQuery(99999L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)))));
+        verify(priceRepositoryPort, never()).findHighestPriorityPrice(any(), any(), any());
+        assertEquals(3.0, batchSizes("findHighestPriorityPrice").max());
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent interval lookups of one interval with one multi-key query")
+    void shouldBatchIntervalLookups() throws Exception {
+        // Given
+        when(priceRepositoryPort.findPricesBetween(anyCollection(), eq(FROM), eq(TO)))
+                .thenReturn(List.of(BASE_PRICE, PROMO_PRICE, OTHER_PRODUCT_PRICE));
+
+        // When
+        Future<List<Price>> product = executor.submit(() -> batchingPort.findPricesBetween(35455L, 1L, FROM, TO));
+        Future<List<Price>> other = executor.submit(() -> batchingPort.findPricesBetween(35456L, 1L, FROM, TO));
+        Future<List<Price>> missing = executor.submit(() -> batchingPort.findPricesBetween(99999L, 1L, FROM, TO));
+
+        // Then
+        assertEquals(List.of(BASE_PRICE, PROMO_PRICE), product.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(OTHER_PRODUCT_PRICE), other.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(), missing.get(5, TimeUnit.SECONDS));
+        verify(priceRepositoryPort, times(1)).findPricesBetween(
+                eq(Set.of(new PriceKey(1L, 35455L), new PriceKey(1L, 35456L), new PriceKey(1L, 99999L))),
+                eq(FROM), eq(TO));
+        assertEquals(3.0, batchSizes("findPricesBetween").max());
+    }
+
+    @Test
+    @DisplayName("Should not batch lookups made inside a transaction")
+    void shouldNotBatchInsideTransaction() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        when(priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, date)).thenReturn(Optional.of(PROMO_PRICE));
+
+        // When
+        Optional<Price> result;
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            result = batchingPort.findHighestPriorityPrice(35455L, 1L, date);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // Then
+        assertEquals(PROMO_PRICE, result.orElseThrow());
+        verify(priceRepositoryPort, never()).findApplicablePrices(anyCollection());
+        assertNull(meterRegistry.find(BATCH_SIZE).summary());
+    }
+
+    private DistributionSummary batchSizes(String method) {
+        return meterRegistry.get(BATCH_SIZE).tag("method", method).summary();
+    }
+}
\ No newline at end of file
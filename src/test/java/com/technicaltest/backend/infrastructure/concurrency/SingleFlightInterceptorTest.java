@@ -0,0 +1,180 @@
+package com.technicaltest.backend.infrastructure.concurrency;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SingleFlightInterceptor Tests")
+class SingleFlightInterceptorTest {
+
+    private static final String COALESCED = "test.coalesced";
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    private static final Price PRICE = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    @Mock
+    private PriceRepositoryPort priceRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceRepositoryPort singleFlightPort;
+    private ExecutorService executor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ProxyFactory proxyFactory = new ProxyFactory(priceRepositoryPort);
+        proxyFactory.addAdvice(new SingleFlightInterceptor(COALESCED, () -> meterRegistry));
+        singleFlightPort = (PriceRepositoryPort) proxyFactory.getProxy();
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run concurrent identical lookups once and share the result")
+    void shouldShareConcurrentIdenticalLookups() throws Exception {
+        // Given
+        when(priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, DATE)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(PRICE);
+        });
+
+        // When
+        List<Future<Optional<Price>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lookups.add(executor.submit(() -> singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE)));
+        }
+        awaitCoalesced("findHighestPriorityPrice", 3);
+        release.countDown();
+
+        // Then
+        for (Future<Optional<Price>> lookup : lookups) {
+            assertSame(PRICE, lookup.get(5, TimeUnit.SECONDS).orElseThrow());
+        }
+        verify(priceRepositoryPort, times(1)).findHighestPriorityPrice(35455L, 1L, DATE);
+    }
+
+    @Test
+    @DisplayName("Should pass the exception of the shared lookup to every caller")
+    void shouldShareException() throws Exception {
+        // Given
+        when(priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, DATE)).thenAnswer(invocation -> {
+            release.await();
+            throw new IllegalStateException("database down");
+        });
+
+        // When
+        Future<Optional<Price>> first = executor.submit(
+                () -> singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE));
+        Future<Optional<Price>> second = executor.submit(
+                () -> singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE));
+        awaitCoalesced("findHighestPriorityPrice", 1);
+        release.countDown();
+
+        // Then
+        for (Future<Optional<Price>> lookup : List.of(first, second)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertEquals("database down", e.getCause().getMessage());
+        }
+        verify(priceRepositoryPort, times(1)).findHighestPriorityPrice(35455L, 1L, DATE);
+    }
+
+    @Test
+    @DisplayName("Should not coalesce lookups with other arguments nor lookups after the shared one completed")
+    void shouldNotCoalesceOtherOrLaterLookups() {
+        // Given
+        when(priceRepositoryPort.findHighestPriorityPrice(eq(35455L), eq(1L), any())).thenReturn(Optional.of(PRICE));
+
+        // When
+        singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE);
+        singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE.plusHours(1));
+        singleFlightPort.findHighestPriorityPrice(35455L, 1L, DATE);
+
+        // Then
+        verify(priceRepositoryPort, times(2)).findHighestPriorityPrice(35455L, 1L, DATE);
+        verify(priceRepositoryPort, times(1)).findHighestPriorityPrice(35455L, 1L, DATE.plusHours(1));
+        assertNull(meterRegistry.find(COALESCED).counter());
+    }
+
+    @Test
+    @DisplayName("Should not coalesce lookups made inside a transaction")
+    void shouldNotCoalesceInsideTransaction() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(2);
+        when(priceRepositoryPort.findPricesBetween(35455L, 1L, DATE, DATE.plusHours(1))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return List.of(PRICE);
+        });
+
+        // When
+        List<Future<List<Price>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            lookups.add(executor.submit(() -> {
+                TransactionSynchronizationManager.setActualTransactionActive(true);
+                try {
+                    return singleFlightPort.findPricesBetween(35455L, 1L, DATE, DATE.plusHours(1));
+                } finally {
+                    TransactionSynchronizationManager.setActualTransactionActive(false);
+                }
+            }));
+        }
+
+        // Then
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        for (Future<List<Price>> lookup : lookups) {
+            assertEquals(List.of(PRICE), lookup.get(5, TimeUnit.SECONDS));
+        }
+        verify(priceRepositoryPort, times(2)).findPricesBetween(35455L, 1L, DATE, DATE.plusHours(1));
+    }
+
+    private void awaitCoalesced(String method, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalesced(method) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, coalesced(method));
+    }
+
+    private long coalesced(String method) {
+        Counter counter = meterRegistry.find(COALESCED).tag("method", method).counter();
+        return Objects.isNull(counter) ? 0 : (long) counter.count();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.technicaltest.backend.infrastructure.metrics;
+
+import com.technicaltest.backend.infrastructure.config.PriceMetricsConfiguration;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Price lookup metrics Integration Tests")
+class PriceMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time a found lookup and count the candidate prices read on a cache miss, without mapping entities")
+    void shouldRecordFoundLookup() throws Exception {
+        // Given
+        long lookups = lookupCount("found");
+        long repositoryCalls = candidateCount();
+        long conversions = mapperCount();
+
+        // When
+        lookup("35455", "2020-11-05T07:30:00").andExpect(status().isOk());
+
+        // Then
+        assertEquals(lookups + 1, lookupCount("found"));
+        assertEquals(repositoryCalls + 1, candidateCount());
+        assertTrue(candidates().max() >= 1);
+        assertTrue(meterRegistry.get(PriceMetricsConfiguration.REPOSITORY)
+                .tag("component", "PriceRepositoryAdapter")
+                .tag("method", "findPricesBetween")
+                .timer().count() > 0);
+        assertEquals(conversions, mapperCount(), "lookups are projected without the entity mapper");
+    }
+
+    @Test
+    @DisplayName("Should tag lookups without an applicable price as not found")
+    void shouldRecordNotFoundLookup() throws Exception {
+        // Given
+        long lookups = lookupCount("not_found");
+
+        // When
+        lookup("99999", "2020-06-14T10:00:00").andExpect(status().isNotFound());
+
+        // Then
+        assertEquals(lookups + 1, lookupCount("not_found"));
+    }
+
+    private ResultActions lookup(String productId, String applicationDate) throws Exception {
+        return mockMvc.perform(get("/api/prices")
+                .param("applicationDate", applicationDate)
+                .param("productId", productId)
+                .param("brandId", "1"));
+    }
+
+    private long lookupCount(String outcome) {
+        Timer timer = meterRegistry.find(PriceMetricsConfiguration.LOOKUP)
+                .tag("component", "CachingGetApplicablePricePort")
+                .tag("method", "execute")
+                .tag("outcome", outcome)
+                .timer();
+        return Objects.isNull(timer) ? 0 : timer.count();
+    }
+
+    private long mapperCount() {
+        Timer timer = meterRegistry.find(PriceMetricsConfiguration.MAPPER).timer();
+        return Objects.isNull(timer) ? 0 : timer.count();
+    }
+
+    private long candidateCount() {
+        DistributionSummary summary = meterRegistry.find(PriceMetricsConfiguration.CANDIDATES)
+                .tag("component", "PriceRepositoryAdapter")
+                .tag("method", "findPricesBetween")
+                .summary();
+        return Objects.isNull(summary) ? 0 : summary.count();
+    }
+
+    private DistributionSummary candidates() {
+        return meterRegistry.get(PriceMetricsConfiguration.CANDIDATES)
+                .tag("component", "PriceRepositoryAdapter")
+                .tag("method", "findPricesBetween")
+                .summary();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "prices.repository.type=columnar")
+@DisplayName("ColumnarPriceRepositoryAdapter Integration Tests - 5 Required Test Cases")
+class ColumnarPriceRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private GetApplicablePricePort getApplicablePricePort;
+
+    @Test
+    @DisplayName("Should use the columnar adapter when configured")
+    void shouldUseColumnarAdapter() {
+        assertInstanceOf(ColumnarPriceRepositoryAdapter.class, priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should resolve the 5 required test cases from the columnar store")
+    void shouldResolveRequiredTestCases() {
+        assertPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 1L, "35.50");
+        assertPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 2L, "25.45");
+        assertPrice(LocalDateTime.of(2020, 6, 14, 21, 0), 1L, "35.50");
+        assertPrice(LocalDateTime.of(2020, 6, 15, 10, 0), 3L, "30.50");
+        assertPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 4L, "38.95");
+    }
+
+    @Test
+    @DisplayName("Should return every price applicable at a date")
+    void shouldReturnApplicablePrices() {
+        // When
+        List<Price> result = priceRepositoryPort.findApplicablePrices(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertEquals(List.of(1L, 2L), result.stream().map(Price::getPriceList).toList());
+    }
+
+    @Test
+    @DisplayName("Should return empty when product does not exist")
+    void shouldReturnEmptyWhenProductDoesNotExist() {
+        // When
+        Optional<Price> result = getApplicablePricePort.execute(99999L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        // Then
+        assertFalse(result.isPresent());
+    }
+
+    private void assertPrice(LocalDateTime applicationDate, Long expectedPriceList, String expectedPrice) {
+        Optional<Price> result = getApplicablePricePort.execute(35455L, 1L, applicationDate);
+
+        assertTrue(result.isPresent(), "Price should be found at " + applicationDate);
+        assertEquals(expectedPriceList, result.get().getPriceList());
+        assertEquals(new BigDecimal(expectedPrice), result.get().getPrice());
+    }
+}
\ No newline at end of file
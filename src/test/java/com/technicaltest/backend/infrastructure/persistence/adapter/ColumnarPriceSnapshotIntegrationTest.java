@@ -0,0 +1,122 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceSnapshot;
+import com.technicaltest.backend.infrastructure.persistence.columnar.ColumnarPriceStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:columnar-snapshot;DB_CLOSE_DELAY=-1",
+        "prices.repository.type=columnar",
+        "prices.snapshot.export=true",
+        "prices.changes.poll-interval=1h"
+})
+@DisplayName("Columnar Price Snapshot Integration Tests")
+class ColumnarPriceSnapshotIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @Autowired
+    private ColumnarPriceRepositoryAdapter adapter;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceWriteRepositoryPort priceWriteRepository;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("prices.snapshot.path", () -> directory.resolve("prices.snapshot").toString());
+    }
+
+    @Test
+    @DisplayName("Should export the catalog at startup and serve it mapped from the snapshot")
+    void shouldExportAndMapSnapshot() {
+        // Given
+        assertTrue(Files.isRegularFile(directory.resolve("prices.snapshot")));
+
+        // When
+        adapter.reload();
+
+        // Then
+        assertPriceList(LocalDateTime.of(2020, 6, 14, 10, 0), 1L);
+        assertPriceList(LocalDateTime.of(2020, 6, 14, 16, 0), 2L);
+        assertPriceList(LocalDateTime.of(2020, 6, 14, 21, 0), 1L);
+        assertPriceList(LocalDateTime.of(2020, 6, 15, 10, 0), 3L);
+        assertPriceList(LocalDateTime.of(2020, 6, 16, 21, 0), 4L);
+    }
+
+    @Test
+    @DisplayName("Should replay the changes made since the export over the mapped snapshot")
+    void shouldReplayChangesSinceExport() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Price promo = priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, date).orElseThrow();
+        priceWriteRepository.update(promo.getId(), withPrice(promo, "19.99"));
+
+        try {
+            // When
+            adapter.reload();
+
+            // Then
+            assertEquals(new BigDecimal("19.99"),
+                    priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, date).orElseThrow().getPrice());
+        } finally {
+            priceWriteRepository.update(promo.getId(), promo);
+            adapter.reload();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load from the database instead of a snapshot older than the change retention")
+    void shouldIgnoreSnapshotOlderThanRetention() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        ColumnarPriceSnapshot current = ColumnarPriceSnapshot.map(file);
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.empty(), current.getChangePosition(),
+                Instant.now().minus(Duration.ofHours(2)), file);
+
+        try {
+            // When
+            adapter.reload();
+
+            // Then
+            assertPriceList(LocalDateTime.of(2020, 6, 14, 16, 0), 2L);
+        } finally {
+            ColumnarPriceSnapshot.write(current.getStore(), current.getChangePosition(), current.getExportedAt(), file);
+        }
+    }
+
+    private static Price withPrice(Price price, String amount) {
+        return new Price(price.getId(), price.getBrandId(), price.getStartDate(), price.getEndDate(),
+                price.getPriceList(), price.getProductId(), price.getPriority(), new BigDecimal(amount),
+                price.getCurrency());
+    }
+
+    private void assertPriceList(LocalDateTime applicationDate, Long expectedPriceList) {
+        Optional<Price> result = priceRepositoryPort.findHighestPriorityPrice(35455L, 1L, applicationDate);
+
+        assertTrue(result.isPresent(), "Price should be found at " + applicationDate);
+        assertEquals(expectedPriceList, result.get().getPriceList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryPriceRepositoryAdapter Tests")
+class InMemoryPriceRepositoryAdapterTest {
+
+    private static final Price BASE_PRICE = new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final Price OTHER_BRAND_PRICE = new Price(3L, 2L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("99.00"), "EUR");
+
+    @Mock
+    private PriceJpaRepository jpaRepository;
+
+    private InMemoryPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryPriceRepositoryAdapter(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when repository is null")
+    void shouldThrowExceptionWhenRepositoryIsNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () ->
+                new InMemoryPriceRepositoryAdapter(null)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return nothing before the index is loaded")
+    void shouldReturnNothingBeforeIndexIsLoaded() {
+        // When
+        List<Price> result = adapter.findApplicablePrices(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should return only the winning price without querying the database per lookup")
+    void shouldReturnOnlyWinningPrice() {
+        // Given
+        when(jpaRepository.streamAllPrices())
+                .thenReturn(Stream.of(BASE_PRICE, PROMO_PRICE, OTHER_BRAND_PRICE));
+        adapter.reload();
+
+        // When
+        List<Price> atPromo = adapter.findApplicablePrices(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        List<Price> afterPromo = adapter.findApplicablePrices(35455L, 1L, LocalDateTime.of(2020, 6, 14, 21, 0));
+        List<Price> otherBrand = adapter.findApplicablePrices(35455L, 2L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertEquals(List.of(PROMO_PRICE), atPromo);
+        assertEquals(List.of(BASE_PRICE), afterPromo);
+        assertEquals(List.of(OTHER_BRAND_PRICE), otherBrand);
+        assertEquals(Optional.of(PROMO_PRICE),
+                adapter.findHighestPriorityPrice(35455L, 1L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        verify(jpaRepository, times(1)).streamAllPrices();
+    }
+
+    @Test
+    @DisplayName("Should return empty list for unknown product or date outside ranges")
+    void shouldReturnEmptyListForUnknownProductOrDate() {
+        // Given
+        when(jpaRepository.streamAllPrices()).thenReturn(Stream.of(BASE_PRICE, PROMO_PRICE));
+        adapter.reload();
+
+        // When & Then
+        assertTrue(adapter.findApplicablePrices(99999L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+        assertTrue(adapter.findApplicablePrices(35455L, 1L, LocalDateTime.of(2019, 1, 1, 10, 0)).isEmpty());
+        assertTrue(adapter.findHighestPriorityPrice(99999L, 1L, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("JdbcTopPriceKeysAdapter Integration Tests")
+class JdbcTopPriceKeysAdapterIntegrationTest {
+
+    @Autowired
+    private JdbcTopPriceKeysAdapter adapter;
+
+    @Test
+    @DisplayName("Should rank the products with prices applicable within the window")
+    void shouldRankProductsWithApplicablePrices() {
+        // When
+        List<PriceKey> keys = adapter.findTopKeys(
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 23, 59, 59), 10);
+
+        // Then
+        assertTrue(keys.contains(new PriceKey(1L, 35455L)));
+        assertTrue(keys.size() <= 10);
+    }
+
+    @Test
+    @DisplayName("Should return no products outside the catalog dates or without a limit")
+    void shouldReturnNoProducts() {
+        assertTrue(adapter.findTopKeys(
+                LocalDateTime.of(2019, 1, 1, 0, 0), LocalDateTime.of(2019, 1, 1, 23, 59, 59), 10).isEmpty());
+        assertTrue(adapter.findTopKeys(
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 23, 59, 59), 0).isEmpty());
+    }
+}
\ No newline at end of file
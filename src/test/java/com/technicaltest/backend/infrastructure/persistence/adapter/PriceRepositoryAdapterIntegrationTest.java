@@ -0,0 +1,157 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceEntity;
+import com.technicaltest.backend.infrastructure.persistence.mapper.PriceMapper;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("PriceRepositoryAdapter Integration Tests")
+class PriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private PriceMapper priceMapper;
+
+    @Test
+    @DisplayName("Should read the same prices as the entity queries for every required test case")
+    void shouldReadSamePricesAsEntityQueries() {
+        for (LocalDateTime applicationDate : List.of(
+                LocalDateTime.of(2020, 6, 14, 10, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 0),
+                LocalDateTime.of(2020, 6, 14, 21, 0),
+                LocalDateTime.of(2020, 6, 15, 10, 0),
+                LocalDateTime.of(2020, 6, 16, 21, 0))) {
+            // When
+            List<Price> prices = priceRepositoryPort.findApplicablePrices(PRODUCT_ID, BRAND_ID, applicationDate);
+
+            // Then
+            assertEquals(sorted(priceJpaRepository.findApplicablePrices(PRODUCT_ID, BRAND_ID, applicationDate)
+                    .stream()
+                    .map(priceMapper::toDomain)
+                    .collect(Collectors.toList())), sorted(prices));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the highest priority price with every field read")
+    void shouldReturnHighestPriorityPrice() {
+        // When
+        Optional<Price> result = priceRepositoryPort.findHighestPriorityPrice(
+                PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        Price price = result.orElseThrow();
+        assertEquals(2L, price.getPriceList());
+        assertEquals(BRAND_ID, price.getBrandId());
+        assertEquals(PRODUCT_ID, price.getProductId());
+        assertEquals(1, price.getPriority());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 15, 0), price.getStartDate());
+        assertEquals(LocalDateTime.of(2020, 6, 14, 18, 30), price.getEndDate());
+        assertEquals(0, new BigDecimal("25.45").compareTo(price.getPrice()));
+        assertEquals("EUR", price.getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should return only the highest priority price for the 5 required test cases")
+    void shouldReturnOnlyHighestPriorityPriceForRequiredTestCases() {
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 10, 0), 1L);
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 0), 2L);
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 21, 0), 1L);
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 15, 10, 0), 3L);
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 16, 21, 0), 4L);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should break priority ties in favour of the latest started price")
+    void shouldBreakPriorityTiesInFavourOfLatestStartedPrice() {
+        // Given
+        priceJpaRepository.saveAndFlush(new PriceEntity(BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 14, 17, 0),
+                5L, PRODUCT_ID, 1, new BigDecimal("19.99"), "EUR"));
+
+        // When & Then
+        assertHighestPriorityPrice(LocalDateTime.of(2020, 6, 14, 16, 30), 5L);
+    }
+
+    @Test
+    @DisplayName("Should return no highest priority price when none applies")
+    void shouldReturnNoHighestPriorityPriceWhenNoneApplies() {
+        assertTrue(priceRepositoryPort.findHighestPriorityPrice(
+                99999L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find the prices overlapping an interval, bounds included")
+    void shouldFindPricesBetween() {
+        // When
+        List<Price> prices = priceRepositoryPort.findPricesBetween(PRODUCT_ID, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 18, 30), LocalDateTime.of(2020, 6, 15, 0, 0));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), prices.stream().map(Price::getPriceList).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should read only the prices applicable to each lookup of a batch")
+    void shouldReadOnlyPricesOfEachBatchLookup() {
+        // When
+        List<Price> prices = priceRepositoryPort.findApplicablePrices(List.of(
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 15, 21, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 15, 21, 0)),
+                new PriceQuery(99999L, 2L, LocalDateTime.of(2020, 6, 14, 10, 0))));
+
+        // Then
+        assertEquals(List.of(1L, 4L), prices.stream().map(Price::getPriceList).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("Should find the prices of each product and brand of a batch overlapping an interval")
+    void shouldFindPricesBetweenForEachBatchKey() {
+        // When
+        List<Price> prices = priceRepositoryPort.findPricesBetween(
+                List.of(new PriceKey(BRAND_ID, PRODUCT_ID), new PriceKey(2L, 99999L)),
+                LocalDateTime.of(2020, 6, 14, 18, 30), LocalDateTime.of(2020, 6, 15, 0, 0));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), prices.stream().map(Price::getPriceList).sorted().toList());
+    }
+
+    private void assertHighestPriorityPrice(LocalDateTime applicationDate, Long expectedPriceList) {
+        Optional<Price> result = priceRepositoryPort.findHighestPriorityPrice(PRODUCT_ID, BRAND_ID, applicationDate);
+
+        assertTrue(result.isPresent(), "Price should be found at " + applicationDate);
+        assertEquals(expectedPriceList, result.get().getPriceList());
+    }
+
+    private static List<Price> sorted(List<Price> prices) {
+        return prices.stream().sorted(Comparator.comparing(Price::getId)).toList();
+    }
+}
\ No newline at end of file
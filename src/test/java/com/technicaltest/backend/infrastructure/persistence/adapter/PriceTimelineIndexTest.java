@@ -0,0 +1,76 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceTimelineIndex Tests")
+class PriceTimelineIndexTest {
+
+    private static final PriceTimeline TIMELINE = PriceTimeline.of(List.of(new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR")));
+
+    @Test
+    @DisplayName("Should find, replace and remove the timeline of a product")
+    void shouldFindReplaceAndRemoveTimeline() {
+        // Given
+        PriceTimelineIndex index = new PriceTimelineIndex();
+        PriceTimeline replacement = PriceTimeline.of(List.of());
+
+        // When
+        index.put(1L, 35455L, TIMELINE);
+
+        // Then
+        assertSame(TIMELINE, index.get(1L, 35455L));
+        assertNull(index.get(2L, 35455L));
+        assertNull(index.get(1L, 35456L));
+        assertEquals(1, index.size());
+
+        // When
+        index.put(1L, 35455L, replacement);
+
+        // Then
+        assertSame(replacement, index.get(1L, 35455L));
+        assertEquals(1, index.size());
+
+        // When
+        index.remove(1L, 35455L);
+        index.remove(1L, 35455L);
+
+        // Then
+        assertNull(index.get(1L, 35455L));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Should keep every product when the table grows")
+    void shouldKeepEveryProductWhenGrowing() {
+        // Given
+        PriceTimelineIndex index = new PriceTimelineIndex();
+
+        // When
+        for (long productId = 0; productId < 10_000; productId++) {
+            index.put(productId % 3, productId, TIMELINE);
+        }
+        for (long productId = 0; productId < 10_000; productId += 2) {
+            index.remove(productId % 3, productId);
+        }
+
+        // Then
+        assertEquals(5_000, index.size());
+        for (long productId = 0; productId < 10_000; productId++) {
+            PriceTimeline expected = productId % 2 == 0 ? null : TIMELINE;
+            assertSame(expected, index.get(productId % 3, productId));
+            assertNull(index.get(productId % 3 + 1, productId));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.technicaltest.backend.infrastructure.persistence.adapter;
+
+import com.technicaltest.backend.application.service.GetApplicablePriceUseCase;
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.model.PriceQuery;
+import com.technicaltest.backend.domain.port.out.PriceRepositoryPort;
+import com.technicaltest.backend.infrastructure.persistence.entity.PriceEntity;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceJpaRepository;
+import com.technicaltest.backend.infrastructure.persistence.repository.PriceTimelineJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "prices.repository.type=timeline")
+@DisplayName("PriceTimelineRepositoryAdapter Integration Tests")
+class PriceTimelineRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private PriceRepositoryPort priceRepositoryPort;
+
+    @Autowired
+    private PriceTimelineRepositoryAdapter timelineAdapter;
+
+    @Autowired
+    private PriceJpaRepository priceJpaRepository;
+
+    @Autowired
+    private PriceTimelineJpaRepository timelineJpaRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Should use the timeline adapter when configured")
+    void shouldUseTimelineAdapter() {
+        assertInstanceOf(PriceTimelineRepositoryAdapter.class, priceRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("Should return exactly one precomputed row for the 5 required test cases")
+    void shouldReturnExactlyOneRowForRequiredTestCases() {
+        assertSingleWinner(PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 10, 0), 1L);
+        assertSingleWinner(PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 16, 0), 2L);
+        assertSingleWinner(PRODUCT_ID, LocalDateTime.of(2020, 6, 14, 21, 0), 1L);
+        assertSingleWinner(PRODUCT_ID, LocalDateTime.of(2020, 6, 15, 10, 0), 3L);
+        assertSingleWinner(PRODUCT_ID, LocalDateTime.of(2020, 6, 16, 21, 0), 4L);
+    }
+
+    @Test
+    @DisplayName("Should return the original price dates, not the segment bounds")
+    void shouldReturnOriginalPriceDates() {
+        // When
+        List<Price> result = priceRepositoryPort.findApplicablePrices(
+                PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 21, 0));
+
+        // Then
+        assertEquals(LocalDateTime.of(2020, 6, 14, 0, 0), result.get(0).getStartDate());
+        assertEquals(LocalDateTime.of(2020, 12, 31, 23, 59, 59), result.get(0).getEndDate());
+    }
+
+    @Test
+    @DisplayName("Should return empty list when date is outside all ranges")
+    void shouldReturnEmptyListWhenDateIsOutsideAllRanges() {
+        // When
+        List<Price> result = priceRepositoryPort.findApplicablePrices(
+                PRODUCT_ID, BRAND_ID, LocalDateTime.of(2019, 1, 1, 10, 0));
+
+        // Then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch of the 5 required test cases in request order")
+    void shouldResolveBatchOfRequiredTestCases() {
+        // Given
+        List<PriceQuery> queries = List.of(
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 16, 21, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(99999L, BRAND_ID, LocalDateTime.of(2020, 6, 14, 16, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 15, 10, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 21, 0)));
+
+        // When
+        List<Optional<Price>> results = new GetApplicablePriceUseCase(priceRepositoryPort).executeAll(queries);
+
+        // Then
+        assertEquals(List.of(Optional.of(4L), Optional.of(2L), Optional.empty(),
+                        Optional.of(1L), Optional.of(3L), Optional.of(1L)),
+                results.stream().map(price -> price.map(Price::getPriceList)).toList());
+    }
+
+    @Test
+    @DisplayName("Should not rebuild every timeline when a child context is refreshed")
+    void shouldIgnoreChildContextRefresh() {
+        // Given
+        PriceEntity price = priceJpaRepository.save(new PriceEntity(BRAND_ID,
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1L, 77778L, 0, new BigDecimal("10.00"), "EUR"));
+        long timelineRowsBefore = timelineJpaRepository.count();
+
+        try {
+            // When
+            try (GenericApplicationContext child = new GenericApplicationContext(applicationContext)) {
+                child.refresh();
+            }
+
+            // Then
+            assertEquals(timelineRowsBefore, timelineJpaRepository.count());
+        } finally {
+            priceJpaRepository.delete(price);
+        }
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the timeline of the changed product")
+    void shouldRebuildOnlyTimelineOfChangedProduct() {
+        // Given
+        Long productId = 77777L;
+        PriceKey key = new PriceKey(BRAND_ID, productId);
+        PriceEntity base = priceJpaRepository.save(new PriceEntity(BRAND_ID,
+                LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1L, productId, 0, new BigDecimal("10.00"), "EUR"));
+        PriceEntity promo = null;
+        long timelineRowsBefore = timelineJpaRepository.count();
+
+        try {
+            timelineAdapter.rebuild(key);
+            assertSingleWinner(productId, LocalDateTime.of(2020, 6, 1, 12, 0), 1L);
+
+            // When
+            promo = priceJpaRepository.save(new PriceEntity(BRAND_ID,
+                    LocalDateTime.of(2020, 6, 1, 0, 0), LocalDateTime.of(2020, 6, 30, 23, 59, 59),
+                    2L, productId, 1, new BigDecimal("8.00"), "EUR"));
+            timelineAdapter.rebuild(key);
+
+            // Then
+            assertSingleWinner(productId, LocalDateTime.of(2020, 6, 1, 12, 0), 2L);
+            assertSingleWinner(productId, LocalDateTime.of(2020, 7, 1, 12, 0), 1L);
+            assertEquals(timelineRowsBefore + 3, timelineJpaRepository.count());
+        } finally {
+            priceJpaRepository.delete(base);
+            if (promo != null) {
+                priceJpaRepository.delete(promo);
+            }
+            timelineAdapter.rebuild(key);
+        }
+
+        assertTrue(priceRepositoryPort.findApplicablePrices(
+                productId, BRAND_ID, LocalDateTime.of(2020, 6, 1, 12, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read only the segments of each lookup of a batch")
+    void shouldReadOnlySegmentsOfEachBatchLookup() {
+        // When
+        List<Price> prices = priceRepositoryPort.findApplicablePrices(List.of(
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                new PriceQuery(PRODUCT_ID, BRAND_ID, LocalDateTime.of(2020, 6, 15, 21, 0)),
+                new PriceQuery(99999L, 2L, LocalDateTime.of(2020, 6, 14, 10, 0))));
+
+        // Then
+        assertEquals(List.of(1L, 4L), prices.stream().map(Price::getPriceList).sorted().toList());
+    }
+
+    private void assertSingleWinner(Long productId, LocalDateTime applicationDate, Long expectedPriceList) {
+        List<Price> result = priceRepositoryPort.findApplicablePrices(productId, BRAND_ID, applicationDate);
+
+        assertEquals(1, result.size(), "Exactly one row expected at " + applicationDate);
+        assertEquals(expectedPriceList, result.get(0).getPriceList());
+        assertEquals(Optional.of(result.get(0)),
+                priceRepositoryPort.findHighestPriorityPrice(productId, BRAND_ID, applicationDate));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.infrastructure.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:columnar-changes;DB_CLOSE_DELAY=-1",
+        "prices.repository.type=columnar",
+        "prices.changes.poll-interval=1h"
+})
+@DisplayName("PriceChangeFeed Integration Tests - Columnar Store")
+class ColumnarPriceChangeFeedIntegrationTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Autowired
+    private PriceChangeFeed priceChangeFeed;
+
+    @Autowired
+    private ColumnarPriceRepositoryAdapter columnarAdapter;
+
+    @Autowired
+    private GetApplicablePricePort getApplicablePricePort;
+
+    @Autowired
+    private PriceChangeOutbox priceChangeOutbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should serve changed prices over the immutable store until the next reload")
+    void shouldServeChangedPricesOverStore() {
+        // Given
+        assertPrice("25.45");
+        jdbcTemplate.update("UPDATE PRICES SET PRICE = 19.99 WHERE PRODUCT_ID = 35455 AND PRICE_LIST = 2");
+        priceChangeOutbox.record(List.of(new PriceKey(1L, 35455L)));
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertPrice("19.99");
+
+        // When
+        columnarAdapter.reload();
+
+        // Then
+        assertPrice("19.99");
+    }
+
+    private void assertPrice(String expectedPrice) {
+        Optional<Price> result = getApplicablePricePort.execute(35455L, 1L, DATE);
+
+        assertTrue(result.isPresent(), "Price should be found at " + DATE);
+        assertEquals(new BigDecimal(expectedPrice), result.get().getPrice());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import com.technicaltest.backend.domain.port.out.PriceWriteRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changes;DB_CLOSE_DELAY=-1",
+        "prices.repository.type=memory",
+        "prices.changes.poll-interval=1h"
+})
+@DisplayName("PriceChangeFeed Integration Tests")
+class PriceChangeFeedIntegrationTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Autowired
+    private PriceChangeFeed priceChangeFeed;
+
+    @Autowired
+    private GetApplicablePricePort getApplicablePricePort;
+
+    @Autowired
+    private PriceWriteRepositoryPort priceWriteRepository;
+
+    @Autowired
+    private PriceChangeOutbox priceChangeOutbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should serve a price inserted after startup, even if its absence was cached")
+    void shouldServeInsertedPrice() {
+        // Given
+        assertFalse(getApplicablePricePort.execute(70001L, 1L, DATE).isPresent());
+        insertPrice(70001L, 1, "10.00");
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertPrice(70001L, "10.00");
+    }
+
+    @Test
+    @DisplayName("Should serve the new price after an update")
+    void shouldServeUpdatedPrice() {
+        // Given
+        Price price = insertPrice(70002L, 1, "10.00");
+        priceChangeFeed.poll();
+        assertPrice(70002L, "10.00");
+        priceWriteRepository.update(price.getId(), price(70002L, 1, "12.50"));
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertPrice(70002L, "12.50");
+    }
+
+    @Test
+    @DisplayName("Should stop serving a price deleted by another writer that records its change")
+    void shouldStopServingDeletedPrice() {
+        // Given
+        insertPrice(70003L, 1, "10.00");
+        priceChangeFeed.poll();
+        assertPrice(70003L, "10.00");
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = 70003");
+        priceChangeOutbox.record(List.of(new PriceKey(1L, 70003L)));
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertFalse(getApplicablePricePort.execute(70003L, 1L, DATE).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should refresh both products when a price moves to another product")
+    void shouldRefreshBothProductsWhenPriceMoves() {
+        // Given
+        Price price = insertPrice(70004L, 1, "10.00");
+        priceChangeFeed.poll();
+        assertPrice(70004L, "10.00");
+        assertFalse(getApplicablePricePort.execute(70005L, 1L, DATE).isPresent());
+        priceWriteRepository.update(price.getId(), price(70005L, 1, "10.00"));
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertFalse(getApplicablePricePort.execute(70004L, 1L, DATE).isPresent());
+        assertPrice(70005L, "10.00");
+    }
+
+    @Test
+    @DisplayName("Should move the position to the last change applied")
+    void shouldMovePositionToLastChange() {
+        // Given
+        insertPrice(70006L, 1, "10.00");
+
+        // When
+        priceChangeFeed.poll();
+
+        // Then
+        assertEquals(jdbcTemplate.queryForObject("SELECT MAX(ID) FROM PRICE_CHANGES", Long.class),
+                priceChangeFeed.getPosition());
+    }
+
+    private Price insertPrice(Long productId, int priority, String price) {
+        return priceWriteRepository.save(price(productId, priority, price));
+    }
+
+    private static Price price(Long productId, int priority, String price) {
+        return new Price(null, 1L, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1L, productId, priority, new BigDecimal(price), "EUR");
+    }
+
+    private void assertPrice(Long productId, String expectedPrice) {
+        Optional<Price> result = getApplicablePricePort.execute(productId, 1L, DATE);
+
+        assertTrue(result.isPresent(), "Price should be found for product " + productId);
+        assertEquals(new BigDecimal(expectedPrice), result.get().getPrice());
+    }
+}
\ No newline at end of file
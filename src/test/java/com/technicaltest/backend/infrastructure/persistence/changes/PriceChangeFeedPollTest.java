@@ -0,0 +1,88 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import com.technicaltest.backend.infrastructure.config.PriceChangeFeedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceChangeFeed Poll Unit Tests")
+class PriceChangeFeedPollTest {
+
+    private static final PriceKey FIRST = new PriceKey(1L, 35455L);
+    private static final PriceKey SECOND = new PriceKey(1L, 35456L);
+    private static final PriceKey THIRD = new PriceKey(1L, 35457L);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PriceChangeListener listener;
+
+    private PriceChangeFeed priceChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        PriceChangeFeedProperties properties = new PriceChangeFeedProperties();
+        properties.setBatchSize(2);
+        priceChangeFeed = new PriceChangeFeed(jdbcTemplate, List.of(listener), properties);
+    }
+
+    @Test
+    @DisplayName("Should not apply the changes after a recent gap again while waiting for it")
+    void shouldNotReapplyChangesAfterGap() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        givenChanges(List.of(new PriceChange(2, SECOND, now), new PriceChange(3, THIRD, now)));
+
+        // When
+        int firstPass = priceChangeFeed.poll();
+        int secondPass = priceChangeFeed.poll();
+
+        // Then
+        assertEquals(0, firstPass);
+        assertEquals(0, secondPass);
+        assertEquals(0, priceChangeFeed.getPosition());
+        verify(listener, times(1)).onPricesChanged(any());
+    }
+
+    @Test
+    @DisplayName("Should apply only the missing change once the gap is filled")
+    void shouldApplyOnlyFilledGap() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        givenChanges(List.of(new PriceChange(2, SECOND, now), new PriceChange(3, THIRD, now)));
+        priceChangeFeed.poll();
+        givenChanges(List.of(new PriceChange(1, FIRST, now), new PriceChange(2, SECOND, now)));
+
+        // When
+        int passed = priceChangeFeed.poll();
+
+        // Then
+        assertEquals(2, passed);
+        assertEquals(2, priceChangeFeed.getPosition());
+        verify(listener).onPricesChanged(Set.of(SECOND, THIRD));
+        verify(listener).onPricesChanged(Set.of(FIRST));
+        verifyNoMoreInteractions(listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenChanges(List<PriceChange> changes) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any())).thenReturn((List) changes);
+    }
+}
\ No newline at end of file
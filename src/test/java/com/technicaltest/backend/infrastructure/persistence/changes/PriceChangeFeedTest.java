@@ -0,0 +1,73 @@
+package com.technicaltest.backend.infrastructure.persistence.changes;
+
+import com.technicaltest.backend.domain.model.PriceKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PriceChangeFeed Unit Tests")
+class PriceChangeFeedTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2020, 6, 14, 10, 0);
+    private static final LocalDateTime GAP_CUTOFF = NOW.minusSeconds(10);
+
+    @Test
+    @DisplayName("Should advance over consecutive changes")
+    void shouldAdvanceOverConsecutiveChanges() {
+        // Given
+        List<PriceChange> changes = List.of(change(5, NOW), change(6, NOW), change(7, NOW));
+
+        // When
+        long position = PriceChangeFeed.advance(4, changes, GAP_CUTOFF);
+
+        // Then
+        assertEquals(7, position);
+    }
+
+    @Test
+    @DisplayName("Should stop before a recent gap so the missing change is not skipped")
+    void shouldStopBeforeRecentGap() {
+        // Given
+        List<PriceChange> changes = List.of(change(5, NOW), change(7, NOW), change(8, NOW));
+
+        // When
+        long position = PriceChangeFeed.advance(4, changes, GAP_CUTOFF);
+
+        // Then
+        assertEquals(5, position);
+    }
+
+    @Test
+    @DisplayName("Should not advance when the first change after the position is missing")
+    void shouldNotAdvanceWhenFirstChangeIsMissing() {
+        // Given
+        List<PriceChange> changes = List.of(change(6, NOW));
+
+        // When
+        long position = PriceChangeFeed.advance(4, changes, GAP_CUTOFF);
+
+        // Then
+        assertEquals(4, position);
+    }
+
+    @Test
+    @DisplayName("Should move past a gap once it is older than the gap timeout")
+    void shouldMovePastOldGap() {
+        // Given
+        List<PriceChange> changes = List.of(change(5, NOW), change(7, GAP_CUTOFF.minusSeconds(1)), change(8, NOW));
+
+        // When
+        long position = PriceChangeFeed.advance(4, changes, GAP_CUTOFF);
+
+        // Then
+        assertEquals(8, position);
+    }
+
+    private static PriceChange change(long id, LocalDateTime changedAt) {
+        return new PriceChange(id, new PriceKey(1L, 35455L), changedAt);
+    }
+}
\ No newline at end of file
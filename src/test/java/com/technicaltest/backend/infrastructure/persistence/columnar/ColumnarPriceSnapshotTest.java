@@ -0,0 +1,125 @@
+package com.technicaltest.backend.infrastructure.persistence.columnar;
+
+import com.technicaltest.backend.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarPriceSnapshot Tests")
+class ColumnarPriceSnapshotTest {
+
+    private static final Price BASE_PRICE = new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final Price OTHER_BRAND_PRICE = new Price(3L, 2L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("99.00"), "USD");
+
+    private static final Instant EXPORTED_AT = Instant.parse("2020-06-14T10:00:00.123Z");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should keep the change position and export time in the header")
+    void shouldKeepChangePosition() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.builder(1).add(BASE_PRICE).build(), 4242L, EXPORTED_AT, file);
+
+        // When
+        ColumnarPriceSnapshot snapshot = ColumnarPriceSnapshot.map(file);
+
+        // Then
+        assertEquals(4242L, snapshot.getChangePosition());
+        assertEquals(EXPORTED_AT, snapshot.getExportedAt());
+        assertEquals(Optional.of(BASE_PRICE),
+                snapshot.getStore().findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+    }
+
+    @Test
+    @DisplayName("Should map back a written snapshot with the same prices")
+    void shouldRoundTripSnapshot() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.builder(3)
+                .add(BASE_PRICE).add(PROMO_PRICE).add(OTHER_BRAND_PRICE).build(), 0, EXPORTED_AT, file);
+
+        // When
+        ColumnarPriceStore store = ColumnarPriceSnapshot.map(file).getStore();
+
+        // Then
+        assertEquals(3, store.size());
+        assertEquals(2, store.keyCount());
+        assertEquals(Optional.of(PROMO_PRICE), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(Optional.of(OTHER_BRAND_PRICE), store.findPriceAt(2L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(List.of(BASE_PRICE), store.findPricesAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)));
+    }
+
+    @Test
+    @DisplayName("Should map an empty snapshot")
+    void shouldMapEmptySnapshot() {
+        // Given
+        Path file = directory.resolve("empty.snapshot");
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.empty(), 0, EXPORTED_AT, file);
+
+        // When
+        ColumnarPriceStore store = ColumnarPriceSnapshot.map(file).getStore();
+
+        // Then
+        assertEquals(0, store.size());
+        assertFalse(store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should keep serving a mapped snapshot after the file is replaced")
+    void shouldKeepMappingAfterReplace() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.builder(2).add(BASE_PRICE).add(PROMO_PRICE).build(),
+                0, EXPORTED_AT, file);
+        ColumnarPriceStore mapped = ColumnarPriceSnapshot.map(file).getStore();
+
+        // When
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.builder(1).add(OTHER_BRAND_PRICE).build(), 0, EXPORTED_AT, file);
+
+        // Then
+        assertEquals(Optional.of(PROMO_PRICE), mapped.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0)));
+        assertEquals(1, ColumnarPriceSnapshot.map(file).getStore().size());
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots")
+    void shouldRejectInvalidFiles() throws IOException {
+        // Given
+        Path notSnapshot = Files.writeString(directory.resolve("prices.csv"), "id,brand_id,price\n1,1,35.50\n");
+        Path truncated = directory.resolve("truncated.snapshot");
+        ColumnarPriceSnapshot.write(ColumnarPriceStore.builder(1).add(BASE_PRICE).build(), 0, EXPORTED_AT, truncated);
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 16));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> ColumnarPriceSnapshot.map(notSnapshot));
+        assertThrows(IllegalStateException.class, () -> ColumnarPriceSnapshot.map(truncated));
+    }
+}
\ No newline at end of file
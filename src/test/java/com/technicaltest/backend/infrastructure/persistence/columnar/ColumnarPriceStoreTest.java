@@ -0,0 +1,165 @@
+package com.technicaltest.backend.infrastructure.persistence.columnar;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.model.PriceTimeline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarPriceStore Tests")
+class ColumnarPriceStoreTest {
+
+    private static final Price BASE_PRICE = new Price(1L, 1L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("35.50"), "EUR");
+
+    private static final Price PROMO_PRICE = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            2L, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    private static final Price OTHER_BRAND_PRICE = new Price(3L, 2L,
+            LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+            1L, 35455L, 0, new BigDecimal("99.00"), "USD");
+
+    @Test
+    @DisplayName("Should find nothing in an empty store")
+    void shouldFindNothingInEmptyStore() {
+        // Given
+        ColumnarPriceStore store = ColumnarPriceStore.empty();
+
+        // When & Then
+        assertEquals(0, store.size());
+        assertFalse(store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should return the highest priority price as an equal Price")
+    void shouldReturnHighestPriorityPrice() {
+        // Given
+        ColumnarPriceStore store = ColumnarPriceStore.builder(3)
+                .add(PROMO_PRICE)
+                .add(BASE_PRICE)
+                .add(OTHER_BRAND_PRICE)
+                .build();
+
+        // When
+        Optional<Price> atTen = store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 10, 0));
+        Optional<Price> atSixteen = store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        Optional<Price> otherBrand = store.findPriceAt(2L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+
+        // Then
+        assertEquals(Optional.of(BASE_PRICE), atTen);
+        assertEquals(Optional.of(PROMO_PRICE), atSixteen);
+        assertEquals(Optional.of(OTHER_BRAND_PRICE), otherBrand);
+        assertEquals(2, store.keyCount());
+        assertEquals(3L * ColumnarPriceStore.ROW_BYTES + 2L * 20 + 4, store.offHeapBytes());
+    }
+
+    @Test
+    @DisplayName("Should treat the end date as inclusive to the nanosecond")
+    void shouldTreatEndDateAsInclusive() {
+        // Given
+        ColumnarPriceStore store = ColumnarPriceStore.builder(2).add(BASE_PRICE).add(PROMO_PRICE).build();
+
+        // When & Then
+        assertEquals(Optional.of(PROMO_PRICE), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 18, 30)));
+        assertEquals(Optional.of(BASE_PRICE), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1)));
+        assertEquals(Optional.of(PROMO_PRICE), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 15, 0)));
+        assertEquals(Optional.of(BASE_PRICE), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 14, 59, 59, 999_999_999)));
+        assertFalse(store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 13, 23, 59, 59)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should find every applicable and every overlapping price")
+    void shouldFindApplicableAndOverlappingPrices() {
+        // Given
+        ColumnarPriceStore store = ColumnarPriceStore.builder(2).add(BASE_PRICE).add(PROMO_PRICE).build();
+
+        // When
+        List<Price> applicable = store.findPricesAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 16, 0));
+        List<Price> overlapping = store.findPricesBetween(1L, 35455L,
+                LocalDateTime.of(2020, 6, 14, 18, 30), LocalDateTime.of(2020, 6, 14, 20, 0));
+        List<Price> beforePromotion = store.findPricesBetween(1L, 35455L,
+                LocalDateTime.of(2020, 6, 14, 10, 0), LocalDateTime.of(2020, 6, 14, 11, 0));
+
+        // Then
+        assertEquals(List.of(BASE_PRICE, PROMO_PRICE), applicable);
+        assertEquals(List.of(BASE_PRICE, PROMO_PRICE), overlapping);
+        assertEquals(List.of(BASE_PRICE), beforePromotion);
+    }
+
+    @Test
+    @DisplayName("Should reject prices not ordered by brand and product")
+    void shouldRejectUnorderedPrices() {
+        // Given
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(2).add(OTHER_BRAND_PRICE);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> builder.add(BASE_PRICE));
+    }
+
+    @Test
+    @DisplayName("Should keep sub-second dates and price lists beyond the int range")
+    void shouldKeepSubSecondDatesAndLongPriceLists() {
+        // Given
+        Price price = new Price(4L, 1L, LocalDateTime.of(2020, 6, 14, 0, 0, 0, 500_000),
+                LocalDateTime.of(2020, 6, 15, 0, 0, 0, 999_999_000), Integer.MAX_VALUE + 1L, 35455L, 0,
+                new BigDecimal("10.00"), "EUR");
+        ColumnarPriceStore store = ColumnarPriceStore.builder(1).add(price).build();
+
+        // When & Then
+        assertEquals(Optional.of(price), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 0, 0, 0, 500_000)));
+        assertEquals(Optional.of(price), store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 15, 0, 0, 0, 999_999_000)));
+        assertFalse(store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 0, 0, 0, 499_999)).isPresent());
+        assertFalse(store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 15, 0, 0, 0, 999_999_001)).isPresent());
+        assertEquals(List.of(price), store.findPricesBetween(1L, 35455L,
+                LocalDateTime.of(2020, 6, 13, 0, 0), LocalDateTime.of(2020, 6, 14, 0, 0, 0, 500_000)));
+        assertEquals(Integer.MAX_VALUE + 1L, store.findPriceAt(1L, 35455L, LocalDateTime.of(2020, 6, 14, 12, 0))
+                .orElseThrow().getPriceList());
+    }
+
+    @Test
+    @DisplayName("Should resolve the same winner as PriceTimeline on random overlapping prices")
+    void shouldMatchPriceTimeline() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0);
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(1);
+        List<PriceTimeline> timelines = new ArrayList<>();
+        long id = 1;
+        for (long productId = 1; productId <= 50; productId++) {
+            List<Price> prices = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(12); i++) {
+                LocalDateTime startDate = origin.plusHours(random.nextInt(1_000));
+                prices.add(new Price(id++, 1L, startDate, startDate.plusHours(1 + random.nextInt(200)),
+                        (long) random.nextInt(1, 5), productId, random.nextInt(4),
+                        BigDecimal.valueOf(random.nextInt(100, 10_000), 2), "EUR"));
+            }
+            prices.forEach(builder::add);
+            timelines.add(PriceTimeline.of(prices));
+        }
+        ColumnarPriceStore store = builder.build();
+
+        // When & Then
+        for (int lookup = 0; lookup < 5_000; lookup++) {
+            long productId = 1 + random.nextInt(50);
+            LocalDateTime applicationDate = origin.plusMinutes(random.nextInt(72_000));
+            Optional<Price> expected = timelines.get((int) productId - 1).findPriceAt(applicationDate);
+            Optional<Price> actual = store.findPriceAt(1L, productId, applicationDate);
+
+            assertEquals(expected.map(Price::getPriority), actual.map(Price::getPriority));
+            assertEquals(expected.map(Price::getStartDate), actual.map(Price::getStartDate));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.technicaltest.backend.infrastructure.persistence.generator;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.infrastructure.config.SyntheticCatalogProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyntheticCatalogGenerator Tests")
+class SyntheticCatalogGeneratorTest {
+
+    private SyntheticCatalogProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SyntheticCatalogProperties();
+        properties.setBrands(2);
+        properties.setProducts(50);
+        properties.setPricesPerProduct(5);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when properties are null")
+    void shouldThrowExceptionWhenPropertiesAreNull() {
+        // When & Then
+        assertThrows(NullPointerException.class, () -> new SyntheticCatalogGenerator(null));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty catalog")
+    void shouldRejectEmptyCatalog() {
+        // Given
+        properties.setProducts(0);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticCatalogGenerator(properties));
+    }
+
+    @Test
+    @DisplayName("Should generate as many prices as configured")
+    void shouldGenerateConfiguredNumberOfPrices() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties);
+
+        // When
+        long count = generator.prices().count();
+
+        // Then
+        assertEquals(500L, generator.size());
+        assertEquals(generator.size(), count);
+    }
+
+    @Test
+    @DisplayName("Should generate the same prices for the same seed")
+    void shouldBeDeterministic() {
+        // When
+        List<Price> first = new SyntheticCatalogGenerator(properties).pricesOf(1L, 1_000_010L);
+        List<Price> second = new SyntheticCatalogGenerator(properties).pricesOf(1L, 1_000_010L);
+
+        // Then
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Should give every product a base price covering the whole range")
+    void shouldGiveEveryProductBasePrice() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties);
+
+        // When
+        List<Price> basePrices = generator.prices().filter(price -> price.getPriority() == 0).toList();
+
+        // Then
+        assertEquals(100, basePrices.size());
+        assertTrue(basePrices.stream().allMatch(price -> price.getStartDate().equals(properties.getFrom())
+                && price.getEndDate().equals(properties.getTo())));
+    }
+
+    @Test
+    @DisplayName("Should keep promotions within the configured range, priorities and price lists")
+    void shouldKeepPromotionsWithinBounds() {
+        // Given
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(properties);
+
+        // When
+        List<Price> promotions = generator.prices().filter(price -> price.getPriority() > 0).toList();
+
+        // Then
+        assertEquals(400, promotions.size());
+        for (Price promotion : promotions) {
+            assertFalse(promotion.getStartDate().isBefore(properties.getFrom()));
+            assertFalse(promotion.getEndDate().isAfter(properties.getTo()));
+            assertTrue(promotion.getStartDate().isBefore(promotion.getEndDate()));
+            assertTrue(promotion.getPriority() <= properties.getMaxPriority());
+            assertTrue(promotion.getPriceList() >= 1 && promotion.getPriceList() <= properties.getPriceLists());
+            assertTrue(promotion.getProductId() >= properties.getFirstProductId()
+                    && promotion.getProductId() < properties.getFirstProductId() + properties.getProducts());
+        }
+    }
+}
\ No newline at end of file
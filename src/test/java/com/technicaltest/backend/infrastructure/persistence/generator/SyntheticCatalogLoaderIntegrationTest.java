@@ -0,0 +1,58 @@
+package com.technicaltest.backend.infrastructure.persistence.generator;
+
+import com.technicaltest.backend.domain.model.Price;
+import com.technicaltest.backend.domain.port.in.GetApplicablePricePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:generator;DB_CLOSE_DELAY=-1",
+        "prices.repository.type=memory",
+        "prices.generator.enabled=true",
+        "prices.generator.brands=2",
+        "prices.generator.products=500",
+        "prices.generator.batch-size=128"
+})
+@DisplayName("SyntheticCatalogLoader Integration Tests")
+class SyntheticCatalogLoaderIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private GetApplicablePricePort getApplicablePricePort;
+
+    @Test
+    @DisplayName("Should bulk load the synthetic catalog next to the seed data")
+    void shouldLoadSyntheticCatalog() {
+        // When
+        Long generated = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= 1000000", Long.class);
+        Long seeded = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID = 35455", Long.class);
+
+        // Then
+        assertEquals(4_000L, generated);
+        assertEquals(4L, seeded);
+    }
+
+    @Test
+    @DisplayName("Should resolve generated products from the in-memory index")
+    void shouldResolveGeneratedProducts() {
+        // When
+        Optional<Price> result = getApplicablePricePort.execute(1_000_499L, 2L, LocalDateTime.of(2020, 7, 1, 12, 0));
+
+        // Then
+        assertTrue(result.isPresent());
+        assertEquals(1_000_499L, result.get().getProductId());
+        assertEquals(2L, result.get().getBrandId());
+    }
+}
\ No newline at end of file
@@ -5,7 +5,6 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -20,7 +19,7 @@ class PriceJpaRepositoryTest {
     private PriceJpaRepository priceJpaRepository;
 
     @Test
-    @DisplayName("Should load data.sql and have 4 prices in database")
+    @DisplayName("Should load the seed migration and have 4 prices in database")
     void shouldLoadDataAndHaveFourPrices() {
         // When
         List<PriceEntity> allPrices = priceJpaRepository.findAll();
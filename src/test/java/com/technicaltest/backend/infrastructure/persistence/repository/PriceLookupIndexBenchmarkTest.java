@@ -0,0 +1,195 @@
+package com.technicaltest.backend.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures the latency of the applicable-price query on a large PRICES table, first without
+ * and then with the lookup index of the V1 migration.
+ * Excluded from the default build; run with
+ * {@code mvn test -Pbenchmark -Dbenchmark.rows=1000000 -Dbenchmark.lookups=200}.
+ */
+@Tag("benchmark")
+@DisplayName("PRICES lookup index benchmark")
+class PriceLookupIndexBenchmarkTest {
+
+    private static final String SCHEMA = "/db/migration/V1__create_prices_schema.sql";
+    private static final String LOOKUP_INDEX = "IDX_PRICES_LOOKUP";
+    private static final String LOOKUP_QUERY = "SELECT ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, " +
+            "PRODUCT_ID, PRIORITY, PRICE, CURR FROM PRICES WHERE PRODUCT_ID = ? AND BRAND_ID = ? " +
+            "AND ? BETWEEN START_DATE AND END_DATE";
+    private static final int PRICES_PER_PRODUCT = 4;
+    private static final int BRANDS = 4;
+    private static final int LOAD_BATCH = 10_000;
+
+    private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+    private final int lookups = Integer.getInteger("benchmark.lookups", 200);
+    private final String url = System.getProperty("benchmark.url", "jdbc:h2:file:./target/benchmark/prices");
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should look prices up faster with the lookup index than with a full scan")
+    void shouldLookPricesUpFasterWithLookupIndex() throws Exception {
+        // Given
+        List<String> statements = readSchema();
+        String createIndex = statements.stream()
+                .filter(sql -> sql.contains(LOOKUP_INDEX))
+                .findFirst()
+                .orElseThrow();
+        execute(statements.stream().filter(sql -> !sql.equals(createIndex)).toList());
+        loadPrices();
+
+        // When
+        long[] fullScan = measureLookups();
+        execute(List.of(createIndex));
+        long[] indexed = measureLookups();
+
+        // Then
+        report("full scan", fullScan);
+        report("indexed", indexed);
+        assertTrue(percentile(indexed, 50) < percentile(fullScan, 50),
+                "indexed lookups should be faster than a full scan");
+    }
+
+    private void loadPrices() throws SQLException {
+        long start = System.nanoTime();
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO PRICES " +
+                "(BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 'EUR')")) {
+            for (int row = 0; row < rows; row++) {
+                long product = row / PRICES_PER_PRODUCT;
+                int slot = row % PRICES_PER_PRODUCT;
+                LocalDateTime startDate = slot == 0
+                        ? LocalDateTime.of(2020, 1, 1, 0, 0)
+                        : LocalDateTime.of(2020, 1 + slot * 3, 1, 0, 0);
+                LocalDateTime endDate = slot == 0
+                        ? LocalDateTime.of(2020, 12, 31, 23, 59, 59)
+                        : startDate.plusDays(30);
+                insert.setLong(1, 1 + product % BRANDS);
+                insert.setTimestamp(2, Timestamp.valueOf(startDate));
+                insert.setTimestamp(3, Timestamp.valueOf(endDate));
+                insert.setLong(4, slot + 1L);
+                insert.setLong(5, product);
+                insert.setInt(6, slot == 0 ? 0 : 1);
+                insert.setBigDecimal(7, BigDecimal.valueOf(1000 + row % 9000, 2));
+                insert.addBatch();
+                if ((row + 1) % LOAD_BATCH == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        System.out.printf("Loaded %,d prices in %,d ms%n", rows, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long[] measureLookups() throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        long products = Math.max(1, rows / PRICES_PER_PRODUCT);
+        long[] latencies = new long[lookups];
+        try (PreparedStatement query = connection.prepareStatement(LOOKUP_QUERY)) {
+            for (int i = 0; i < lookups; i++) {
+                long product = random.nextLong(products);
+                query.setLong(1, product);
+                query.setLong(2, 1 + product % BRANDS);
+                query.setTimestamp(3, Timestamp.valueOf(
+                        LocalDateTime.of(2020, 1, 1, 0, 0).plusHours(random.nextInt(24 * 365))));
+
+                long start = System.nanoTime();
+                int found = 0;
+                try (ResultSet resultSet = query.executeQuery()) {
+                    while (resultSet.next()) {
+                        found++;
+                    }
+                }
+                latencies[i] = System.nanoTime() - start;
+                assertTrue(found > 0, "every lookup should match at least the base price");
+            }
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void report(String label, long[] sortedLatencies) {
+        System.out.printf("%-9s rows=%,d lookups=%,d p50=%,d us p99=%,d us max=%,d us%n",
+                label, rows, lookups,
+                percentile(sortedLatencies, 50) / 1_000,
+                percentile(sortedLatencies, 99) / 1_000,
+                sortedLatencies[sortedLatencies.length - 1] / 1_000);
+    }
+
+    private static long percentile(long[] sortedValues, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, index)];
+    }
+
+    private List<String> readSchema() throws IOException {
+        try (InputStream input = Objects.requireNonNull(getClass().getResourceAsStream(SCHEMA), SCHEMA)) {
+            List<String> statements = new ArrayList<>();
+            StringBuilder sql = new StringBuilder();
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.trim().startsWith("--")) {
+                    sql.append(line).append('\n');
+                }
+            }
+            for (String statement : sql.toString().split(";")) {
+                if (!statement.isBlank()) {
+                    statements.add(statement.trim());
+                }
+            }
+            return statements;
+        }
+    }
+
+    private void execute(List<String> statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
\ No newline at end of file